@@ -0,0 +1,49 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+/*
+ * Writes META-INF/flowbdd/wordify-index on to the test classpath, so wordify does not need to parse the test sources
+ * with QDox during the test run. See io.techthinking.flowbdd.wordify.index.WordifyIndexGenerator
+ */
+plugins {
+    java
+}
+
+val wordifyIndexClasspath: Configuration by configurations.creating
+
+dependencies {
+    wordifyIndexClasspath(project(":flowbdd-wordify"))
+}
+
+val wordifyIndexDir = layout.buildDirectory.dir("generated/flowbdd/wordify-index")
+val testJavaSources = sourceSets["test"].java
+
+val wordifyIndex by tasks.registering(JavaExec::class) {
+    description = "Writes the wordify index for the test sources"
+    group = "build"
+    classpath = wordifyIndexClasspath
+    mainClass.set("io.techthinking.flowbdd.wordify.index.WordifyIndexGenerator")
+    inputs.files(testJavaSources).withPathSensitivity(PathSensitivity.RELATIVE)
+    outputs.dir(wordifyIndexDir)
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(wordifyIndexDir.get().file("META-INF/flowbdd/wordify-index").asFile.absolutePath) +
+            testJavaSources.srcDirs.map { it.absolutePath }
+    })
+}
+
+sourceSets["test"].output.dir(mapOf("builtBy" to wordifyIndex), wordifyIndexDir)
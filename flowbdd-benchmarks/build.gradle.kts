@@ -0,0 +1,60 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+/*
+ * JMH benchmarks for the wordify pipeline and test capture, not published. Run them with ./gradlew :flowbdd-benchmarks:jmh and narrow
+ * them down with -Pjmh.includes=<regex>. Throughput and allocation rate (-prof gc) are written to
+ * build/reports/jmh/results.json so they can be compared between runs.
+ */
+plugins {
+    java
+    id("flowbdd.java-lib")
+}
+
+group = "io.techthinking"
+version = "0.1.1-SNAPSHOT"
+description = "Benchmarks for the wordify pipeline and test capture"
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation(project(":flowbdd-wordify"))
+    implementation(project(":flowbdd"))
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator.annprocess)
+}
+
+val jmhResults = layout.buildDirectory.file("reports/jmh/results.json")
+
+tasks.register<JavaExec>("jmh") {
+    description = "Runs the JMH benchmarks"
+    group = "verification"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    outputs.file(jmhResults)
+    outputs.upToDateWhen { false }
+    argumentProviders.add(CommandLineArgumentProvider {
+        val includes = project.findProperty("jmh.includes")?.toString()
+        listOfNotNull(includes) + listOf("-prof", "gc", "-rf", "json", "-rff", jmhResults.get().asFile.absolutePath)
+    })
+    doFirst {
+        jmhResults.get().asFile.parentFile.mkdirs()
+    }
+}
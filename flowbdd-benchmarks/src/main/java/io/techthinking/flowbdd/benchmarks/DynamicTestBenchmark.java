@@ -0,0 +1,108 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.benchmarks;
+
+import io.techthinking.flowbdd.report.junit5.results.extension.FlowBdd;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ * The overhead FlowBdd adds to a (at)TestFactory, each of its dynamic tests captured as a test case. {@link #flowBdd()}
+ * against {@link #plain()} is that cost, the report isn't written as the launcher doesn't register FlowBdd's listener.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DynamicTestBenchmark {
+    private static int dynamicTestCount;
+
+    @Param({"10", "100", "1000"})
+    private int count;
+
+    private Launcher launcher;
+    private LauncherDiscoveryRequest plainRequest;
+    private LauncherDiscoveryRequest flowBddRequest;
+
+    @Setup
+    public void setUp() {
+        dynamicTestCount = count;
+        launcher = LauncherFactory.create(LauncherConfig.builder().enableTestExecutionListenerAutoRegistration(false).build());
+        plainRequest = LauncherDiscoveryRequestBuilder.request().selectors(selectClass(PlainDynamicTests.class)).build();
+        flowBddRequest = LauncherDiscoveryRequestBuilder.request().selectors(selectClass(FlowBddDynamicTests.class)).build();
+    }
+
+    @Benchmark
+    public void plain() {
+        launcher.execute(plainRequest);
+    }
+
+    @Benchmark
+    public void flowBdd() {
+        launcher.execute(flowBddRequest);
+        FlowBdd.getTestContext().reset();
+    }
+
+    private static Stream<DynamicTest> dynamicTests() {
+        return IntStream.range(0, dynamicTestCount)
+            .mapToObj(i -> dynamicTest("value " + i, () -> assertNotNull("value " + i)));
+    }
+
+    public static class PlainDynamicTests {
+        @TestFactory
+        Stream<DynamicTest> dynamicTests() {
+            return DynamicTestBenchmark.dynamicTests();
+        }
+    }
+
+    @ExtendWith(FlowBdd.class)
+    public static class FlowBddDynamicTests {
+        @TestFactory
+        Stream<DynamicTest> dynamicTests() {
+            return DynamicTestBenchmark.dynamicTests();
+        }
+    }
+}
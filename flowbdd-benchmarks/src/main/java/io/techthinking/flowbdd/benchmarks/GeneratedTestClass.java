@@ -0,0 +1,191 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.benchmarks;
+
+import io.techthinking.flowbdd.wordify.MethodExtractor;
+import io.techthinking.flowbdd.wordify.sourcecode.JavaSourceCache;
+import io.techthinking.flowbdd.wordify.sourcecode.SourceLocator;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A test class written, compiled and loaded at benchmark set up, so the wordify pipeline can be measured against
+ * classes of any size: {@code methodCount} test methods each taking {@code parameterCount} parameters, alternating
+ * String and int.
+ */
+public class GeneratedTestClass implements AutoCloseable {
+    private static final String PACKAGE = "io.techthinking.flowbdd.benchmarks.generated";
+
+    private final Path directory;
+    private final Path sourceRoot;
+    private final URLClassLoader classLoader;
+    private final Class<?> clazz;
+    private final List<Method> methods;
+    private final List<Object> arguments;
+
+    private GeneratedTestClass(Path directory, Path sourceRoot, URLClassLoader classLoader, Class<?> clazz, List<Method> methods, List<Object> arguments) {
+        this.directory = directory;
+        this.sourceRoot = sourceRoot;
+        this.classLoader = classLoader;
+        this.clazz = clazz;
+        this.methods = methods;
+        this.arguments = arguments;
+    }
+
+    public static GeneratedTestClass generate(int methodCount, int parameterCount) {
+        String simpleName = "Generated" + methodCount + "x" + parameterCount + "Test";
+        try {
+            Path directory = Files.createTempDirectory("flowbdd-benchmarks");
+            Path sourceRoot = directory.resolve("src");
+            Path classes = directory.resolve("classes");
+            Path source = sourceRoot.resolve(PACKAGE.replace('.', '/')).resolve(simpleName + ".java");
+            Files.createDirectories(source.getParent());
+            Files.createDirectories(classes);
+            Files.write(source, source(simpleName, methodCount, parameterCount).getBytes(StandardCharsets.UTF_8));
+            compile(source, classes);
+
+            URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, GeneratedTestClass.class.getClassLoader());
+            Class<?> clazz = classLoader.loadClass(PACKAGE + "." + simpleName);
+            List<Method> methods = new ArrayList<>(methodCount);
+            for (int i = 0; i < methodCount; i++) {
+                methods.add(clazz.getDeclaredMethod(methodName(i), parameterTypes(parameterCount)));
+            }
+            return new GeneratedTestClass(directory, sourceRoot, classLoader, clazz, methods, arguments(parameterCount));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not load " + simpleName, e);
+        }
+    }
+
+    static String source(String simpleName, int methodCount, int parameterCount) {
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE).append(";\n\n")
+            .append("import java.util.ArrayList;\n")
+            .append("import java.util.List;\n\n")
+            .append("public class ").append(simpleName).append(" {\n")
+            .append("    private final List<Object[]> calls = new ArrayList<>();\n");
+        for (int i = 0; i < methodCount; i++) {
+            source.append("\n    public void ").append(methodName(i)).append("(");
+            for (int p = 0; p < parameterCount; p++) {
+                source.append(p == 0 ? "" : ", ").append(p % 2 == 0 ? "String " : "int ").append(parameterName(p));
+            }
+            source.append(") {\n")
+                .append("        givenTheDeveloperHasHadCoffee(");
+            for (int p = 0; p < parameterCount; p++) {
+                source.append(p == 0 ? "" : ", ").append(parameterName(p));
+            }
+            source.append(");\n")
+                .append("        whenTheDeveloperWritesTheFeature(\"feature ").append(i).append("\", ").append(i).append(");\n")
+                .append("        // the build is expected to be green\n")
+                .append("        andTheBuildRunsFor(10, \"minutes\");\n")
+                .append("        thenTheReportShowsTheLinesOfCodeWritten(").append(parameterName(0)).append(", 100);\n")
+                .append("    }\n");
+        }
+        for (String helper : new String[]{"givenTheDeveloperHasHadCoffee", "whenTheDeveloperWritesTheFeature", "andTheBuildRunsFor", "thenTheReportShowsTheLinesOfCodeWritten"}) {
+            source.append("\n    private void ").append(helper).append("(Object... values) {\n")
+                .append("        calls.add(values);\n")
+                .append("    }\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static void compile(Path source, Path classes) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("The benchmarks need a JDK to compile the generated test classes");
+        }
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        int result = compiler.run(null, null, errors, "-g", "-d", classes.toString(), source.toString());
+        if (result != 0) {
+            throw new IllegalStateException("Could not compile " + source + "\n" + errors);
+        }
+    }
+
+    private static String methodName(int index) {
+        return "developerWritesFeature" + index;
+    }
+
+    private static String parameterName(int index) {
+        return index % 2 == 0 ? "developerName" + index : "cupsOfCoffee" + index;
+    }
+
+    private static Class<?>[] parameterTypes(int parameterCount) {
+        Class<?>[] types = new Class<?>[parameterCount];
+        for (int p = 0; p < parameterCount; p++) {
+            types[p] = p % 2 == 0 ? String.class : int.class;
+        }
+        return types;
+    }
+
+    private static List<Object> arguments(int parameterCount) {
+        List<Object> arguments = new ArrayList<>(parameterCount);
+        for (int p = 0; p < parameterCount; p++) {
+            arguments.add(p % 2 == 0 ? "Developer " + p : p);
+        }
+        return Collections.unmodifiableList(arguments);
+    }
+
+    /** A method extractor reading only the generated source, with its own source cache */
+    public MethodExtractor methodExtractor() {
+        return new MethodExtractor(new JavaSourceCache(sourceLocator()));
+    }
+
+    public SourceLocator sourceLocator() {
+        return new SourceLocator(Collections.singletonList(sourceRoot));
+    }
+
+    public Class<?> getClazz() {
+        return clazz;
+    }
+
+    public List<Method> getMethods() {
+        return methods;
+    }
+
+    /** The same arguments suit every method */
+    public List<Object> getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public void close() {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            classLoader.close();
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.benchmarks;
+
+import io.techthinking.flowbdd.wordify.MethodExtractor;
+import io.techthinking.flowbdd.wordify.sourcecode.JavaSourceCache;
+import io.techthinking.flowbdd.wordify.sourcecode.MethodWrapper;
+import io.techthinking.flowbdd.wordify.sourcecode.ScannedSourceCache;
+import io.techthinking.flowbdd.wordify.sourcecode.SourceLocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding a test method's source and parameters. {@link #methodWrapper()} is the cost for every test once the class is
+ * parsed, {@link #parseAndExtract()} is the cost of the first test of a class, which parses its source with QDox.
+ * {@link #scanAndExtract()} is the same with the source scanned for method bodies instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MethodExtractorBenchmark {
+    @Param({"10", "200", "2000"})
+    private int methodCount;
+
+    @Param({"1", "10", "50"})
+    private int parameterCount;
+
+    private GeneratedTestClass testClass;
+    private SourceLocator sourceLocator;
+    private MethodExtractor methodExtractor;
+    private List<Method> methods;
+    private List<Object> arguments;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        testClass = GeneratedTestClass.generate(methodCount, parameterCount);
+        sourceLocator = testClass.sourceLocator();
+        methodExtractor = new MethodExtractor(new JavaSourceCache(sourceLocator));
+        methods = testClass.getMethods();
+        arguments = testClass.getArguments();
+    }
+
+    @TearDown
+    public void tearDown() {
+        testClass.close();
+    }
+
+    @Benchmark
+    public MethodWrapper methodWrapper() {
+        return methodExtractor.methodWrapper(nextMethod(), arguments);
+    }
+
+    @Benchmark
+    public MethodWrapper parseAndExtract() {
+        return new MethodExtractor(new JavaSourceCache(sourceLocator)).methodWrapper(nextMethod(), arguments);
+    }
+
+    @Benchmark
+    public MethodWrapper scanAndExtract() {
+        return new MethodExtractor(new JavaSourceCache(sourceLocator), new ScannedSourceCache(sourceLocator)).methodWrapper(nextMethod(), arguments);
+    }
+
+    private Method nextMethod() {
+        Method method = methods.get(next);
+        next = next + 1 == methods.size() ? 0 : next + 1;
+        return method;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.benchmarks;
+
+import io.techthinking.flowbdd.wordify.sourcecode.ParameterWrapper;
+import io.techthinking.flowbdd.wordify.sourcecode.MethodWrapper;
+import io.techthinking.flowbdd.wordify.tokenize.JavaSourceTokens;
+import io.techthinking.flowbdd.wordify.tokenize.TokenizeParameter;
+import io.techthinking.flowbdd.wordify.tokenize.TokenizeParameterMap;
+import io.techthinking.flowbdd.wordify.tokenize.TokenizeSource;
+import io.techthinking.flowbdd.wordify.tokenize.TokenizeStringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per test cost of turning a test method's source into words: strip the Java syntax, tokenize with the
+ * parameter values bound, then join the tokens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TokenizeBenchmark {
+    @Param({"1", "10", "50"})
+    private int parameterCount;
+
+    private String source;
+    private String strippedSource;
+    private TokenizeParameterMap parameterMap;
+    private JavaSourceTokens tokens;
+
+    @Setup
+    public void setUp() {
+        try (GeneratedTestClass testClass = GeneratedTestClass.generate(10, parameterCount)) {
+            MethodWrapper methodWrapper = testClass.methodExtractor().methodWrapper(testClass.getMethods().get(0), testClass.getArguments());
+            source = methodWrapper.getSource();
+            parameterMap = new TokenizeParameterMap();
+            for (ParameterWrapper parameter : methodWrapper.getParameters()) {
+                parameterMap.put(new TokenizeParameter(parameter.getName(), parameter.getValue(), parameter.getType()));
+            }
+        }
+        strippedSource = TokenizeStringUtil.stripJavaCode(source);
+        tokens = tokenize();
+    }
+
+    @Benchmark
+    public String stripJavaCode() {
+        return TokenizeStringUtil.stripJavaCode(source);
+    }
+
+    @Benchmark
+    public JavaSourceTokens tokenize() {
+        return new TokenizeSource(strippedSource, parameterMap).tokenize();
+    }
+
+    @Benchmark
+    public String asString() {
+        return tokens.asString();
+    }
+
+    @Benchmark
+    public String wordifyMethod() {
+        return new TokenizeSource(TokenizeStringUtil.stripJavaCode(source), parameterMap).tokenize().asString();
+    }
+}
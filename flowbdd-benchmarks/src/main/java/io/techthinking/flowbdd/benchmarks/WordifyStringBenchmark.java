@@ -0,0 +1,80 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.benchmarks;
+
+import io.techthinking.flowbdd.wordify.tokenize.WordifyStringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning camel case identifiers into words. A few distinct identifiers are served from the identifier cache, a
+ * hundred thousand overflow it, so both the cached and uncached cost are tracked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WordifyStringBenchmark {
+    private static final String[] WORDS = {"given", "when", "then", "the", "developer", "has", "had", "coffee", "writes", "feature", "build", "runs", "for", "report", "shows", "lines", "of", "code", "HTTP", "URL"};
+
+    @Param({"16", "100000"})
+    private int distinctIdentifiers;
+
+    private String[] identifiers;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        identifiers = new String[distinctIdentifiers];
+        for (int i = 0; i < distinctIdentifiers; i++) {
+            identifiers[i] = identifier(i);
+        }
+    }
+
+    /** 3 to 8 words from the index, i.e. developerHasHadCoffee42 */
+    private static String identifier(int index) {
+        StringBuilder identifier = new StringBuilder();
+        int wordCount = 3 + index % 6;
+        for (int w = 0; w < wordCount; w++) {
+            String word = WORDS[(index * 7 + w * 13) % WORDS.length];
+            identifier.append(w == 0 ? word.toLowerCase() : Character.toUpperCase(word.charAt(0)) + word.substring(1));
+        }
+        return identifier.append(index).toString();
+    }
+
+    @Benchmark
+    public String wordifyMethodOrFieldName() {
+        String identifier = identifiers[next];
+        next = next + 1 == identifiers.length ? 0 : next + 1;
+        return WordifyStringUtil.wordifyMethodOrFieldName(identifier);
+    }
+}
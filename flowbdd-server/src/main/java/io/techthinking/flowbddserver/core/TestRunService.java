@@ -22,6 +22,7 @@ import io.techthinking.flowbddserver.api.RunRequest;
 import io.techthinking.flowbdd.report.config.FlowBddConfig;
 import io.techthinking.flowbdd.report.report.model.DataReportIndex;
 import io.techthinking.flowbdd.report.report.writers.DataFileNameProvider;
+import io.techthinking.flowbdd.wordify.sourcecode.SourceLocator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
@@ -60,6 +61,8 @@ public class TestRunService {
     }
 
     public synchronized DataReportIndex runTests(RunRequest request) {
+        // tests run in this JVM, so pick up source edited since the last run before wordify reads it
+        SourceLocator.shared().refresh();
         SummaryGeneratingListener listener = new SummaryGeneratingListener();
         Set<Path> roots = computeClasspathRoots();
         ClassLoader testClassLoader = createClassLoader(roots);
@@ -135,6 +138,13 @@ public class TestRunService {
     }
 
     public String resolveClassName(String className) {
+        if (!className.contains(".")) {
+            Optional<String> indexed = SourceLocator.shared().findBySimpleName(className);
+            if (indexed.isPresent()) {
+                return indexed.get();
+            }
+        }
+
         Set<Path> roots = computeClasspathRoots();
         ClassLoader testClassLoader = createClassLoader(roots);
 
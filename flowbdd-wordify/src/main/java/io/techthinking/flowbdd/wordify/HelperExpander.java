@@ -0,0 +1,150 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify;
+
+import io.techthinking.flowbdd.wordify.tokenize.JavaSourceTokens;
+import io.techthinking.flowbdd.wordify.tokenize.MethodCallToken;
+import io.techthinking.flowbdd.wordify.tokenize.Token;
+import io.techthinking.flowbdd.wordify.tokenize.TokenType;
+import io.techthinking.flowbdd.wordify.tokenize.TokenizeParameterMap;
+import io.techthinking.flowbdd.wordify.tokenize.TokenizeSource;
+import io.techthinking.flowbdd.wordify.tokenize.TokenizeStringUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Expands helper calls into the helper's own wordified body, indented under the line that calls it. A test calling
+ * {@code whenDeveloperDrinksCoffee();}, a helper whose body is {@code drinkCoffee(developerName);}, reads:
+ * <pre>
+ * When developer drinks coffee
+ *     Drink coffee developer name
+ * </pre>
+ * Only calls that start a statement and resolve to a method of the class or its superclasses are expanded, down to
+ * {@code -Dflowbdd.wordify.depth} levels (0, the default, turns expansion off). A helper's text doesn't depend on
+ * the call site, its parameters are shown by name, so it is expanded once and shared by every test that calls it.
+ */
+public class HelperExpander {
+    public static final String DEPTH_PROPERTY = "flowbdd.wordify.depth";
+    private static final String INDENT = "    ";
+    private static final String NEW_LINE = "\n";
+
+    private final MethodExtractor methodExtractor;
+    private final int depth;
+    /** declaring class # helper name @ depth to the helper's wordified text */
+    private final Map<String, String> expanded = new ConcurrentHashMap<>();
+    /** declaring class # name of the calls that aren't to one of its methods, most calls, i.e. assertions */
+    private final Set<String> notHelpers = ConcurrentHashMap.newKeySet();
+
+    public HelperExpander(MethodExtractor methodExtractor, int depth) {
+        this.methodExtractor = methodExtractor;
+        this.depth = depth;
+    }
+
+    public static int configuredDepth() {
+        return Integer.getInteger(DEPTH_PROPERTY, 0);
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public JavaSourceTokens expand(Class<?> clazz, JavaSourceTokens tokens) {
+        return expand(clazz, tokens, depth);
+    }
+
+    private JavaSourceTokens expand(Class<?> clazz, JavaSourceTokens tokens, int remainingDepth) {
+        if (remainingDepth <= 0) {
+            return tokens;
+        }
+        List<Token> expandedTokens = new ArrayList<>(tokens.getTokens().size());
+        List<String> pendingHelpers = new ArrayList<>();
+        for (Token token : tokens.getTokens()) {
+            if (isNewLineOfCode(token)) {
+                appendHelpers(expandedTokens, pendingHelpers);
+            }
+            expandedTokens.add(token);
+            if (token instanceof MethodCallToken) {
+                helperText(clazz, ((MethodCallToken) token).getMethodName(), remainingDepth)
+                    .filter(text -> !text.isEmpty())
+                    .ifPresent(pendingHelpers::add);
+            }
+        }
+        appendHelpers(expandedTokens, pendingHelpers);
+        if (expandedTokens.size() == tokens.getTokens().size()) {
+            return tokens;
+        }
+        return new JavaSourceTokens(expandedTokens, tokens.getWhiteSpace());
+    }
+
+    /** continuation lines of a multi line statement are indented, the next statement's new line is not */
+    private static boolean isNewLineOfCode(Token token) {
+        return token.getType() == TokenType.NEW_LINE && NEW_LINE.equals(token.asString());
+    }
+
+    private static void appendHelpers(List<Token> tokens, List<String> helpers) {
+        for (String helper : helpers) {
+            for (String line : helper.split(NEW_LINE)) {
+                tokens.add(new Token(NEW_LINE + INDENT, TokenType.NEW_LINE));
+                tokens.add(new Token(line, TokenType.DEFAULT));
+            }
+        }
+        helpers.clear();
+    }
+
+    private Optional<String> helperText(Class<?> clazz, String methodName, int remainingDepth) {
+        for (Class<?> declaring = clazz; declaring != null && declaring != Object.class; declaring = declaring.getSuperclass()) {
+            String method = declaring.getName() + '#' + methodName;
+            if (notHelpers.contains(method)) {
+                continue;
+            }
+            String key = method + '@' + remainingDepth;
+            String text = expanded.get(key);
+            if (text != null) {
+                return Optional.of(text);
+            }
+            Optional<String> source = methodExtractor.methodSource(declaring, methodName);
+            if (source.isPresent()) {
+                return Optional.of(helperText(key, declaring, source.get(), remainingDepth));
+            }
+            notHelpers.add(method);
+        }
+        return Optional.empty();
+    }
+
+    private String helperText(String key, Class<?> declaring, String source, int remainingDepth) {
+        String text = expanded.get(key);
+        if (text == null) {
+            // not computeIfAbsent, expanding a helper looks up the helpers it calls in the same map
+            JavaSourceTokens tokens = new TokenizeSource(TokenizeStringUtil.stripJavaCode(source), new TokenizeParameterMap()).tokenize();
+            text = expand(declaring, tokens, remainingDepth - 1).asString();
+            String existing = expanded.putIfAbsent(key, text);
+            text = existing == null ? text : existing;
+        }
+        return text;
+    }
+
+    public int size() {
+        return expanded.size();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify;
+
+import io.techthinking.flowbdd.wordify.index.IndexedMethod;
+import io.techthinking.flowbdd.wordify.index.PersistentWordifyCache;
+import io.techthinking.flowbdd.wordify.index.WordifyIndex;
+import io.techthinking.flowbdd.wordify.sourcecode.MethodWrapper;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Looks up the build time {@link WordifyIndex} first, then the {@link PersistentWordifyCache} of earlier runs when
+ * there is one, and only falls back to parsing the source with QDox on a miss.
+ */
+public class IndexedMethodExtractor extends MethodExtractor {
+    private final WordifyIndex wordifyIndex;
+    private final PersistentWordifyCache persistentCache;
+
+    public IndexedMethodExtractor() {
+        this(WordifyIndex.fromClasspath());
+    }
+
+    public IndexedMethodExtractor(WordifyIndex wordifyIndex) {
+        this(wordifyIndex, null);
+    }
+
+    public IndexedMethodExtractor(WordifyIndex wordifyIndex, PersistentWordifyCache persistentCache) {
+        this.wordifyIndex = wordifyIndex;
+        this.persistentCache = persistentCache;
+    }
+
+    @Override
+    public MethodWrapper methodWrapper(Class<?> clazz, String methodName, List<Object> parameterValues) {
+        Optional<IndexedMethod> indexedMethod = find(clazz, methodName);
+        if (indexedMethod.isPresent()) {
+            return indexedMethod.get().methodWrapper(parameterValues);
+        }
+        return super.methodWrapper(clazz, methodName, parameterValues);
+    }
+
+    @Override
+    public Optional<String> methodSource(Class<?> clazz, String methodName) {
+        Optional<IndexedMethod> indexedMethod = find(clazz, methodName);
+        if (indexedMethod.isPresent()) {
+            return Optional.of(indexedMethod.get().getSource());
+        }
+        return super.methodSource(clazz, methodName);
+    }
+
+    @Override
+    public MethodWrapper methodWrapper(Method method, List<Object> parameterValues) {
+        Optional<IndexedMethod> indexedMethod = find(method);
+        if (indexedMethod.isPresent()) {
+            return indexedMethod.get().methodWrapper(parameterValues);
+        }
+        return super.methodWrapper(method, parameterValues);
+    }
+
+    private Optional<IndexedMethod> find(Class<?> clazz, String methodName) {
+        Optional<IndexedMethod> indexedMethod = wordifyIndex.find(clazz, methodName);
+        if (!indexedMethod.isPresent() && persistentCache != null) {
+            return persistentCache.find(clazz, methodName);
+        }
+        return indexedMethod;
+    }
+
+    private Optional<IndexedMethod> find(Method method) {
+        Optional<IndexedMethod> indexedMethod = wordifyIndex.find(method);
+        if (!indexedMethod.isPresent() && persistentCache != null) {
+            return persistentCache.find(method);
+        }
+        return indexedMethod;
+    }
+}
@@ -18,37 +18,115 @@
 
 package io.techthinking.flowbdd.wordify;
 
+import io.techthinking.flowbdd.wordify.sourcecode.JavaSourceCache;
 import io.techthinking.flowbdd.wordify.sourcecode.JavaSourceWrapper;
+import io.techthinking.flowbdd.wordify.sourcecode.MethodSignature;
 import io.techthinking.flowbdd.wordify.sourcecode.MethodWrapper;
 import io.techthinking.flowbdd.wordify.sourcecode.ParameterWrapper;
+import io.techthinking.flowbdd.wordify.sourcecode.ScannedMethod;
+import io.techthinking.flowbdd.wordify.sourcecode.ScannedSource;
+import io.techthinking.flowbdd.wordify.sourcecode.ScannedSourceCache;
+import io.techthinking.flowbdd.wordify.sourcecode.SourceLocator;
 import com.thoughtworks.qdox.model.JavaMethod;
 import com.thoughtworks.qdox.model.JavaParameter;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.toList;
 
 public class MethodExtractor {
+    /** Scan the source for method bodies before parsing it with QDox, see {@link io.techthinking.flowbdd.wordify.sourcecode.MethodBodyScanner} */
+    public static final String SCAN_PROPERTY = "flowbdd.wordify.scan";
     private static final Logger logger = Logger.getLogger(MethodExtractor.class.getName());
+    private static final JavaSourceCache sharedSourceCache = new JavaSourceCache();
+    private static final ScannedSourceCache sharedScannedSources = new ScannedSourceCache();
+    private final JavaSourceCache sourceCache;
+    private final ScannedSourceCache scannedSources;
+
+    public MethodExtractor() {
+        this(sharedSourceCache, Boolean.getBoolean(SCAN_PROPERTY) ? sharedScannedSources : null);
+    }
+
+    public MethodExtractor(JavaSourceCache sourceCache) {
+        this(sourceCache, null);
+    }
+
+    /** @param scannedSources tried first, QDox only parses what they can't find. Null to only use QDox */
+    public MethodExtractor(JavaSourceCache sourceCache, ScannedSourceCache scannedSources) {
+        this.sourceCache = sourceCache;
+        this.scannedSources = scannedSources;
+    }
+
+    /** Where the source is read from, its {@link io.techthinking.flowbdd.wordify.sourcecode.SourceFile} versions tell when a method may have changed */
+    public SourceLocator getSourceLocator() {
+        return sourceCache.getSourceLocator();
+    }
 
     public MethodWrapper methodWrapper(Class<?> clazz, String methodName) {
         return methodWrapper(clazz, methodName, emptyList());
     }
 
     public MethodWrapper methodWrapper(Class<?> clazz, String methodName, List<Object> parameterValues) {
+        Optional<ScannedMethod> scannedMethod = scannedMethod(clazz, scannedSource -> scannedSource.findMethod(clazz, methodName));
+        if (scannedMethod.isPresent()) {
+            return scannedMethod.get().methodWrapper(parameterValues);
+        }
+        return methodWrapper(clazz, methodName, sourceWrapper -> sourceWrapper.findMethod(methodName), parameterValues);
+    }
+
+    /** The overload the test actually ran, the source is read from the class that declares the method */
+    public MethodWrapper methodWrapper(Method method, List<Object> parameterValues) {
+        Optional<ScannedMethod> scannedMethod = scannedMethod(method.getDeclaringClass(), scannedSource -> scannedSource.findMethod(method));
+        if (scannedMethod.isPresent()) {
+            return scannedMethod.get().methodWrapper(parameterValues);
+        }
+        return methodWrapper(method.getDeclaringClass(), MethodSignature.of(method), sourceWrapper -> sourceWrapper.findMethod(method), parameterValues);
+    }
+
+    /**
+     * The source of a method declared in the class, empty rather than logged when there isn't one, as most calls
+     * checked for helper expansion are not to the class's own methods.
+     */
+    public Optional<String> methodSource(Class<?> clazz, String methodName) {
+        Optional<ScannedMethod> scannedMethod = scannedMethod(clazz, scannedSource -> scannedSource.findMethod(clazz, methodName));
+        if (scannedMethod.isPresent()) {
+            return Optional.of(scannedMethod.get().getSource());
+        }
+        try {
+            return sourceCache.get(clazz).findMethod(methodName).map(JavaMethod::getSourceCode);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<ScannedMethod> scannedMethod(Class<?> clazz, Function<ScannedSource, Optional<ScannedMethod>> findMethod) {
+        if (scannedSources == null) {
+            return Optional.empty();
+        }
         try {
-            JavaSourceWrapper sourceWrapper = new JavaSourceWrapper(clazz);
-            List<JavaMethod> allMethods = sourceWrapper.getMethods();
-            List<JavaMethod> matchedMethods = allMethods.stream().filter(m -> m.getName().contains(methodName)).collect(toList());
-            JavaMethod matchedMethod = matchedMethods.get(0);
-            String sourceCode = matchedMethod.getSourceCode();
-            List<JavaParameter> parameters = sourceWrapper.getParams(matchedMethod.getName());
-            return new MethodWrapper(sourceCode, parameterWrappers(parameters, parameterValues));
+            return scannedSources.get(clazz).flatMap(findMethod);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private MethodWrapper methodWrapper(Class<?> clazz, String description, Function<JavaSourceWrapper, Optional<JavaMethod>> findMethod, List<Object> parameterValues) {
+        try {
+            JavaSourceWrapper sourceWrapper = sourceCache.get(clazz);
+            Optional<JavaMethod> matchedMethod = findMethod.apply(sourceWrapper);
+            if (!matchedMethod.isPresent()) {
+                logger.log(Level.WARNING, "Could not find method " + description + " in " + clazz.getName());
+                return new MethodWrapper("Could not find method: " + description, emptyList());
+            }
+            String sourceCode = matchedMethod.get().getSourceCode();
+            return new MethodWrapper(sourceCode, parameterWrappers(matchedMethod.get().getParameters(), parameterValues));
         } catch (IOException e) {
             logger.log(Level.WARNING, "Could not load Java source", e);
             return new MethodWrapper("Could not load Java source: " + e, emptyList());
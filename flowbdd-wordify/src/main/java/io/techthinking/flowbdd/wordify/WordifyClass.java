@@ -44,7 +44,7 @@ public class WordifyClass {
     private String updateSourceCode(String sourceCode, List<ParameterWrapper> parameters) {
         for (ParameterWrapper parameter: parameters) {
             String value = parameter.getValue() == null ? "null" : parameter.getValue().toString();
-            sourceCode = sourceCode.replace(parameter.getParameter().getName(), value);
+            sourceCode = sourceCode.replace(parameter.getName(), value);
         }
         return sourceCode;
     }
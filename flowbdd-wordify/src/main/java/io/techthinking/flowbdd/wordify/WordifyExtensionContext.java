@@ -19,24 +19,51 @@
 package io.techthinking.flowbdd.wordify;
 
 import io.techthinking.flowbdd.wordify.legacy.TokenizeClass;
+import io.techthinking.flowbdd.wordify.tokenize.TemplateInvocation;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
+import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 public class WordifyExtensionContext {
     static final boolean WORDIFY_NEW = true;
 
-    private WordifyClass wordify = new WordifyClass();
-    private TokenizeClass tokenizeClass = new TokenizeClass(new MethodExtractor());
+    private final WordifyClass wordify = new WordifyClass();
+    private final TokenizeClass tokenizeClass;
+
+    public WordifyExtensionContext() {
+        this(new IndexedMethodExtractor());
+    }
+
+    public WordifyExtensionContext(MethodExtractor methodExtractor) {
+        this.tokenizeClass = new TokenizeClass(methodExtractor);
+    }
 
     public Optional<String> wordify(ExtensionContext context, List<Object> parameters) {
         if (WORDIFY_NEW) {
             return context.getTestMethod()
-                .map(method -> tokenizeClass.tokenizeAsString(context.getRequiredTestClass(), method.getName(), parameters));
+                .map(method -> tokenizeClass.tokenizeInvocation(method, parameters).asString());
         } else {
             return context.getTestMethod()
                 .map(method -> wordify.wordify(context.getRequiredTestClass(), method.getName(), parameters));
         }
     }
+
+    /** The shared template of the test method and this invocation's arguments, wordified on demand */
+    public Optional<TemplateInvocation> wordifyTemplate(ExtensionContext context, List<Object> parameters) {
+        return context.getTestMethod()
+            .map(method -> wordifyTemplate(method, parameters));
+    }
+
+    /** For wordify deferred until after the test, when the ExtensionContext is no longer current */
+    public TemplateInvocation wordifyTemplate(Method method, List<Object> parameters) {
+        return tokenizeClass.tokenizeInvocation(method, parameters);
+    }
+
+    /** Parses and tokenizes a test method ahead of its first invocation, which then finds the template cached */
+    public void prepare(Method method) {
+        tokenizeClass.template(method, Collections.nCopies(method.getParameterCount(), null));
+    }
 }
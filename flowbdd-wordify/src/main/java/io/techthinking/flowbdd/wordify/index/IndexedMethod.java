@@ -0,0 +1,83 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.index;
+
+import io.techthinking.flowbdd.wordify.sourcecode.MethodWrapper;
+import io.techthinking.flowbdd.wordify.sourcecode.ParameterWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A test method read from the wordify index, the same source and parameters QDox would give us.
+ */
+public class IndexedMethod {
+    private final String source;
+    private final List<String> parameterNames;
+    private final List<String> parameterTypes;
+
+    public IndexedMethod(String source, List<String> parameterNames, List<String> parameterTypes) {
+        this.source = source;
+        this.parameterNames = parameterNames;
+        this.parameterTypes = parameterTypes;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public List<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    public List<String> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    public MethodWrapper methodWrapper(List<Object> parameterValues) {
+        List<ParameterWrapper> parameters = new ArrayList<>();
+        for (int index = 0; index < parameterNames.size() && index < parameterValues.size(); index++) {
+            parameters.add(new ParameterWrapper(parameterNames.get(index), parameterTypes.get(index), parameterValues.get(index)));
+        }
+        return new MethodWrapper(source, parameters);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IndexedMethod)) return false;
+        IndexedMethod that = (IndexedMethod) o;
+        return Objects.equals(source, that.source) && Objects.equals(parameterNames, that.parameterNames) && Objects.equals(parameterTypes, that.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, parameterNames, parameterTypes);
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedMethod{" +
+            "source='" + source + '\'' +
+            ", parameterNames=" + parameterNames +
+            ", parameterTypes=" + parameterTypes +
+            '}';
+    }
+}
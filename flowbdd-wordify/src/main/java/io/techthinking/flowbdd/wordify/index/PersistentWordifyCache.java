@@ -0,0 +1,261 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.index;
+
+import io.techthinking.flowbdd.wordify.sourcecode.SourceFile;
+import io.techthinking.flowbdd.wordify.sourcecode.SourceLocator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link WordifyIndex} entries of each test source file kept on disk between runs, so that a run only parses the
+ * files that changed since an earlier one.
+ * <p>
+ * An entry is named by the SHA-256 of the file's content, so it never needs invalidating: an edited file has a new
+ * name and its old entry ages out. Entries are written to a temporary file and moved into place, so concurrent forks
+ * sharing the directory either see a whole entry or none, and two forks writing the same entry write the same bytes.
+ * Once the directory is over {@code maxBytes} the least recently read entries are deleted, down to nine tenths of it
+ * so the writes that follow don't each scan the directory again.
+ */
+public class PersistentWordifyCache {
+    private static final Logger logger = Logger.getLogger(PersistentWordifyCache.class.getName());
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    /** Part of every entry's hash, changed when the entry format or what is extracted changes */
+    private static final String FORMAT_VERSION = "wordify-index-2";
+    static final String ENTRY_SUFFIX = ".wordify";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long STALE_TEMP_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final Path directory;
+    private final long maxBytes;
+    private final SourceLocator sourceLocator;
+    private final Map<Path, CachedIndex> indexes = new ConcurrentHashMap<>();
+    /** The directory's size at the last scan plus what this process has written since, -1 before the first scan */
+    private final AtomicLong size = new AtomicLong(-1);
+
+    public PersistentWordifyCache(Path directory) {
+        this(directory, DEFAULT_MAX_BYTES, SourceLocator.shared());
+    }
+
+    public PersistentWordifyCache(Path directory, long maxBytes) {
+        this(directory, maxBytes, SourceLocator.shared());
+    }
+
+    public PersistentWordifyCache(Path directory, long maxBytes, SourceLocator sourceLocator) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.sourceLocator = sourceLocator;
+    }
+
+    public Optional<IndexedMethod> find(Method method) {
+        return index(method.getDeclaringClass()).flatMap(index -> index.find(method));
+    }
+
+    public Optional<IndexedMethod> find(Class<?> clazz, String methodName) {
+        return index(clazz).flatMap(index -> index.find(clazz, methodName));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private Optional<WordifyIndex> index(Class<?> clazz) {
+        Optional<SourceFile> sourceFile = sourceLocator.find(clazz);
+        if (!sourceFile.isPresent()) {
+            return Optional.empty();
+        }
+        Path path = sourceFile.get().getPath();
+        CachedIndex cached = indexes.get(path);
+        if (cached != null && cached.isCurrent(sourceFile.get())) {
+            return cached.getIndex();
+        }
+        return indexes.compute(path, (key, existing) -> {
+            if (existing != null && existing.isCurrent(sourceFile.get())) {
+                return existing;
+            }
+            return new CachedIndex(load(path), sourceFile.get());
+        }).getIndex();
+    }
+
+    private Optional<WordifyIndex> load(Path sourcePath) {
+        try {
+            Path entry = directory.resolve(hash(Files.readAllBytes(sourcePath)) + ENTRY_SUFFIX);
+            Optional<Properties> properties = read(entry);
+            if (!properties.isPresent()) {
+                properties = generate(sourcePath);
+                if (properties.isPresent()) {
+                    write(entry, properties.get());
+                }
+            }
+            return properties.map(WordifyIndex::fromProperties);
+        } catch (IOException e) {
+            // the cache is only an optimisation, the source is parsed by QDox at test time instead
+            logger.log(Level.FINE, "Could not use the wordify cache for " + sourcePath, e);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Properties> read(Path entry) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream is = Files.newInputStream(entry)) {
+            properties.load(is);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+        touch(entry);
+        return Optional.of(properties);
+    }
+
+    private static Optional<Properties> generate(Path sourcePath) {
+        Properties properties = new Properties();
+        return WordifyIndexGenerator.addSource(properties, sourcePath) ? Optional.of(properties) : Optional.empty();
+    }
+
+    private void write(Path entry, Properties properties) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, entry.getFileName().toString(), TEMP_SUFFIX);
+        byte[] bytes = WordifyIndexGenerator.asBytes(properties);
+        try {
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        // other forks write too, so the running size is only an estimate, each scan sets it to what is on disk
+        if (size.get() < 0 || size.addAndGet(bytes.length) > maxBytes) {
+            evict();
+        }
+    }
+
+    /** Least recently read entries first, reads touch the modified time so it orders by last use */
+    private synchronized void evict() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        long total = 0;
+        long now = System.currentTimeMillis();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                try {
+                    long lastModified = Files.getLastModifiedTime(file).toMillis();
+                    if (fileName.endsWith(TEMP_SUFFIX) && now - lastModified > STALE_TEMP_MILLIS) {
+                        // left behind by a fork that was killed while writing
+                        Files.deleteIfExists(file);
+                    } else if (fileName.endsWith(ENTRY_SUFFIX)) {
+                        Entry entry = new Entry(file, lastModified, Files.size(file));
+                        entries.add(entry);
+                        total += entry.size;
+                    }
+                } catch (NoSuchFileException e) {
+                    // evicted by another fork
+                }
+            }
+        }
+        if (total > maxBytes) {
+            long target = maxBytes - maxBytes / 10;
+            entries.sort(Comparator.comparingLong((Entry entry) -> entry.lastModified));
+            for (Entry entry : entries) {
+                if (total <= target) {
+                    break;
+                }
+                Files.deleteIfExists(entry.path);
+                total -= entry.size;
+            }
+        }
+        size.set(total);
+    }
+
+    private static void touch(Path entry) {
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // evicted by another fork since it was read, or a read only cache
+        }
+    }
+
+    static String hash(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(FORMAT_VERSION.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest(content)) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required of every Java platform", e);
+        }
+    }
+
+    private static class CachedIndex {
+        private final Optional<WordifyIndex> index;
+        private final SourceFile sourceFile;
+
+        CachedIndex(Optional<WordifyIndex> index, SourceFile sourceFile) {
+            this.index = index;
+            this.sourceFile = sourceFile;
+        }
+
+        Optional<WordifyIndex> getIndex() {
+            return index;
+        }
+
+        boolean isCurrent(SourceFile sourceFile) {
+            return this.sourceFile.equals(sourceFile);
+        }
+    }
+
+    private static class Entry {
+        private final Path path;
+        private final long lastModified;
+        private final long size;
+
+        Entry(Path path, long lastModified, long size) {
+            this.path = path;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+    }
+}
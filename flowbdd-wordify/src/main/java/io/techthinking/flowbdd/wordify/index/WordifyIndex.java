@@ -0,0 +1,155 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.index;
+
+import io.techthinking.flowbdd.wordify.sourcecode.MethodSignature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Test method sources written at build time by {@link WordifyIndexGenerator}, so that a test run does not need QDox
+ * or the test source files.
+ * <p>
+ * Each entry is a property:
+ * <pre>{@code
+ * com.example.BookTest#methodName(java.lang.String,int)=<method source>
+ * com.example.BookTest#methodName(java.lang.String,int).parameters=isbn:java.lang.String;quantity:int
+ * }</pre>
+ * keyed by {@link MethodSignature} so overloads each have their own entry.
+ * The index can be turned off with the system property {@code flowbdd.wordify.index=false}, i.e. when the sources
+ * have changed since the last build and the index is stale.
+ */
+public class WordifyIndex {
+    private static final Logger logger = Logger.getLogger(WordifyIndex.class.getName());
+    public static final String RESOURCE = "META-INF/flowbdd/wordify-index";
+    static final String PARAMETERS_SUFFIX = ".parameters";
+    static final char METHOD_SEPARATOR = '#';
+    static final char PARAMETER_SEPARATOR = ';';
+    static final char TYPE_SEPARATOR = ':';
+
+    private final Map<String, IndexedMethod> methods;
+    private final Map<String, List<IndexedMethod>> methodsByName = new HashMap<>();
+
+    public WordifyIndex(Map<String, IndexedMethod> methods) {
+        this.methods = methods;
+        methods.forEach((key, method) -> methodsByName.computeIfAbsent(nameKey(key), k -> new ArrayList<>()).add(method));
+    }
+
+    public static WordifyIndex empty() {
+        return new WordifyIndex(Collections.emptyMap());
+    }
+
+    public static WordifyIndex fromClasspath() {
+        if (!Boolean.parseBoolean(System.getProperty("flowbdd.wordify.index", "true"))) {
+            return empty();
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return fromClassLoader(classLoader == null ? WordifyIndex.class.getClassLoader() : classLoader);
+    }
+
+    public static WordifyIndex fromClassLoader(ClassLoader classLoader) {
+        Properties properties = new Properties();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                try (InputStream is = resources.nextElement().openStream()) {
+                    properties.load(is);
+                }
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not load the wordify index", e);
+            return empty();
+        }
+        return fromProperties(properties);
+    }
+
+    public static WordifyIndex fromProperties(Properties properties) {
+        Map<String, IndexedMethod> methods = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.endsWith(PARAMETERS_SUFFIX)) {
+                continue;
+            }
+            String parameters = properties.getProperty(key + PARAMETERS_SUFFIX, "");
+            methods.put(key, indexedMethod(properties.getProperty(key), parameters));
+        }
+        return new WordifyIndex(methods);
+    }
+
+    public Optional<IndexedMethod> find(Method method) {
+        if (methods.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(methods.get(key(method.getDeclaringClass().getName(), MethodSignature.of(method))));
+    }
+
+    /** By name only when the name is not overloaded, otherwise we can't tell which source is wanted */
+    public Optional<IndexedMethod> find(Class<?> clazz, String methodName) {
+        List<IndexedMethod> overloads = methodsByName.get(key(clazz.getName(), methodName));
+        if (overloads == null || overloads.size() != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(overloads.get(0));
+    }
+
+    public boolean isEmpty() {
+        return methods.isEmpty();
+    }
+
+    public int size() {
+        return methods.size();
+    }
+
+    static String key(String className, String methodSignature) {
+        return className + METHOD_SEPARATOR + methodSignature;
+    }
+
+    private static String nameKey(String key) {
+        int parameters = key.indexOf('(');
+        return parameters < 0 ? key : key.substring(0, parameters);
+    }
+
+    private static IndexedMethod indexedMethod(String source, String parameters) {
+        if (parameters.isEmpty()) {
+            return new IndexedMethod(source, emptyList(), emptyList());
+        }
+        List<String> names = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        for (String parameter : parameters.split(String.valueOf(PARAMETER_SEPARATOR))) {
+            int typeIndex = parameter.indexOf(TYPE_SEPARATOR);
+            names.add(parameter.substring(0, typeIndex));
+            types.add(parameter.substring(typeIndex + 1));
+        }
+        return new IndexedMethod(source, names, types);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.index;
+
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import com.thoughtworks.qdox.model.JavaClass;
+import com.thoughtworks.qdox.model.JavaMethod;
+import com.thoughtworks.qdox.model.JavaParameter;
+import com.thoughtworks.qdox.model.JavaSource;
+import io.techthinking.flowbdd.wordify.sourcecode.MethodSignature;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Build time step that writes the {@link WordifyIndex} for every method in the given source roots.
+ * <p>
+ * usage: {@code WordifyIndexGenerator <output file> <source root>...}
+ * <p>
+ * Each file is parsed with its own QDox builder, the same as {@link io.techthinking.flowbdd.wordify.sourcecode.JavaSourceWrapper}
+ * does at test time, so the index holds exactly what the test run would have extracted.
+ */
+public class WordifyIndexGenerator {
+    private static final Logger logger = Logger.getLogger(WordifyIndexGenerator.class.getName());
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("usage: WordifyIndexGenerator <output file> <source root>...");
+        }
+        List<Path> sourceRoots = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            sourceRoots.add(Paths.get(args[i]));
+        }
+        new WordifyIndexGenerator().write(Paths.get(args[0]), sourceRoots);
+    }
+
+    public void write(Path output, List<Path> sourceRoots) throws IOException {
+        Properties index = generate(sourceRoots);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.write(output, asBytes(index));
+        logger.info("Wordify index: " + output + ", methods: " + index.size() / 2);
+    }
+
+    public Properties generate(List<Path> sourceRoots) throws IOException {
+        Properties index = new Properties();
+        for (Path sourceRoot : sourceRoots) {
+            if (!Files.isDirectory(sourceRoot)) {
+                continue;
+            }
+            for (Path file : javaFiles(sourceRoot)) {
+                addSource(index, file);
+            }
+        }
+        return index;
+    }
+
+    private List<Path> javaFiles(Path sourceRoot) throws IOException {
+        try (Stream<Path> files = Files.walk(sourceRoot)) {
+            return files.filter(f -> f.toString().endsWith(".java")).sorted().collect(toList());
+        }
+    }
+
+    /** @return false when QDox could not parse the file, it is left out of the index */
+    static boolean addSource(Properties index, Path file) {
+        try {
+            JavaSource javaSource = new JavaProjectBuilder().addSource(file.toFile());
+            javaSource.getClasses().forEach(javaClass -> addClass(index, javaClass));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // a file QDox cannot parse falls back to QDox at test time, where the error is reported
+            logger.log(Level.WARNING, "Could not index Java source: " + file, e);
+            return false;
+        }
+    }
+
+    private static void addClass(Properties index, JavaClass javaClass) {
+        for (JavaMethod method : javaClass.getMethods()) {
+            String key = WordifyIndex.key(javaClass.getBinaryName(), MethodSignature.of(method));
+            // the first declaration wins, the same as JavaSourceWrapper.findMethod
+            if (index.containsKey(key)) {
+                continue;
+            }
+            index.setProperty(key, method.getSourceCode());
+            index.setProperty(key + WordifyIndex.PARAMETERS_SUFFIX, parameters(method.getParameters()));
+        }
+        javaClass.getNestedClasses().forEach(nested -> addClass(index, nested));
+    }
+
+    private static String parameters(List<JavaParameter> parameters) {
+        return parameters.stream()
+            .map(p -> p.getName() + WordifyIndex.TYPE_SEPARATOR + p.getCanonicalName())
+            .collect(joining(String.valueOf(WordifyIndex.PARAMETER_SEPARATOR)));
+    }
+
+    /**
+     * In the properties file encoding, ISO 8859-1 with every other character written as a unicode escape, so a method source
+     * in any language survives {@link Properties#load(java.io.InputStream)}. Without the timestamp comment
+     * Properties.store adds, so the output only changes when the sources do.
+     */
+    static byte[] asBytes(Properties index) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            index.store(bytes, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Stream.of(new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1).split("\r?\n"))
+            .filter(line -> !line.startsWith("#"))
+            .sorted()
+            .collect(joining("\n", "", "\n"))
+            .getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
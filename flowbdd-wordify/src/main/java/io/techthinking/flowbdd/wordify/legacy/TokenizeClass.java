@@ -18,27 +18,44 @@
 
 package io.techthinking.flowbdd.wordify.legacy;
 
+import io.techthinking.flowbdd.wordify.HelperExpander;
+import io.techthinking.flowbdd.wordify.sourcecode.MethodSignature;
 import io.techthinking.flowbdd.wordify.sourcecode.MethodWrapper;
 import io.techthinking.flowbdd.wordify.sourcecode.ParameterWrapper;
-import io.techthinking.flowbdd.wordify.tokenize.TokenizeParameter;
-import io.techthinking.flowbdd.wordify.tokenize.TokenizeParameterMap;
-import io.techthinking.flowbdd.wordify.tokenize.TokenizeSource;
-import io.techthinking.flowbdd.wordify.tokenize.TokenizeStringUtil;
+import io.techthinking.flowbdd.wordify.sourcecode.SourceFile;
+import io.techthinking.flowbdd.wordify.sourcecode.SourceLocator;
+import io.techthinking.flowbdd.wordify.tokenize.JavaSourceTokensTemplate;
+import io.techthinking.flowbdd.wordify.tokenize.TemplateInvocation;
 import io.techthinking.flowbdd.wordify.MethodExtractor;
 import io.techthinking.flowbdd.wordify.tokenize.JavaSourceTokens;
 
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
 
 @Deprecated
 public class TokenizeClass {
     private static final Logger logger = Logger.getLogger(TokenizeClass.class.getName());
     private final MethodExtractor methodExtractor;
+    private final HelperExpander helperExpander;
+    /** One template per method signature, shared by every invocation of a parameterized or repeated test */
+    private final Map<Class<?>, Map<String, CachedTemplate>> templates = new ConcurrentHashMap<>();
 
     public TokenizeClass(MethodExtractor methodExtractor) {
+        this(methodExtractor, HelperExpander.configuredDepth());
+    }
+
+    /** @param depth how many levels of helper calls are expanded, see {@link HelperExpander} */
+    public TokenizeClass(MethodExtractor methodExtractor, int depth) {
         this.methodExtractor = methodExtractor;
+        this.helperExpander = new HelperExpander(methodExtractor, depth);
     }
 
     public String tokenizeAsString(Class<?> clazz, String methodName) {
@@ -55,14 +72,66 @@ public class TokenizeClass {
     }
 
     public JavaSourceTokens tokenize(Class<?> clazz, String methodName, List<Object> parameterValues) {
-        MethodWrapper methodWrapper = methodExtractor.methodWrapper(clazz, methodName, parameterValues);
-        List<ParameterWrapper> parameters = methodWrapper.getParameters();
-        TokenizeParameterMap parameterMap = new TokenizeParameterMap();
-        parameters.forEach(p -> {
-            parameterMap.put(new TokenizeParameter(p.getParameter().getName(), p.getValue(), p.getParameter().getCanonicalName()));
-        });
-
-        String src = TokenizeStringUtil.stripJavaCode(methodWrapper.getSource());
-        return new TokenizeSource(src, parameterMap).tokenize();
+        return tokenizeInvocation(clazz, methodName, parameterValues).tokens();
+    }
+
+    public TemplateInvocation tokenizeInvocation(Class<?> clazz, String methodName, List<Object> parameterValues) {
+        return new TemplateInvocation(template(clazz, methodName, parameterValues), parameterValues);
+    }
+
+    /** The invocation of the overload the test ran */
+    public TemplateInvocation tokenizeInvocation(Method method, List<Object> parameterValues) {
+        return new TemplateInvocation(template(method, parameterValues), parameterValues);
+    }
+
+    /** The method is only looked up and tokenized again when the {@link SourceLocator} sees a new version of its source */
+    public JavaSourceTokensTemplate template(Class<?> clazz, String methodName, List<Object> parameterValues) {
+        return template(clazz, methodName, () -> methodExtractor.methodWrapper(clazz, methodName, parameterValues));
+    }
+
+    public JavaSourceTokensTemplate template(Method method, List<Object> parameterValues) {
+        return template(method.getDeclaringClass(), MethodSignature.of(method), () -> methodExtractor.methodWrapper(method, parameterValues));
+    }
+
+    private JavaSourceTokensTemplate template(Class<?> clazz, String signature, Supplier<MethodWrapper> methodWrapper) {
+        SourceFile sourceFile = methodExtractor.getSourceLocator().find(clazz).orElse(null);
+        Map<String, CachedTemplate> classTemplates = templates.computeIfAbsent(clazz, c -> new ConcurrentHashMap<>());
+        CachedTemplate cached = classTemplates.get(signature);
+        if (cached != null && cached.isCurrent(sourceFile)) {
+            return cached.getTemplate();
+        }
+        // compute blocks other invocations of the same method, so it is only tokenized once
+        return classTemplates.compute(signature, (key, existing) -> {
+            if (existing != null && existing.isCurrent(sourceFile)) {
+                return existing;
+            }
+            return new CachedTemplate(create(clazz, methodWrapper.get()), sourceFile);
+        }).getTemplate();
+    }
+
+    private JavaSourceTokensTemplate create(Class<?> clazz, MethodWrapper methodWrapper) {
+        List<String> parameterNames = methodWrapper.getParameters().stream().map(ParameterWrapper::getName).collect(toList());
+        return helperExpander.getDepth() > 0
+            ? JavaSourceTokensTemplate.create(methodWrapper.getSource(), parameterNames, tokens -> helperExpander.expand(clazz, tokens))
+            : JavaSourceTokensTemplate.create(methodWrapper.getSource(), parameterNames);
+    }
+
+    private static class CachedTemplate {
+        private final JavaSourceTokensTemplate template;
+        /** Null when the class has no source, the template then stays until a refresh finds one */
+        private final SourceFile sourceFile;
+
+        CachedTemplate(JavaSourceTokensTemplate template, SourceFile sourceFile) {
+            this.template = template;
+            this.sourceFile = sourceFile;
+        }
+
+        JavaSourceTokensTemplate getTemplate() {
+            return template;
+        }
+
+        boolean isCurrent(SourceFile sourceFile) {
+            return Objects.equals(this.sourceFile, sourceFile);
+        }
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.sourcecode;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process wide cache of parsed Java source, so each test class is parsed by QDox once rather than once per test
+ * invocation. An entry is re-parsed when the {@link SourceLocator} sees a new version of the source file.
+ */
+public class JavaSourceCache {
+    private final Map<Class<?>, CachedSource> cache = new ConcurrentHashMap<>();
+    private final SourceLocator sourceLocator;
+
+    public JavaSourceCache() {
+        this(SourceLocator.shared());
+    }
+
+    public JavaSourceCache(SourceLocator sourceLocator) {
+        this.sourceLocator = sourceLocator;
+    }
+
+    public SourceLocator getSourceLocator() {
+        return sourceLocator;
+    }
+
+    public JavaSourceWrapper get(Class<?> clazz) throws IOException {
+        SourceFile sourceFile = sourceLocator.find(clazz)
+            .orElseThrow(() -> new FileNotFoundException("No Java source found for " + clazz.getName()));
+        CachedSource cached = cache.get(clazz);
+        if (cached != null && cached.isCurrent(sourceFile)) {
+            return cached.getSourceWrapper();
+        }
+        try {
+            // compute blocks other threads asking for the same class, so a class is only parsed once
+            return cache.compute(clazz, (key, existing) -> {
+                if (existing != null && existing.isCurrent(sourceFile)) {
+                    return existing;
+                }
+                return parse(key, sourceFile);
+            }).getSourceWrapper();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public void invalidate(Class<?> clazz) {
+        cache.remove(clazz);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private static CachedSource parse(Class<?> clazz, SourceFile sourceFile) {
+        try {
+            return new CachedSource(new JavaSourceWrapper(clazz, sourceFile.getPath().toFile()), sourceFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class CachedSource {
+        private final JavaSourceWrapper sourceWrapper;
+        private final SourceFile sourceFile;
+
+        CachedSource(JavaSourceWrapper sourceWrapper, SourceFile sourceFile) {
+            this.sourceWrapper = sourceWrapper;
+            this.sourceFile = sourceFile;
+        }
+
+        JavaSourceWrapper getSourceWrapper() {
+            return sourceWrapper;
+        }
+
+        boolean isCurrent(SourceFile sourceFile) {
+            return this.sourceFile.equals(sourceFile);
+        }
+    }
+}
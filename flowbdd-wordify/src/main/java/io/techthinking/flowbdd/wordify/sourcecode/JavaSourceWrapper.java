@@ -25,24 +25,37 @@ import com.thoughtworks.qdox.model.JavaParameter;
 import com.thoughtworks.qdox.model.JavaSource;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-import static java.lang.System.getProperty;
-
 public class JavaSourceWrapper {
     private final JavaProjectBuilder builder = new JavaProjectBuilder();
     private final File javaSourceFile;
     private final JavaSource javaSource;
     private final JavaClass javaClass;
-    private final String DEFAULT_SRC_PATH = "src" + File.separatorChar + "test" + File.separatorChar + "java" + File.separatorChar;
+    /** built once, so finding a test method is a map lookup however many methods the class has */
+    private final Map<String, JavaMethod> methodsBySignature = new HashMap<>();
+    private final Map<String, List<JavaMethod>> methodsByName = new HashMap<>();
+
+    public JavaSourceWrapper(Class<?> clazz) throws IOException {
+        this(clazz, sourceFor(clazz));
+    }
 
-    public JavaSourceWrapper(Class clazz) throws IOException {
-        javaSourceFile = sourceFor(clazz);
+    public JavaSourceWrapper(Class<?> clazz, File javaSourceFile) throws IOException {
+        this.javaSourceFile = javaSourceFile;
         javaSource = builder.addSource(javaSourceFile);
         javaClass = builder.getClassByName(clazz.getName());
+        for (JavaMethod method : javaClass.getMethods()) {
+            methodsBySignature.putIfAbsent(MethodSignature.of(method), method);
+            methodsByName.computeIfAbsent(method.getName(), name -> new ArrayList<>()).add(method);
+        }
     }
 
     public List<JavaMethod> getMethods() {
@@ -50,25 +63,34 @@ public class JavaSourceWrapper {
     }
 
     /**
-     * TODO you'd have to match the number of params
-     * TODO prototyping code not production ready
-     * @param methodName
-     * @return
+     * @return the first method declared with the name, use {@link #findMethod(Method)} to tell overloads apart
      */
-    public List<JavaParameter> getParams(String methodName) {
-        Optional<JavaMethod> javaMethod = javaClass.getMethods().stream().filter(m -> m.getName().equals(methodName)).findFirst();
-        if (javaMethod.isPresent()) {
-            return javaMethod.get().getParameters();
+    public Optional<JavaMethod> findMethod(String methodName) {
+        List<JavaMethod> methods = methodsByName.get(methodName);
+        return methods == null ? Optional.empty() : Optional.of(methods.get(0));
+    }
+
+    /**
+     * Matches the erased signature, falling back to the first method with the name and number of parameters for
+     * signatures QDox could not resolve, i.e. a type from another file in the same package.
+     */
+    public Optional<JavaMethod> findMethod(Method method) {
+        JavaMethod javaMethod = methodsBySignature.get(MethodSignature.of(method));
+        if (javaMethod != null) {
+            return Optional.of(javaMethod);
         }
-        return Collections.emptyList();
+        return methodsByName.getOrDefault(method.getName(), Collections.emptyList()).stream()
+            .filter(candidate -> candidate.getParameters().size() == method.getParameterCount())
+            .findFirst();
     }
 
-    private static File workingDirectory() {
-        return new File(getProperty("user.dir"));
+    public List<JavaParameter> getParams(String methodName) {
+        return findMethod(methodName).map(JavaMethod::getParameters).orElse(Collections.emptyList());
     }
 
-    private File sourceFor(Class<?> clazz) {
-        String relateSource = clazz.getName().replace('.', File.separatorChar) + ".java";
-        return new File(workingDirectory() + File.separator + DEFAULT_SRC_PATH + relateSource);
+    private static File sourceFor(Class<?> clazz) throws FileNotFoundException {
+        return SourceLocator.shared().find(clazz)
+            .map(sourceFile -> sourceFile.getPath().toFile())
+            .orElseThrow(() -> new FileNotFoundException("No Java source found for " + clazz.getName()));
     }
 }
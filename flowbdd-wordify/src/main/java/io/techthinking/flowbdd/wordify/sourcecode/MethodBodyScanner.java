@@ -0,0 +1,359 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.sourcecode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the methods of a Java source file in one pass, without building a model of it as QDox does. Comments, string
+ * and char literals and text blocks are skipped so the braces in them are not counted. Only declarations directly in
+ * a class, interface, enum or record body are read: the name and parameters of each method and where its body begins
+ * and ends. Anything it can't make sense of, i.e. an unterminated comment or unbalanced braces, is left to QDox.
+ */
+public class MethodBodyScanner {
+    private static final Pattern TYPE_DECLARATION = Pattern.compile("\\b(class|interface|enum|record)\\s+([\\w$]+)");
+    private static final Pattern PACKAGE_DECLARATION = Pattern.compile("^\\s*package\\s+([\\w.$\\s]+)$");
+
+    private final String source;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    /** the declaration being read in a type body, with comments removed and literals emptied */
+    private final StringBuilder declaration = new StringBuilder();
+    private final Map<String, List<ScannedMethod>> methodsByClass = new HashMap<>();
+    private String packageName = "";
+    private int parenthesisDepth;
+    private int position;
+
+    private MethodBodyScanner(String source) {
+        this.source = source;
+    }
+
+    public static Optional<ScannedSource> scan(String source) {
+        return new MethodBodyScanner(source).scan();
+    }
+
+    private Optional<ScannedSource> scan() {
+        int length = source.length();
+        while (position < length) {
+            char c = source.charAt(position);
+            char next = position + 1 < length ? source.charAt(position + 1) : 0;
+            if (c == '/' && next == '/') {
+                int endOfLine = source.indexOf('\n', position);
+                position = endOfLine < 0 ? length : endOfLine;
+                appendToDeclaration(' ');
+            } else if (c == '/' && next == '*') {
+                int endOfComment = source.indexOf("*/", position + 2);
+                if (endOfComment < 0) {
+                    return Optional.empty();
+                }
+                position = endOfComment + 2;
+                appendToDeclaration(' ');
+            } else if (c == '"' || c == '\'') {
+                if (!skipLiteral(c)) {
+                    return Optional.empty();
+                }
+                appendToDeclaration(c);
+                appendToDeclaration(c);
+            } else if (c == '{') {
+                openBrace();
+                position++;
+            } else if (c == '}') {
+                if (!closeBrace()) {
+                    return Optional.empty();
+                }
+                position++;
+            } else {
+                if (isReadingDeclaration()) {
+                    readDeclaration(c);
+                }
+                position++;
+            }
+        }
+        if (!frames.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ScannedSource(methodsByClass));
+    }
+
+    /** Moves past a string, char literal or text block, false if it doesn't end */
+    private boolean skipLiteral(char quote) {
+        boolean textBlock = quote == '"' && source.startsWith("\"\"\"", position);
+        int i = position + (textBlock ? 3 : 1);
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (textBlock ? source.startsWith("\"\"\"", i) : c == quote) {
+                position = i + (textBlock ? 3 : 1);
+                return true;
+            } else if (c == '\n' && !textBlock) {
+                return false;
+            } else {
+                i++;
+            }
+        }
+        return false;
+    }
+
+    private boolean isReadingDeclaration() {
+        return frames.isEmpty() || frames.peek().kind == Kind.TYPE;
+    }
+
+    private void appendToDeclaration(char c) {
+        if (isReadingDeclaration()) {
+            declaration.append(c);
+        }
+    }
+
+    private void readDeclaration(char c) {
+        if (c == '(') {
+            parenthesisDepth++;
+        } else if (c == ')') {
+            parenthesisDepth--;
+        } else if (c == ';' && parenthesisDepth == 0) {
+            endDeclaration();
+            return;
+        }
+        declaration.append(c);
+    }
+
+    private void endDeclaration() {
+        if (frames.isEmpty()) {
+            Matcher packageDeclaration = PACKAGE_DECLARATION.matcher(declaration);
+            if (packageDeclaration.find()) {
+                packageName = packageDeclaration.group(1).replaceAll("\\s", "");
+            }
+        } else {
+            frames.peek().enumConstants = false;
+        }
+        clearDeclaration();
+    }
+
+    private void clearDeclaration() {
+        declaration.setLength(0);
+        parenthesisDepth = 0;
+    }
+
+    private void openBrace() {
+        if (!isReadingDeclaration()) {
+            frames.push(Frame.other(false));
+            return;
+        }
+        if (parenthesisDepth > 0) {
+            // i.e. an array in an annotation, the declaration carries on after it
+            frames.push(Frame.other(false));
+            return;
+        }
+        String text = withoutAnnotations(declaration.toString());
+        if (text.indexOf('=') >= 0) {
+            // a field initialised with an array or anonymous class, the declaration ends with ;
+            frames.push(Frame.other(false));
+            return;
+        }
+        Matcher typeDeclaration = TYPE_DECLARATION.matcher(text);
+        Frame enclosing = frames.peek();
+        if (typeDeclaration.find()) {
+            frames.push(Frame.type(binaryName(enclosing, typeDeclaration.group(2)), typeDeclaration.group(2), typeDeclaration.group(1).equals("enum")));
+        } else if (enclosing != null && !enclosing.enumConstants && text.indexOf('(') >= 0) {
+            frames.push(method(enclosing, text));
+        } else {
+            // an initializer, a compact constructor or an enum constant with a body
+            frames.push(Frame.other(true));
+        }
+        clearDeclaration();
+    }
+
+    private boolean closeBrace() {
+        if (frames.isEmpty()) {
+            return false;
+        }
+        Frame frame = frames.pop();
+        if (frame.kind == Kind.METHOD) {
+            methodsByClass.computeIfAbsent(frames.peek().className, className -> new ArrayList<>())
+                .add(new ScannedMethod(frame.methodName, frame.parameterNames, frame.parameterTypes, source, frame.begin, position));
+        }
+        if (frame.kind != Kind.OTHER || frame.endsDeclaration) {
+            clearDeclaration();
+        }
+        return true;
+    }
+
+    private String binaryName(Frame enclosing, String simpleName) {
+        if (enclosing != null) {
+            return enclosing.className + '$' + simpleName;
+        }
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    /** A method or constructor, constructors are not recorded as QDox doesn't list them with the methods */
+    private Frame method(Frame enclosing, String text) {
+        int open = text.indexOf('(');
+        int nameEnd = open;
+        while (nameEnd > 0 && Character.isWhitespace(text.charAt(nameEnd - 1))) {
+            nameEnd--;
+        }
+        int nameBegin = nameEnd;
+        while (nameBegin > 0 && Character.isJavaIdentifierPart(text.charAt(nameBegin - 1))) {
+            nameBegin--;
+        }
+        String name = text.substring(nameBegin, nameEnd);
+        if (name.isEmpty() || name.equals(enclosing.simpleName)) {
+            return Frame.other(true);
+        }
+        int close = text.lastIndexOf(')');
+        Frame frame = Frame.method(name, position + 1);
+        for (String parameter : splitParameters(text.substring(open + 1, Math.max(open + 1, close)))) {
+            addParameter(frame, parameter);
+        }
+        return frame;
+    }
+
+    private static List<String> splitParameters(String parameters) {
+        if (parameters.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> split = new ArrayList<>();
+        int depth = 0;
+        int begin = 0;
+        for (int i = 0; i < parameters.length(); i++) {
+            char c = parameters.charAt(i);
+            if (c == '<' || c == '(') {
+                depth++;
+            } else if (c == '>' || c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                split.add(parameters.substring(begin, i));
+                begin = i + 1;
+            }
+        }
+        split.add(parameters.substring(begin));
+        return split;
+    }
+
+    /** {@code final List<String> names}, {@code String... values} or {@code String args[]} */
+    private static void addParameter(Frame frame, String parameter) {
+        String text = parameter.trim().replaceAll("^(final\\s+)+", "");
+        String dimensions = "";
+        while (text.endsWith("]")) {
+            text = text.substring(0, text.lastIndexOf('[')).trim();
+            dimensions += "[]";
+        }
+        int nameBegin = text.length();
+        while (nameBegin > 0 && Character.isJavaIdentifierPart(text.charAt(nameBegin - 1))) {
+            nameBegin--;
+        }
+        String name = text.substring(nameBegin);
+        if (name.equals("this")) {
+            return;
+        }
+        frame.parameterNames.add(name);
+        frame.parameterTypes.add(text.substring(0, nameBegin).trim() + dimensions);
+    }
+
+    /** Removes {@code @Name} and {@code @Name(...)}, but not {@code @interface} */
+    static String withoutAnnotations(String text) {
+        if (text.indexOf('@') < 0) {
+            return text;
+        }
+        StringBuilder without = new StringBuilder(text.length());
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c != '@' || text.startsWith("interface", i + 1)) {
+                without.append(c);
+                i++;
+                continue;
+            }
+            i++;
+            while (i < text.length() && (Character.isJavaIdentifierPart(text.charAt(i)) || text.charAt(i) == '.')) {
+                i++;
+            }
+            int afterName = i;
+            while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+                i++;
+            }
+            if (i < text.length() && text.charAt(i) == '(') {
+                int depth = 0;
+                do {
+                    if (text.charAt(i) == '(') {
+                        depth++;
+                    } else if (text.charAt(i) == ')') {
+                        depth--;
+                    }
+                    i++;
+                } while (i < text.length() && depth > 0);
+            } else {
+                i = afterName;
+            }
+            without.append(' ');
+        }
+        return without.toString();
+    }
+
+    private enum Kind {
+        TYPE, METHOD, OTHER
+    }
+
+    private static class Frame {
+        final Kind kind;
+        String className;
+        String simpleName;
+        /** the constants at the start of an enum body, up to the first ; */
+        boolean enumConstants;
+        String methodName;
+        final List<String> parameterNames = new ArrayList<>();
+        final List<String> parameterTypes = new ArrayList<>();
+        int begin;
+        /** an initializer or constructor body ends the declaration, an array or anonymous class in one doesn't */
+        boolean endsDeclaration;
+
+        private Frame(Kind kind) {
+            this.kind = kind;
+        }
+
+        static Frame type(String className, String simpleName, boolean isEnum) {
+            Frame frame = new Frame(Kind.TYPE);
+            frame.className = className;
+            frame.simpleName = simpleName;
+            frame.enumConstants = isEnum;
+            return frame;
+        }
+
+        static Frame method(String methodName, int begin) {
+            Frame frame = new Frame(Kind.METHOD);
+            frame.methodName = methodName;
+            frame.begin = begin;
+            return frame;
+        }
+
+        static Frame other(boolean endsDeclaration) {
+            Frame frame = new Frame(Kind.OTHER);
+            frame.endsDeclaration = endsDeclaration;
+            return frame;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.sourcecode;
+
+import com.thoughtworks.qdox.model.JavaClass;
+import com.thoughtworks.qdox.model.JavaMethod;
+import com.thoughtworks.qdox.model.JavaParameter;
+import com.thoughtworks.qdox.model.JavaType;
+import com.thoughtworks.qdox.model.JavaTypeVariable;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Method name plus erased parameter types, i.e. {@code withIsbn(java.lang.String,int[])}, the same for the runtime
+ * {@link Method} and the QDox {@link JavaMethod} so overloads can be matched by a map lookup.
+ */
+public class MethodSignature {
+    private static final String OBJECT = "java.lang.Object";
+
+    public static String of(Method method) {
+        StringJoiner signature = new StringJoiner(",", method.getName() + "(", ")");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            signature.add(parameterType.getTypeName());
+        }
+        return signature.toString();
+    }
+
+    public static String of(JavaMethod method) {
+        StringJoiner signature = new StringJoiner(",", method.getName() + "(", ")");
+        for (JavaParameter parameter : method.getParameters()) {
+            signature.add(erasure(method, parameter));
+        }
+        return signature.toString();
+    }
+
+    private static String erasure(JavaMethod method, JavaParameter parameter) {
+        JavaClass type = parameter.getJavaClass();
+        StringBuilder erasure = new StringBuilder(erasure(method, type.getBinaryName()));
+        for (int i = 0; i < type.getDimensions(); i++) {
+            erasure.append("[]");
+        }
+        if (parameter.isVarArgs()) {
+            erasure.append("[]");
+        }
+        return erasure.toString();
+    }
+
+    /** QDox leaves type variables unresolved, they erase to their first bound */
+    private static String erasure(JavaMethod method, String typeName) {
+        String bound = bound(method.getTypeParameters(), typeName);
+        if (bound == null && method.getDeclaringClass() != null) {
+            bound = bound(method.getDeclaringClass().getTypeParameters(), typeName);
+        }
+        return bound == null ? typeName : bound;
+    }
+
+    private static String bound(List<? extends JavaTypeVariable<?>> typeVariables, String typeName) {
+        for (JavaTypeVariable<?> typeVariable : typeVariables) {
+            if (typeVariable.getName().equals(typeName)) {
+                List<JavaType> bounds = typeVariable.getBounds();
+                return bounds == null || bounds.isEmpty() ? OBJECT : bounds.get(0).getBinaryName();
+            }
+        }
+        return null;
+    }
+}
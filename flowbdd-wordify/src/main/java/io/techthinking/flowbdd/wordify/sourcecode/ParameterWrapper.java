@@ -24,17 +24,38 @@ import java.util.Objects;
 
 public class ParameterWrapper {
     private final JavaParameter parameter;
+    private final String name;
+    private final String type;
     private final Object value;
 
     public ParameterWrapper(JavaParameter parameter, Object value) {
         this.parameter = parameter;
+        this.name = parameter.getName();
+        this.type = parameter.getCanonicalName();
         this.value = value;
     }
 
+    /** When the parameter has not been parsed by QDox, i.e. it was read from a wordify index */
+    public ParameterWrapper(String name, String type, Object value) {
+        this.parameter = null;
+        this.name = name;
+        this.type = type;
+        this.value = value;
+    }
+
+    /** Only present when parsed by QDox */
     public JavaParameter getParameter() {
         return parameter;
     }
 
+    public String getName() {
+        return name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
     public Object getValue() {
         return value;
     }
@@ -44,18 +65,19 @@ public class ParameterWrapper {
         if (this == o) return true;
         if (!(o instanceof ParameterWrapper)) return false;
         ParameterWrapper that = (ParameterWrapper) o;
-        return Objects.equals(parameter, that.parameter) && Objects.equals(value, that.value);
+        return Objects.equals(name, that.name) && Objects.equals(type, that.type) && Objects.equals(value, that.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(parameter, value);
+        return Objects.hash(name, type, value);
     }
 
     @Override
     public String toString() {
         return "ParameterWrapper{" +
-            "parameter=" + parameter +
+            "name='" + name + '\'' +
+            ", type='" + type + '\'' +
             ", value=" + value +
             '}';
     }
@@ -0,0 +1,102 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.sourcecode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A method found by the {@link MethodBodyScanner}: its body is the text between {@code begin} and {@code end} of the
+ * file, the same text QDox gives as the method's source code.
+ */
+public class ScannedMethod {
+    private final String name;
+    private final List<String> parameterNames;
+    private final List<String> parameterTypes;
+    private final String fileSource;
+    private final int begin;
+    private final int end;
+
+    public ScannedMethod(String name, List<String> parameterNames, List<String> parameterTypes, String fileSource, int begin, int end) {
+        this.name = name;
+        this.parameterNames = parameterNames;
+        this.parameterTypes = parameterTypes;
+        this.fileSource = fileSource;
+        this.begin = begin;
+        this.end = end;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    /** As written in the source, i.e. {@code List<String>} or {@code int...} */
+    public List<String> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    public int getBegin() {
+        return begin;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    public String getSource() {
+        return fileSource.substring(begin, end);
+    }
+
+    public MethodWrapper methodWrapper(List<Object> parameterValues) {
+        List<ParameterWrapper> parameters = new ArrayList<>();
+        for (int index = 0; index < parameterNames.size() && index < parameterValues.size(); index++) {
+            parameters.add(new ParameterWrapper(parameterNames.get(index), parameterTypes.get(index), parameterValues.get(index)));
+        }
+        return new MethodWrapper(getSource(), parameters);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ScannedMethod)) return false;
+        ScannedMethod that = (ScannedMethod) o;
+        return begin == that.begin && end == that.end && Objects.equals(name, that.name) && Objects.equals(parameterNames, that.parameterNames) && Objects.equals(parameterTypes, that.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, parameterNames, parameterTypes, begin, end);
+    }
+
+    @Override
+    public String toString() {
+        return "ScannedMethod{" +
+            "name='" + name + '\'' +
+            ", parameterNames=" + parameterNames +
+            ", parameterTypes=" + parameterTypes +
+            ", begin=" + begin +
+            ", end=" + end +
+            '}';
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.sourcecode;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The methods of every class declared in a Java source file, by binary class name, as found by the
+ * {@link MethodBodyScanner}. Methods of anonymous and local classes are not included, as with QDox.
+ */
+public class ScannedSource {
+    private final Map<String, List<ScannedMethod>> methodsByClass;
+
+    public ScannedSource(Map<String, List<ScannedMethod>> methodsByClass) {
+        this.methodsByClass = methodsByClass;
+    }
+
+    public List<ScannedMethod> getMethods(String className) {
+        return methodsByClass.getOrDefault(className, Collections.emptyList());
+    }
+
+    /**
+     * @return the first method declared with the name, use {@link #findMethod(Method)} to tell overloads apart
+     */
+    public Optional<ScannedMethod> findMethod(Class<?> clazz, String methodName) {
+        return getMethods(clazz.getName()).stream()
+            .filter(method -> method.getName().equals(methodName))
+            .findFirst();
+    }
+
+    /**
+     * Matches the simple names of the erased parameter types, falling back to the first method with the name and
+     * number of parameters, i.e. for a parameter declared as a type variable.
+     */
+    public Optional<ScannedMethod> findMethod(Method method) {
+        ScannedMethod sameParameterCount = null;
+        for (ScannedMethod candidate : getMethods(method.getDeclaringClass().getName())) {
+            if (!candidate.getName().equals(method.getName()) || candidate.getParameterTypes().size() != method.getParameterCount()) {
+                continue;
+            }
+            if (parameterTypesMatch(candidate.getParameterTypes(), method.getParameterTypes())) {
+                return Optional.of(candidate);
+            }
+            if (sameParameterCount == null) {
+                sameParameterCount = candidate;
+            }
+        }
+        return Optional.ofNullable(sameParameterCount);
+    }
+
+    private static boolean parameterTypesMatch(List<String> declaredTypes, Class<?>[] parameterTypes) {
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!simpleErasure(declaredTypes.get(i)).equals(simpleErasure(parameterTypes[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** {@code java.util.List<Map<String, T>>} to {@code List}, {@code String...} to {@code String[]} */
+    static String simpleErasure(String declaredType) {
+        StringBuilder erasure = new StringBuilder(declaredType.length());
+        int genericDepth = 0;
+        for (int i = 0; i < declaredType.length(); i++) {
+            char c = declaredType.charAt(i);
+            if (c == '<') {
+                genericDepth++;
+            } else if (c == '>') {
+                genericDepth--;
+            } else if (genericDepth == 0 && !Character.isWhitespace(c)) {
+                erasure.append(c);
+            }
+        }
+        String type = erasure.toString().replace("...", "[]");
+        return type.substring(type.lastIndexOf('.') + 1);
+    }
+
+    private static String simpleErasure(Class<?> parameterType) {
+        return parameterType.isArray() ? simpleErasure(parameterType.getComponentType()) + "[]" : parameterType.getSimpleName();
+    }
+}
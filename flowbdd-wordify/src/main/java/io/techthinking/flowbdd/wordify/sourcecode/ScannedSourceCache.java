@@ -0,0 +1,108 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.sourcecode;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Process wide cache of {@link MethodBodyScanner} results, one per source file so the nested classes of a test share
+ * a single scan. Like the {@link JavaSourceCache} an entry is scanned again when the {@link SourceLocator} sees a new
+ * version of the file. A file the scanner can't read is remembered as empty, for QDox to parse instead.
+ */
+public class ScannedSourceCache {
+    private static final Logger logger = Logger.getLogger(ScannedSourceCache.class.getName());
+    private final Map<Path, CachedScan> cache = new ConcurrentHashMap<>();
+    private final SourceLocator sourceLocator;
+
+    public ScannedSourceCache() {
+        this(SourceLocator.shared());
+    }
+
+    public ScannedSourceCache(SourceLocator sourceLocator) {
+        this.sourceLocator = sourceLocator;
+    }
+
+    public Optional<ScannedSource> get(Class<?> clazz) throws IOException {
+        SourceFile sourceFile = sourceLocator.find(clazz)
+            .orElseThrow(() -> new FileNotFoundException("No Java source found for " + clazz.getName()));
+        CachedScan cached = cache.get(sourceFile.getPath());
+        if (cached != null && cached.isCurrent(sourceFile)) {
+            return cached.getScannedSource();
+        }
+        try {
+            return cache.compute(sourceFile.getPath(), (key, existing) -> {
+                if (existing != null && existing.isCurrent(sourceFile)) {
+                    return existing;
+                }
+                return scan(sourceFile);
+            }).getScannedSource();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private static CachedScan scan(SourceFile sourceFile) {
+        try {
+            String source = new String(Files.readAllBytes(sourceFile.getPath()), StandardCharsets.UTF_8);
+            Optional<ScannedSource> scannedSource = MethodBodyScanner.scan(source);
+            if (!scannedSource.isPresent()) {
+                logger.log(Level.FINE, "Could not scan " + sourceFile.getPath() + ", it will be parsed by QDox");
+            }
+            return new CachedScan(scannedSource, sourceFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class CachedScan {
+        private final Optional<ScannedSource> scannedSource;
+        private final SourceFile sourceFile;
+
+        CachedScan(Optional<ScannedSource> scannedSource, SourceFile sourceFile) {
+            this.scannedSource = scannedSource;
+            this.sourceFile = sourceFile;
+        }
+
+        Optional<ScannedSource> getScannedSource() {
+            return scannedSource;
+        }
+
+        boolean isCurrent(SourceFile sourceFile) {
+            return this.sourceFile.equals(sourceFile);
+        }
+    }
+}
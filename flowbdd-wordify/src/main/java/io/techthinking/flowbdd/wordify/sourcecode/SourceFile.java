@@ -0,0 +1,71 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.sourcecode;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * A Java source file as last seen by the {@link SourceLocator}, its modified time and length identify the version.
+ */
+public class SourceFile {
+    private final Path path;
+    private final long lastModified;
+    private final long length;
+
+    public SourceFile(Path path, long lastModified, long length) {
+        this.path = path;
+        this.lastModified = lastModified;
+        this.length = length;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SourceFile that = (SourceFile) o;
+        return lastModified == that.lastModified && length == that.length && Objects.equals(path, that.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, lastModified, length);
+    }
+
+    @Override
+    public String toString() {
+        return "SourceFile{" +
+            "path=" + path +
+            ", lastModified=" + lastModified +
+            ", length=" + length +
+            '}';
+    }
+}
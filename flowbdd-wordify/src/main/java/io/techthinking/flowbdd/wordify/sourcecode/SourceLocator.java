@@ -0,0 +1,224 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.sourcecode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Index of fully qualified class name to Java source file across every source root, built by one walk of the roots
+ * so that lookups are map hits rather than filesystem probes.
+ * <p>
+ * Roots are those given by {@code -Dflowbdd.source.roots} (path separated) followed by every {@code src/<set>/java}
+ * directory found under the build root, which is the nearest ancestor of {@code user.dir} holding a Gradle settings
+ * file. {@link #refresh()} re-walks the roots and only replaces the entries for files that were added, removed or
+ * changed. Lookups are only ever map hits, the filesystem is walked when the locator is created and on a refresh.
+ */
+public class SourceLocator {
+    private static final Logger logger = Logger.getLogger(SourceLocator.class.getName());
+    public static final String SOURCE_ROOTS_PROPERTY = "flowbdd.source.roots";
+    private static final int MAX_DISCOVERY_DEPTH = 8;
+    private static final Set<String> SKIPPED_DIRECTORIES = new HashSet<>(Arrays.asList("build", "out", "target", "node_modules"));
+
+    private final List<Path> roots;
+    private volatile Index index;
+
+    public SourceLocator(List<Path> roots) {
+        this.roots = Collections.unmodifiableList(new ArrayList<>(roots));
+        this.index = scan(this.roots, Index.EMPTY);
+    }
+
+    /** Scans the default roots on first use rather than when the class is loaded */
+    public static SourceLocator shared() {
+        return Shared.INSTANCE;
+    }
+
+    public List<Path> getRoots() {
+        return roots;
+    }
+
+    /** A class without an entry, such as a library class, is a miss until a {@link #refresh()} finds its source */
+    public Optional<SourceFile> find(Class<?> clazz) {
+        return find(topLevelClassName(clazz));
+    }
+
+    public Optional<SourceFile> find(String className) {
+        return Optional.ofNullable(index.byClassName.get(className));
+    }
+
+    /**
+     * @return the fully qualified name of the class with the given simple name, from the first root that declares one
+     */
+    public Optional<String> findBySimpleName(String simpleName) {
+        return Optional.ofNullable(index.bySimpleName.get(simpleName));
+    }
+
+    public int size() {
+        return index.byClassName.size();
+    }
+
+    public synchronized void refresh() {
+        index = scan(roots, index);
+    }
+
+    private static Index scan(List<Path> roots, Index previous) {
+        Index next = new Index();
+        for (Path root : roots) {
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            try {
+                Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                        String fileName = file.getFileName().toString();
+                        if (!fileName.endsWith(".java") || fileName.equals("package-info.java") || fileName.equals("module-info.java")) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                        String className = className(root.relativize(file));
+                        if (next.byClassName.containsKey(className)) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                        SourceFile sourceFile = new SourceFile(file, attributes.lastModifiedTime().toMillis(), attributes.size());
+                        SourceFile existing = previous.byClassName.get(className);
+                        next.byClassName.put(className, sourceFile.equals(existing) ? existing : sourceFile);
+                        next.bySimpleName.putIfAbsent(simpleName(className), className);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not index source root " + root, e);
+            }
+        }
+        return next;
+    }
+
+    static List<Path> defaultRoots() {
+        Set<Path> roots = new LinkedHashSet<>();
+        String configured = System.getProperty(SOURCE_ROOTS_PROPERTY);
+        if (configured != null && !configured.trim().isEmpty()) {
+            Arrays.stream(configured.split(File.pathSeparator))
+                .map(String::trim)
+                .filter(root -> !root.isEmpty())
+                .map(root -> Paths.get(root).toAbsolutePath().normalize())
+                .forEach(roots::add);
+        }
+        Path workingDirectory = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
+        roots.add(workingDirectory.resolve(Paths.get("src", "test", "java")));
+        roots.addAll(discoverRoots(buildRoot(workingDirectory)));
+        return new ArrayList<>(roots);
+    }
+
+    static Path buildRoot(Path workingDirectory) {
+        for (Path dir = workingDirectory; dir != null; dir = dir.getParent()) {
+            if (Files.exists(dir.resolve("settings.gradle.kts")) || Files.exists(dir.resolve("settings.gradle"))) {
+                return dir;
+            }
+        }
+        return workingDirectory;
+    }
+
+    static List<Path> discoverRoots(Path buildRoot) {
+        List<Path> roots = new ArrayList<>();
+        try {
+            Files.walkFileTree(buildRoot, Collections.emptySet(), MAX_DISCOVERY_DEPTH, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                    String name = dir.getFileName() == null ? "" : dir.getFileName().toString();
+                    if (!dir.equals(buildRoot) && (name.startsWith(".") || SKIPPED_DIRECTORIES.contains(name))) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    if (isSourceRoot(dir)) {
+                        roots.add(dir);
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not discover source roots under " + buildRoot, e);
+        }
+        // test sources first, they are the ones wordify reads
+        return roots.stream()
+            .sorted((a, b) -> Boolean.compare(!isTestRoot(a), !isTestRoot(b)))
+            .collect(toList());
+    }
+
+    private static boolean isSourceRoot(Path dir) {
+        Path parent = dir.getParent();
+        Path grandParent = parent == null ? null : parent.getParent();
+        return grandParent != null
+            && "java".equals(dir.getFileName().toString())
+            && "src".equals(grandParent.getFileName().toString());
+    }
+
+    private static boolean isTestRoot(Path root) {
+        return root.getParent().getFileName().toString().toLowerCase().contains("test");
+    }
+
+    static String topLevelClassName(Class<?> clazz) {
+        String className = clazz.getName();
+        int nested = className.indexOf('$');
+        return nested < 0 ? className : className.substring(0, nested);
+    }
+
+    private static String className(Path relativeSource) {
+        String path = relativeSource.toString();
+        return path.substring(0, path.length() - ".java".length()).replace(File.separatorChar, '.');
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    private static class Shared {
+        static final SourceLocator INSTANCE = new SourceLocator(defaultRoots());
+    }
+
+    private static class Index {
+        static final Index EMPTY = new Index();
+        final Map<String, SourceFile> byClassName = new HashMap<>();
+        final Map<String, String> bySimpleName = new HashMap<>();
+    }
+}
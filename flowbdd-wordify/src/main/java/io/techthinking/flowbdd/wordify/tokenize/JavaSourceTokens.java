@@ -39,14 +39,18 @@ public class JavaSourceTokens {
     }
 
     public String asString() {
-        StringBuilder stringBuilder = new StringBuilder();
+        int length = 0;
+        for (Token token : tokens) {
+            length += token.length() + 1;
+        }
+        StringBuilder stringBuilder = new StringBuilder(length);
         TokenType prevTokenType = null;
 
         for(Token token: tokens) {
             if (token.getType() != TokenType.NEW_LINE && prevTokenType != null && prevTokenType != TokenType.NEW_LINE) {
                 stringBuilder.append(" ");
             }
-            stringBuilder.append(token.asString());
+            token.appendTo(stringBuilder);
             prevTokenType = token.getType();
         }
         return stringBuilder.toString();
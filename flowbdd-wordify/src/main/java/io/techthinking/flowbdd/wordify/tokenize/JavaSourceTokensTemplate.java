@@ -0,0 +1,121 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.tokenize;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * A method tokenized once, with its parameters left as {@link ParameterToken} slots. Each invocation of a
+ * parameterized test binds its argument values into the slots instead of tokenizing the method source again.
+ * <p>
+ * Immutable, so one template can be shared by every invocation and thread.
+ */
+public class JavaSourceTokensTemplate {
+    private final String source;
+    private final List<String> parameterNames;
+    private final JavaSourceTokens tokens;
+
+    private JavaSourceTokensTemplate(String source, List<String> parameterNames, JavaSourceTokens tokens) {
+        this.source = source;
+        this.parameterNames = parameterNames;
+        this.tokens = tokens;
+    }
+
+    /**
+     * @param source the method source, as extracted from the class
+     * @param parameterNames in declaration order, the same order as the argument values
+     */
+    public static JavaSourceTokensTemplate create(String source, List<String> parameterNames) {
+        return create(source, parameterNames, UnaryOperator.identity());
+    }
+
+    /**
+     * @param expand applied once to the tokens before they are shared, i.e. to expand helper method calls
+     */
+    public static JavaSourceTokensTemplate create(String source, List<String> parameterNames, UnaryOperator<JavaSourceTokens> expand) {
+        TokenizeParameterMap slots = new TokenizeParameterMap();
+        parameterNames.forEach(name -> slots.put(new TokenizeParameter(name, null, null)));
+        JavaSourceTokens tokens = expand.apply(TokenizeSource.slots(TokenizeStringUtil.stripJavaCode(source), slots).tokenize());
+        return new JavaSourceTokensTemplate(
+            source,
+            Collections.unmodifiableList(new ArrayList<>(parameterNames)),
+            new JavaSourceTokens(Collections.unmodifiableList(tokens.getTokens()), tokens.getWhiteSpace()));
+    }
+
+    /** true if this template was created from the same source and parameters */
+    public boolean matches(String source, List<String> parameterNames) {
+        return this.source.equals(source) && this.parameterNames.equals(parameterNames);
+    }
+
+    public List<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    public JavaSourceTokens getTokens() {
+        return tokens;
+    }
+
+    public JavaSourceTokens bind(List<Object> parameterValues) {
+        TokenizeParameterMap parameterMap = new TokenizeParameterMap();
+        for (int index = 0; index < parameterNames.size() && index < parameterValues.size(); index++) {
+            parameterMap.put(new TokenizeParameter(parameterNames.get(index), parameterValues.get(index), null));
+        }
+        return bind(parameterMap);
+    }
+
+    public JavaSourceTokens bind(TokenizeParameterMap parameterMap) {
+        if (parameterNames.isEmpty()) {
+            return tokens;
+        }
+        List<Token> bound = new ArrayList<>(tokens.getTokens().size());
+        for (Token token : tokens.getTokens()) {
+            bound.add(token instanceof ParameterToken ? ((ParameterToken) token).bind(parameterMap) : token);
+        }
+        return new JavaSourceTokens(bound, tokens.getWhiteSpace());
+    }
+
+    public String asString(List<Object> parameterValues) {
+        return bind(parameterValues).asString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof JavaSourceTokensTemplate)) return false;
+        JavaSourceTokensTemplate that = (JavaSourceTokensTemplate) o;
+        return Objects.equals(source, that.source) && Objects.equals(parameterNames, that.parameterNames) && Objects.equals(tokens, that.tokens);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, parameterNames, tokens);
+    }
+
+    @Override
+    public String toString() {
+        return "JavaSourceTokensTemplate{" +
+            "parameterNames=" + parameterNames +
+            ", tokens=" + tokens +
+            '}';
+    }
+}
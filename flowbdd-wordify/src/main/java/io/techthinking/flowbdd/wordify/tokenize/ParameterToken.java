@@ -0,0 +1,76 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.tokenize;
+
+/**
+ * A slot in a {@link JavaSourceTokensTemplate} where a parameter's value is bound per invocation.
+ */
+public class ParameterToken extends Token {
+    private final boolean upperCaseFirstChar;
+
+    public ParameterToken(String parameterName, boolean upperCaseFirstChar) {
+        super(parameterName, TokenType.PARAMETER);
+        this.upperCaseFirstChar = upperCaseFirstChar;
+    }
+
+    public String getParameterName() {
+        return asString();
+    }
+
+    public boolean isUpperCaseFirstChar() {
+        return upperCaseFirstChar;
+    }
+
+    /** The same token TokenizeSource creates when it is given the parameter value up front */
+    public Token bind(TokenizeParameterMap parameterMap) {
+        String str;
+        if (parameterMap.contains(getParameterName())) {
+            Object value = parameterMap.get(getParameterName()).getValue();
+            str = value == null ? "null" : String.valueOf(value);
+        } else {
+            str = WordifyStringUtil.wordifyMethodOrFieldName(getParameterName());
+        }
+        if (upperCaseFirstChar) {
+            str = WordifyStringUtil.upperCaseFirstChar(str);
+        }
+        return new Token(str, TokenType.DEFAULT);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ParameterToken)) return false;
+        if (!super.equals(o)) return false;
+        ParameterToken that = (ParameterToken) o;
+        return upperCaseFirstChar == that.upperCaseFirstChar;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Boolean.hashCode(upperCaseFirstChar);
+    }
+
+    @Override
+    public String toString() {
+        return "ParameterToken{" +
+            "parameterName='" + getParameterName() + '\'' +
+            ", upperCaseFirstChar=" + upperCaseFirstChar +
+            '}';
+    }
+}
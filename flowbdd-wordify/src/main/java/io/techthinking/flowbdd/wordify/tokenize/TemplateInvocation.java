@@ -0,0 +1,73 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.tokenize;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The shared template of a method plus the argument values of one invocation. The wordified string is only built
+ * when it is asked for, so a result holds a reference to the template rather than its own fully expanded string.
+ */
+public class TemplateInvocation {
+    private final JavaSourceTokensTemplate template;
+    private final List<Object> arguments;
+
+    public TemplateInvocation(JavaSourceTokensTemplate template, List<Object> arguments) {
+        this.template = template;
+        this.arguments = arguments;
+    }
+
+    public JavaSourceTokensTemplate getTemplate() {
+        return template;
+    }
+
+    public List<Object> getArguments() {
+        return arguments;
+    }
+
+    public JavaSourceTokens tokens() {
+        return template.bind(arguments);
+    }
+
+    public String asString() {
+        return template.asString(arguments);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TemplateInvocation)) return false;
+        TemplateInvocation that = (TemplateInvocation) o;
+        return Objects.equals(template, that.template) && Objects.equals(arguments, that.arguments);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(template, arguments);
+    }
+
+    @Override
+    public String toString() {
+        return "TemplateInvocation{" +
+            "template=" + template +
+            ", arguments=" + arguments +
+            '}';
+    }
+}
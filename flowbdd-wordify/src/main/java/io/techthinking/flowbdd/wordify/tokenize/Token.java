@@ -21,18 +21,47 @@ package io.techthinking.flowbdd.wordify.tokenize;
 import java.util.Objects;
 
 public class Token {
-    private final String value;
+    private final CharSequence source;
+    private final int beginIndex;
+    private final int endIndex;
     private final TokenType type;
+    private String value;
 
     public Token(String value, TokenType type) {
+        this.source = value;
+        this.beginIndex = 0;
+        this.endIndex = value == null ? 0 : value.length();
+        this.type = type;
         this.value = value;
+    }
+
+    /** A token over a slice of the source, the string is only created if it is asked for */
+    public Token(CharSequence source, int beginIndex, int endIndex, TokenType type) {
+        this.source = source;
+        this.beginIndex = beginIndex;
+        this.endIndex = endIndex;
         this.type = type;
     }
 
     public String asString() {
+        if (value == null && source != null) {
+            value = source.subSequence(beginIndex, endIndex).toString();
+        }
         return value;
     }
 
+    /** Appends straight from the source slice, without creating the token's string */
+    public StringBuilder appendTo(StringBuilder stringBuilder) {
+        if (value != null || source == null) {
+            return stringBuilder.append(value);
+        }
+        return stringBuilder.append(source, beginIndex, endIndex);
+    }
+
+    int length() {
+        return endIndex - beginIndex;
+    }
+
     public TokenType getType() {
         return type;
     }
@@ -42,18 +71,18 @@ public class Token {
         if (this == o) return true;
         if (!(o instanceof Token)) return false;
         Token token = (Token) o;
-        return Objects.equals(value, token.value) && type == token.type;
+        return Objects.equals(asString(), token.asString()) && type == token.type;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value, type);
+        return Objects.hash(asString(), type);
     }
 
     @Override
     public String toString() {
         return "Token{" +
-            "value='" + value + '\'' +
+            "value='" + asString() + '\'' +
             ", type=" + type +
             '}';
     }
@@ -20,8 +20,10 @@ package io.techthinking.flowbdd.wordify.tokenize;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
+/**
+ * Single pass over the source, tokens are offsets into the original string and only wordified names allocate.
+ */
 public class TokenizeSource {
     public static final char NEW_LINE = '\n';
     private static final char SPACE = ' ';
@@ -38,24 +40,35 @@ public class TokenizeSource {
     private static final char END = 0x003;
 
     private int index = 0;
-    private final char[] input;
     private final String original;
+    private final int length;
     private final TokenizeParameterMap parameterMap;
     private int startingWhiteSpace;
     private boolean newLineOfCode = true;
-
+    /** parameters become ParameterToken slots, see JavaSourceTokensTemplate */
+    private final boolean parameterSlots;
 
     public TokenizeSource(String original, TokenizeParameterMap parameterMap) {
-        this.input = original.toCharArray();
+        this(original, parameterMap, false);
+    }
+
+    private TokenizeSource(String original, TokenizeParameterMap parameterMap, boolean parameterSlots) {
         this.original = original;
+        this.length = original.length();
         this.parameterMap = parameterMap;
+        this.parameterSlots = parameterSlots;
+    }
+
+    /** Tokenize leaving a {@link ParameterToken} for each parameter in the map, the values are ignored */
+    static TokenizeSource slots(String original, TokenizeParameterMap parameterMap) {
+        return new TokenizeSource(original, parameterMap, true);
     }
 
     public JavaSourceTokens tokenize() {
         List<Token> tokens = new ArrayList<>();
-        startingWhiteSpace = incrementIndexPastWhiteSpace(0);
+        startingWhiteSpace = incrementIndexPastWhiteSpace();
         __println("startingWhiteSpace: " + startingWhiteSpace);
-        handleNextToken().ifPresent(tokens::add);
+        addIfPresent(tokens, handleNextToken());
         char ch;
         int beforeIndex = -1;
         while (inBounds()) {
@@ -70,17 +83,24 @@ public class TokenizeSource {
             if (isEnd(ch)) {
                 break;
             }
-            Optional<Token> token = handleNextToken();
-            token.ifPresent(tokens::add);
+            Token token = handleNextToken();
+            addIfPresent(tokens, token);
             __println("TOKEN_TO_ADD: " + token);
         }
         return new JavaSourceTokens(tokens, startingWhiteSpace);
     }
 
+    private static void addIfPresent(List<Token> tokens, Token token) {
+        if (token != null) {
+            tokens.add(token);
+        }
+    }
+
     /**
      * newline, FieldOrMethodName, string literal
+     * @return the token or null when there isn't one at the index
      */
-    private Optional<Token> handleNextToken() {
+    private Token handleNextToken() {
         char ch = get();
         __print("NEXT_FIELD_OR_METHOD_NAME <start>");
 
@@ -96,7 +116,7 @@ public class TokenizeSource {
         } else if (ch == SINGLE_QUOTE) {
             return handleChar();
         } else {
-            return Optional.empty();
+            return null;
         }
     }
 
@@ -116,7 +136,7 @@ public class TokenizeSource {
         return Character.isDigit(ch) || ch == '.' || ch == 'x' || ch >= 'a' && ch <= 'f' || ch >= 'A' && ch <= 'F';
     }
 
-    private Optional<Token> handleFieldOrMethodNameChar() {
+    private Token handleFieldOrMethodNameChar() {
         int beginIndex = index();
         int count = 0;
         char ch = get();
@@ -135,25 +155,32 @@ public class TokenizeSource {
         }
         __println("<end> beginIndex: " + beginIndex + ", count: " + count);
         if (count == 0) {
-            return Optional.empty();
+            return null;
         }
 
-        String str = substring(beginIndex, beginIndex + count);
-        if (parameterMap.contains(str)) {
-            Object value = parameterMap.get(str).getValue();
+        String name = substring(beginIndex, beginIndex + count);
+        String str;
+        boolean statementCall = false;
+        if (parameterSlots && parameterMap.contains(name)) {
+            Token slot = new ParameterToken(name, newLineOfCode);
+            newLineOfCode = false;
+            return slot;
+        } else if (parameterMap.contains(name)) {
+            Object value = parameterMap.get(name).getValue();
             str = value == null ? "null" : String.valueOf(value);
             //str = WordifyStringUtil.wordifyMethodOrFieldName(str);
         } else {
-            str = WordifyStringUtil.wordifyMethodOrFieldName(input, beginIndex, beginIndex + count);
+            str = WordifyStringUtil.wordifyMethodOrFieldName(name);
+            statementCall = newLineOfCode && get() == LEFT_PARENTHESIS;
         }
         if (newLineOfCode) {
             str = WordifyStringUtil.upperCaseFirstChar(str);
         }
         newLineOfCode = false;
-        return Optional.of(new Token(str, TokenType.DEFAULT));
+        return statementCall ? new MethodCallToken(str, name) : new Token(str, TokenType.DEFAULT);
     }
 
-    private Optional<Token>  handleNumber() {
+    private Token handleNumber() {
         int beginIndex = index();
         int count = 0;
         char ch = get();
@@ -180,7 +207,7 @@ public class TokenizeSource {
         }
         __println("<end> beginIndex: " + beginIndex + ", count: " + count + ", octal: " + octal);
         if (count == 0) {
-            return Optional.empty();
+            return null;
         }
 
         // consume if ends in .
@@ -188,15 +215,15 @@ public class TokenizeSource {
             count--;
         }
 
-        return Optional.of(new Token(substring(beginIndex, beginIndex + count), TokenType.NUMBER));
+        return new Token(original, beginIndex, beginIndex + count, TokenType.NUMBER);
     }
 
-    private Optional<Token> handleNewLine() {
+    private Token handleNewLine() {
         int beginIndex = index();
         incrementIndex();
 
         int endIndex = beginIndex + 1;
-        int whiteSpace = incrementIndexPastWhiteSpace(0);
+        int whiteSpace = incrementIndexPastWhiteSpace();
         int adjusted = 0;
 
         if (whiteSpace > startingWhiteSpace) {
@@ -206,15 +233,15 @@ public class TokenizeSource {
         if (adjusted == 0) {
             newLineOfCode = true;
         }
-        __println("<end> " + " handling new line whiteSpace: " + whiteSpace + ", adjusted whiteSpace: " + adjusted + "index: " + index + ", input.length: " + input.length + ", beginIndex: " + beginIndex + ", endIndex: " + endIndex);
+        __println("<end> " + " handling new line whiteSpace: " + whiteSpace + ", adjusted whiteSpace: " + adjusted + "index: " + index + ", length: " + length + ", beginIndex: " + beginIndex + ", endIndex: " + endIndex);
 
         if (beginIndex == endIndex) {
-            return Optional.empty();
+            return null;
         }
-        return Optional.of(new Token(substring(beginIndex, endIndex), TokenType.NEW_LINE));
+        return new Token(original, beginIndex, endIndex, TokenType.NEW_LINE);
     }
 
-    private Optional<Token> handleStringLiteral() {
+    private Token handleStringLiteral() {
         int beginIndex = index();
         __print("NEXT_STRING_LITERAL <start>");
         __print("'" + get() + "', ");
@@ -243,13 +270,13 @@ public class TokenizeSource {
         }
         __println("<end> beginIndex: " + beginIndex + ", count: " + count);
         if (count == 0) {
-            return Optional.empty();
+            return null;
         }
-        return Optional.of(new Token(substring(beginIndex, beginIndex + count), TokenType.STRING_LITERAL));
+        return new Token(original, beginIndex, beginIndex + count, TokenType.STRING_LITERAL);
     }
 
     /** you can only have 3 chars i.e. 'a'. But safer to loop. */
-    private Optional<Token> handleChar() {
+    private Token handleChar() {
         int beginIndex = index();
         __print("NEXT_CHAR <start>");
         __print("'" + get() + "', ");
@@ -273,9 +300,9 @@ public class TokenizeSource {
         }
         __println("<end> beginIndex: " + beginIndex + ", count: " + count);
         if (count == 0) {
-            return Optional.empty();
+            return null;
         }
-        return Optional.of(new Token(substring(beginIndex, beginIndex + count), TokenType.CHAR));
+        return new Token(original, beginIndex, beginIndex + count, TokenType.CHAR);
     }
 
     private int index() {
@@ -296,29 +323,29 @@ public class TokenizeSource {
     }
 
     private boolean inBounds() {
-        return index < input.length;
+        return index < length;
     }
 
     private boolean inBounds(int index) {
-        return index < input.length;
+        return index < length;
     }
 
     private char get() {
         if (inBounds()) {
-            return input[index];
+            return original.charAt(index);
         } else {
             return END;
         }
     }
 
     private char getPrevious() {
-        return input[index - 1];
+        return original.charAt(index - 1);
     }
 
     private char peekNext() {
         int next = index + 1;
         if (inBounds(next)) {
-            return input[next];
+            return original.charAt(next);
         } else {
             return END;
         }
@@ -328,31 +355,22 @@ public class TokenizeSource {
         return (ch == END);
     }
 
+    /** A loop rather than recursion, long runs of punctuation would otherwise overflow the stack */
     private void incrementIndexPastCharsBetweenFieldOrMethodNames() {
-        final char ch = get();
-        if (isEnd(ch) || ch == NEW_LINE) {
-            __println("DO_NOT_CONSUME: '" + ch + "', ");
-        } else if (!Character.isJavaIdentifierStart(ch) && !Character.isDigit(ch) && ch != DOUBLE_QUOTE && ch != SINGLE_QUOTE) {
+        char ch = get();
+        while (!isEnd(ch) && ch != NEW_LINE && !Character.isJavaIdentifierStart(ch) && !Character.isDigit(ch) && ch != DOUBLE_QUOTE && ch != SINGLE_QUOTE) {
             __println("CONSUME: '" + ch + "', ");
-            incrementIndex();
-            incrementIndexPastCharsBetweenFieldOrMethodNames();
+            ch = incrementIndexAndGet();
         }
+        __println("DO_NOT_CONSUME: '" + ch + "', ");
     }
 
-    private int incrementIndexPastWhiteSpace(int whiteSpace) {
-        final char ch = get();
-        boolean found = false;
-        if (ch == SPACE) {
-            whiteSpace++;
-            found = true;
-        } else if (ch == TAB) {
-            whiteSpace += 4;
-            found = true;
-        }
-
-        if (found) {
-            incrementIndex();
-            return incrementIndexPastWhiteSpace(whiteSpace);
+    private int incrementIndexPastWhiteSpace() {
+        int whiteSpace = 0;
+        char ch = get();
+        while (ch == SPACE || ch == TAB) {
+            whiteSpace += ch == TAB ? 4 : 1;
+            ch = incrementIndexAndGet();
         }
         return whiteSpace;
     }
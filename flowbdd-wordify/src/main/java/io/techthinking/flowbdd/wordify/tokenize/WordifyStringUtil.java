@@ -18,50 +18,72 @@
 
 package io.techthinking.flowbdd.wordify.tokenize;
 
+import java.nio.CharBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class WordifyStringUtil {
 
     private static boolean PRINT = false;
 
+    /**
+     * Identifier to words. The same helpers (givenX, whenY) recur across thousands of tests, once full new identifiers
+     * are wordified without being cached, so the first, most used, ones are kept.
+     */
+    private static final int WORDS_CACHE_SIZE = Integer.getInteger("flowbdd.wordify.identifier.cache.size", 4096);
+    private static final Map<String, String> wordsCache = new ConcurrentHashMap<>();
+
     public static String wordifyMethodOrFieldName(String input) {
-        return wordifyMethodOrFieldName(input.toCharArray(), 0, input.length());
+        String words = wordsCache.get(input);
+        if (words != null) {
+            return words;
+        }
+        words = wordifyMethodOrFieldName(input, 0, input.length());
+        if (wordsCache.size() < WORDS_CACHE_SIZE) {
+            wordsCache.putIfAbsent(input, words);
+        }
+        return words;
     }
 
     public static String wordifyMethodOrFieldName(char[] input, int from, int to) {
-        StringBuilder stringBuilder = new StringBuilder();
-        char ch;
-        char chPrevious = input[from];
+        return wordifyMethodOrFieldName(CharBuffer.wrap(input), from, to);
+    }
 
-        StringBuilder allCapsStringBuilder = new StringBuilder();
+    public static String wordifyMethodOrFieldName(CharSequence input, int from, int to) {
         boolean allCapsAssertion = true;
         for (int i = from; i < to; i++) {
-            if (Character.isLowerCase(input[i]))  {
+            if (Character.isLowerCase(input.charAt(i)))  {
                 allCapsAssertion = false;
                 break;
             }
-            allCapsStringBuilder.append(input[i]);
         }
         if (allCapsAssertion) {
-            __print(allCapsStringBuilder);
-            return allCapsStringBuilder.toString();
+            String allCaps = input.subSequence(from, to).toString();
+            __print(allCaps);
+            return allCaps;
         }
 
         // remove trailing underscores
-        for (int i = to - 1; i >= 0; i--) {
-            if (input[i] == '_') {
+        for (int i = to - 1; i >= from; i--) {
+            if (input.charAt(i) == '_') {
                 to--;
             } else {
                 break;
             }
         }
 
+        // each upper case char or digit transition may add a space
+        StringBuilder stringBuilder = new StringBuilder((to - from) + (to - from) / 2);
+        char ch;
+        char chPrevious = input.charAt(from);
         for (int i = from; i < to; i++) {
-            ch = input[i];
+            ch = input.charAt(i);
 
             // underscores get turned to spaces
             if (ch == '_') {
                 if (i != to - 1) {
                     if (chPrevious != '_') {
-                        stringBuilder.append(" ");
+                        stringBuilder.append(' ');
                     }
                 }
             }
@@ -69,7 +91,7 @@ public class WordifyStringUtil {
             // transition to digit
             else if (!Character.isDigit(chPrevious) && Character.isDigit(ch)) {
                 if (chPrevious != '_') {
-                    stringBuilder.append(" ");
+                    stringBuilder.append(' ');
                 }
                 stringBuilder.append(ch);
             }
@@ -77,14 +99,14 @@ public class WordifyStringUtil {
             // transition from digit to char
             else if (Character.isDigit(chPrevious) && !Character.isDigit(ch)) {
                 if (chPrevious != '_') {
-                    stringBuilder.append(" ");
+                    stringBuilder.append(' ');
                 }
                 stringBuilder.append(Character.toLowerCase(ch));
             }
 
             else if (Character.isUpperCase(ch)) {
                 if (chPrevious != '_') {
-                    stringBuilder.append(" ");
+                    stringBuilder.append(' ');
                 }
                 stringBuilder.append(Character.toLowerCase(ch));
             }
@@ -102,9 +124,13 @@ public class WordifyStringUtil {
     public static String upperCaseFirstChar(String input) {
         if (input.length() == 0) {
             return input;
-        } else {
-            return input.substring(0, 1).toUpperCase() + input.substring(1);
         }
+        char first = input.charAt(0);
+        char upper = Character.toUpperCase(first);
+        if (first == upper) {
+            return input;
+        }
+        return new StringBuilder(input.length()).append(upper).append(input, 1, input.length()).toString();
     }
 
     static private void __print(Object obj) {
@@ -0,0 +1,156 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify;
+
+import io.techthinking.flowbdd.wordify.legacy.TokenizeClass;
+import io.techthinking.flowbdd.wordify.tokenize.JavaSourceTokens;
+import io.techthinking.flowbdd.wordify.tokenize.TokenizeParameterMap;
+import io.techthinking.flowbdd.wordify.tokenize.TokenizeSource;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HelperExpanderTest {
+    private String developerName;
+    private int boost;
+
+    void developerDrinksCoffee() {
+        givenDeveloperIs("Alice");
+        whenDeveloperDrinksCoffee();
+    }
+
+    void developerDrinksMoreCoffee() {
+        givenDeveloperIs("Bob");
+        whenDeveloperDrinksCoffee();
+    }
+
+    private void givenDeveloperIs(String name) {
+        developerName = name;
+    }
+
+    private void whenDeveloperDrinksCoffee() {
+        drinkCoffee(developerName);
+    }
+
+    private void drinkCoffee(String name) {
+        boost = 40;
+    }
+
+    static class BaseScenario {
+        boolean called;
+
+        void givenTheBaseHelper() {
+            called = true;
+        }
+    }
+
+    static class Scenario extends BaseScenario {
+        void scenario() {
+            givenTheBaseHelper();
+        }
+    }
+
+    @Test
+    void expandsHelpersUnderTheLineThatCallsThem() throws NoSuchMethodException {
+        assertThat(wordify(1, this.getClass().getDeclaredMethod("developerDrinksCoffee"))).isEqualTo("" +
+            "Given developer is \"Alice\"\n" +
+            "    Developer name name\n" +
+            "When developer drinks coffee\n" +
+            "    Drink coffee developer name");
+    }
+
+    @Test
+    void expandsHelpersOfHelpersToTheDepth() throws NoSuchMethodException {
+        assertThat(wordify(2, this.getClass().getDeclaredMethod("developerDrinksCoffee"))).isEqualTo("" +
+            "Given developer is \"Alice\"\n" +
+            "    Developer name name\n" +
+            "When developer drinks coffee\n" +
+            "    Drink coffee developer name\n" +
+            "        Boost 40");
+    }
+
+    @Test
+    void noExpansionByDefault() throws NoSuchMethodException {
+        assertThat(wordify(0, this.getClass().getDeclaredMethod("developerDrinksCoffee"))).isEqualTo("" +
+            "Given developer is \"Alice\"\n" +
+            "When developer drinks coffee");
+    }
+
+    @Test
+    void expandsHelpersFromSuperclasses() throws NoSuchMethodException {
+        assertThat(wordify(1, Scenario.class.getDeclaredMethod("scenario"))).isEqualTo("" +
+            "Given the base helper\n" +
+            "    Called true");
+    }
+
+    @Test
+    void expandsEachHelperOnce() {
+        HelperExpander helperExpander = new HelperExpander(new MethodExtractor(), 2);
+
+        String first = helperExpander.expand(this.getClass(), tokenize("givenDeveloperIs(\"Alice\");\nwhenDeveloperDrinksCoffee();")).asString();
+        int size = helperExpander.size();
+        String second = helperExpander.expand(this.getClass(), tokenize("givenDeveloperIs(\"Bob\");\nwhenDeveloperDrinksCoffee();")).asString();
+
+        assertThat(second).isEqualTo(first.replace("Alice", "Bob"));
+        // givenDeveloperIs and whenDeveloperDrinksCoffee at depth 2, drinkCoffee at depth 1
+        assertThat(size).isEqualTo(3);
+        assertThat(helperExpander.size()).isEqualTo(size);
+    }
+
+    @Test
+    void looksUpACallThatIsNotAHelperOnce() {
+        AtomicInteger lookups = new AtomicInteger();
+        HelperExpander helperExpander = new HelperExpander(new MethodExtractor() {
+            @Override
+            public Optional<String> methodSource(Class<?> clazz, String methodName) {
+                lookups.incrementAndGet();
+                return super.methodSource(clazz, methodName);
+            }
+        }, 1);
+
+        helperExpander.expand(Scenario.class, tokenize("assertThat(called);"));
+        int firstLookups = lookups.get();
+        helperExpander.expand(Scenario.class, tokenize("assertThat(called);"));
+
+        // Scenario then BaseScenario
+        assertThat(firstLookups).isEqualTo(2);
+        assertThat(lookups).hasValue(firstLookups);
+    }
+
+    @Test
+    void onlyCallsThatStartAStatementAreExpanded() {
+        HelperExpander helperExpander = new HelperExpander(new MethodExtractor(), 1);
+
+        assertThat(helperExpander.expand(this.getClass(), tokenize("assertThat(givenDeveloperIs(\"Alice\"));")).asString())
+            .isEqualTo("Assert that given developer is \"Alice\"");
+    }
+
+    private static JavaSourceTokens tokenize(String source) {
+        return new TokenizeSource(source, new TokenizeParameterMap()).tokenize();
+    }
+
+    private static String wordify(int depth, Method method) {
+        return new TokenizeClass(new MethodExtractor(), depth).tokenizeInvocation(method, emptyList()).asString();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.index;
+
+import io.techthinking.flowbdd.wordify.IndexedMethodExtractor;
+import io.techthinking.flowbdd.wordify.sourcecode.SourceLocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersistentWordifyCacheTest {
+    @TempDir
+    Path sourceRoot;
+    @TempDir
+    Path cacheDirectory;
+
+    private Path sourceFile;
+    private Method cachedMethod;
+
+    void cachedMethod(String value) {
+    }
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        sourceFile = sourceRoot.resolve(getClass().getName().replace('.', '/') + ".java");
+        cachedMethod = getClass().getDeclaredMethod("cachedMethod", String.class);
+    }
+
+    @Test
+    void writesAnEntryOnAMissThatALaterRunReads() throws IOException {
+        writeSource("first(value);");
+        assertThat(source(new PersistentWordifyCache(cacheDirectory, Long.MAX_VALUE, locator()))).isEqualTo("first(value);");
+
+        Path entry = single(entries());
+        String contents = new String(Files.readAllBytes(entry), StandardCharsets.ISO_8859_1);
+        Files.write(entry, contents.replace("first", "fromTheEntry").getBytes(StandardCharsets.ISO_8859_1));
+
+        assertThat(source(new PersistentWordifyCache(cacheDirectory, Long.MAX_VALUE, locator()))).isEqualTo("fromTheEntry(value);");
+    }
+
+    @Test
+    void keepsNonLatin1CharactersInAnEntry() throws IOException {
+        writeSource("thenTheGreetingIs(\"\u041f\u0440\u0438\u0432\u0435\u0442\");");
+        String parsed = source(new PersistentWordifyCache(cacheDirectory, Long.MAX_VALUE, locator()));
+
+        assertThat(source(new PersistentWordifyCache(cacheDirectory, Long.MAX_VALUE, locator()))).isEqualTo(parsed);
+        assertThat(parsed).doesNotContain("?");
+    }
+
+    @Test
+    void aChangedSourceHasANewEntry() throws IOException {
+        writeSource("first(value);");
+        SourceLocator sourceLocator = locator();
+        PersistentWordifyCache cache = new PersistentWordifyCache(cacheDirectory, Long.MAX_VALUE, sourceLocator);
+        assertThat(source(cache)).isEqualTo("first(value);");
+
+        writeSource("changedTheSecondTime(value);");
+        sourceLocator.refresh();
+        assertThat(source(cache)).isEqualTo("changedTheSecondTime(value);");
+        assertThat(entries()).hasSize(2);
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntries() throws IOException {
+        writeSource("first(value);");
+        source(new PersistentWordifyCache(cacheDirectory, Long.MAX_VALUE, locator()));
+        Path firstEntry = single(entries());
+        Files.setLastModifiedTime(firstEntry, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+
+        long maxBytes = Files.size(firstEntry) * 3 / 2;
+        writeSource("secondx(value);");
+        assertThat(source(new PersistentWordifyCache(cacheDirectory, maxBytes, locator()))).isEqualTo("secondx(value);");
+
+        Path secondEntry = single(entries());
+        assertThat(secondEntry).isNotEqualTo(firstEntry);
+    }
+
+    @Test
+    void evictsOnceItsWritesTakeTheDirectoryOverTheMaximum() throws IOException {
+        writeSource("first(value);");
+        SourceLocator sourceLocator = locator();
+        source(new PersistentWordifyCache(cacheDirectory, Long.MAX_VALUE, sourceLocator));
+        Path firstEntry = single(entries());
+        Files.setLastModifiedTime(firstEntry, FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+        PersistentWordifyCache cache = new PersistentWordifyCache(cacheDirectory, Files.size(firstEntry) * 5 / 2, sourceLocator);
+
+        writeSource("secondx(value);");
+        sourceLocator.refresh();
+        source(cache);
+        assertThat(entries()).hasSize(2);
+
+        writeSource("thirdxx(value);");
+        sourceLocator.refresh();
+        assertThat(source(cache)).isEqualTo("thirdxx(value);");
+        assertThat(entries()).hasSize(2).doesNotContain(firstEntry);
+    }
+
+    @Test
+    void concurrentRunsShareOneEntry() throws Exception {
+        writeSource("first(value);");
+        int runs = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(runs);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> sources = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                PersistentWordifyCache cache = new PersistentWordifyCache(cacheDirectory, Long.MAX_VALUE, locator());
+                sources.add(executor.submit(() -> {
+                    start.await();
+                    return source(cache);
+                }));
+            }
+            start.countDown();
+            for (Future<String> source : sources) {
+                assertThat(source.get()).isEqualTo("first(value);");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(entries()).hasSize(1);
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertThat(files.collect(toList())).hasSize(1);
+        }
+    }
+
+    @Test
+    void aClassWithoutSourceIsNotCached() throws IOException {
+        PersistentWordifyCache cache = new PersistentWordifyCache(cacheDirectory, Long.MAX_VALUE, locator());
+
+        assertThat(cache.find(cachedMethod)).isEmpty();
+        assertThat(entries()).isEmpty();
+    }
+
+    @Test
+    void theExtractorFallsBackToTheCacheAfterTheIndex() throws IOException {
+        writeSource("first(value);");
+        PersistentWordifyCache cache = new PersistentWordifyCache(cacheDirectory, Long.MAX_VALUE, locator());
+        IndexedMethodExtractor methodExtractor = new IndexedMethodExtractor(WordifyIndex.empty(), cache);
+
+        assertThat(methodExtractor.methodSource(getClass(), "cachedMethod").get().trim()).isEqualTo("first(value);");
+        assertThat(methodExtractor.methodWrapper(cachedMethod, singletonList("a value")).getParameters())
+            .hasSize(1);
+    }
+
+    private void writeSource(String body) throws IOException {
+        Files.createDirectories(sourceFile.getParent());
+        String source = "package " + getClass().getPackage().getName() + ";\n" +
+            "class " + getClass().getSimpleName() + " {\n" +
+            "    void cachedMethod(String value) {\n" +
+            "        " + body + "\n" +
+            "    }\n" +
+            "}\n";
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String source(PersistentWordifyCache cache) {
+        return cache.find(cachedMethod).get().getSource().trim();
+    }
+
+    private SourceLocator locator() {
+        return new SourceLocator(singletonList(sourceRoot));
+    }
+
+    private List<Path> entries() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            return files.filter(f -> f.toString().endsWith(PersistentWordifyCache.ENTRY_SUFFIX)).collect(toList());
+        }
+    }
+
+    private static Path single(List<Path> paths) {
+        assertThat(paths).hasSize(1);
+        return paths.get(0);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.index;
+
+import io.techthinking.flowbdd.wordify.IndexedMethodExtractor;
+import io.techthinking.flowbdd.wordify.MethodExtractor;
+import io.techthinking.flowbdd.wordify.sourcecode.MethodWrapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordifyIndexTest {
+    private static final Path TEST_SOURCES = Paths.get("src", "test", "java");
+
+    @Test
+    void methodNoParams() {
+        assertThat(true).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "value 1" })
+    void methodWithParams(String key) {
+        passingAssertionWith(key);
+    }
+
+    private void passingAssertionWith(Object param) {
+    }
+
+    @Test
+    void generatesAnEntryForEachMethod() throws IOException {
+        Properties properties = new WordifyIndexGenerator().generate(singletonList(TEST_SOURCES));
+        WordifyIndex index = WordifyIndex.fromProperties(properties);
+
+        IndexedMethod method = index.find(this.getClass(), "methodWithParams").get();
+        assertThat(method.getSource().trim()).isEqualTo("passingAssertionWith(key);");
+        assertThat(method.getParameterNames()).isEqualTo(singletonList("key"));
+        assertThat(method.getParameterTypes()).isEqualTo(singletonList("java.lang.String"));
+        assertThat(index.find(this.getClass(), "doesNotExistMethod")).isEmpty();
+    }
+
+    @Test
+    void findsTheOverloadByItsSignature() throws IOException, NoSuchMethodException {
+        WordifyIndex index = WordifyIndex.fromProperties(new WordifyIndexGenerator().generate(singletonList(TEST_SOURCES)));
+
+        IndexedMethod method = index.find(this.getClass().getDeclaredMethod("methodWithParams", String.class)).get();
+        assertThat(method.getSource().trim()).isEqualTo("passingAssertionWith(key);");
+        assertThat(index.find(this.getClass().getDeclaredMethod("passingAssertionWith", Object.class))).isPresent();
+    }
+
+    @Test
+    void indexedMethodMatchesTheQDoxMethod(@TempDir Path tempDir) throws IOException {
+        new WordifyIndexGenerator().write(tempDir.resolve(WordifyIndex.RESOURCE), singletonList(TEST_SOURCES));
+        WordifyIndex index;
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tempDir.toUri().toURL()}, null)) {
+            index = WordifyIndex.fromClassLoader(classLoader);
+        }
+
+        MethodWrapper indexed = new IndexedMethodExtractor(index).methodWrapper(this.getClass(), "methodWithParams", singletonList("value 1"));
+        MethodWrapper parsed = new MethodExtractor().methodWrapper(this.getClass(), "methodWithParams", singletonList("value 1"));
+        assertThat(indexed).isEqualTo(parsed);
+
+        indexed = new IndexedMethodExtractor(index).methodWrapper(this.getClass(), "methodNoParams");
+        parsed = new MethodExtractor().methodWrapper(this.getClass(), "methodNoParams");
+        assertThat(indexed).isEqualTo(parsed);
+    }
+
+    @Test
+    void keepsNonLatin1CharactersWhenWritten(@TempDir Path tempDir) throws IOException {
+        String greeting = "thenTheGreetingIs(\"\u041f\u0440\u0438\u0432\u0435\u0442\");";
+        Properties properties = new WordifyIndexGenerator().generate(singletonList(TEST_SOURCES));
+        String key = properties.stringPropertyNames().stream()
+            .filter(name -> name.startsWith(this.getClass().getName() + "#methodNoParams("))
+            .findFirst().get();
+        properties.setProperty(key, greeting);
+
+        Path resource = tempDir.resolve(WordifyIndex.RESOURCE);
+        Files.createDirectories(resource.getParent());
+        Files.write(resource, WordifyIndexGenerator.asBytes(properties));
+        WordifyIndex index;
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tempDir.toUri().toURL()}, null)) {
+            index = WordifyIndex.fromClassLoader(classLoader);
+        }
+
+        assertThat(index.find(this.getClass(), "methodNoParams").get().getSource()).isEqualTo(greeting);
+    }
+
+    @Test
+    void fallsBackToQDoxOnAMiss() {
+        MethodWrapper method = new IndexedMethodExtractor(WordifyIndex.empty()).methodWrapper(this.getClass(), "methodWithParams", asList("value 1"));
+        assertThat(method.getSource().trim()).isEqualTo("passingAssertionWith(key);");
+        assertThat(method.getParameters().get(0).getParameter()).isNotNull();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.sourcecode;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaSourceCacheTest {
+    private final SourceLocator sourceLocator = new SourceLocator(SourceLocator.defaultRoots());
+    private final JavaSourceCache cache = new JavaSourceCache(sourceLocator);
+
+    @Test
+    void parsesEachClassOnce() throws IOException {
+        JavaSourceWrapper first = cache.get(this.getClass());
+        JavaSourceWrapper second = cache.get(this.getClass());
+        assertThat(second).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void reparsesWhenTheSourceLocatorSeesTheSourceFileModified() throws IOException {
+        File sourceFile = sourceLocator.find(this.getClass()).get().getPath().toFile();
+        long lastModified = sourceFile.lastModified();
+        JavaSourceWrapper first = cache.get(this.getClass());
+        try {
+            assertThat(sourceFile.setLastModified(lastModified - 60_000)).isTrue();
+            assertThat(cache.get(this.getClass())).isSameAs(first);
+            sourceLocator.refresh();
+            assertThat(cache.get(this.getClass())).isNotSameAs(first);
+        } finally {
+            sourceFile.setLastModified(lastModified);
+        }
+    }
+
+    @Test
+    void reparsesAfterInvalidate() throws IOException {
+        JavaSourceWrapper first = cache.get(this.getClass());
+        cache.invalidate(this.getClass());
+        assertThat(cache.get(this.getClass())).isNotSameAs(first);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.sourcecode;
+
+import com.thoughtworks.qdox.JavaProjectBuilder;
+import com.thoughtworks.qdox.model.JavaClass;
+import com.thoughtworks.qdox.model.JavaMethod;
+import com.thoughtworks.qdox.model.JavaParameter;
+import com.thoughtworks.qdox.model.JavaSource;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MethodBodyScannerTest {
+    private static final String SOURCE = "" +
+        "package io.techthinking.example;\n" +
+        "// a comment {\n" +
+        "public class Sample<T extends Number> {\n" +
+        "    private String text = \"}{\";\n" +
+        "    private int[] numbers = {1, 2};\n" +
+        "    private Runnable runnable = () -> { };\n" +
+        "    /** doc { */\n" +
+        "    @Deprecated\n" +
+        "    public void braces(final String value, int... numbers) throws Exception {\n" +
+        "        // value }\n" +
+        "        String text = \"a}b\"; char c = '}'; char quote = '\\'';\n" +
+        "        if (value != null) { run(() -> { return; }); }\n" +
+        "    }\n" +
+        "\n" +
+        "    Sample(String text) { this.text = text; }\n" +
+        "\n" +
+        "    @ValueSource(strings = { \"value 1\" })\n" +
+        "    <E> E generic(java.util.List<java.util.Map<String, E>> list, T t, String args[]) {return null;}\n" +
+        "\n" +
+        "    String textBlock() {\n" +
+        "        return \"\"\"\n" +
+        "            text } block \\\"\"\"\n" +
+        "            \"\"\";\n" +
+        "    }\n" +
+        "\n" +
+        "    static class Inner { void inner() { new Object() { void anonymous() { } }; } }\n" +
+        "\n" +
+        "    enum Colour { RED, GREEN(\"g\") { void constant() { } }; Colour() { } Colour(String s) { } void colour() { x(); } }\n" +
+        "\n" +
+        "    interface Api { void abstractMethod(String s); default void defaultMethod() { } }\n" +
+        "\n" +
+        "    @interface Marker { String value() default \"{\"; }\n" +
+        "}\n";
+
+    private final ScannedSource scannedSource = MethodBodyScanner.scan(SOURCE).get();
+
+    @Test
+    void findsTheMethodsOfEachClass() {
+        assertThat(names("io.techthinking.example.Sample")).containsExactly("braces", "generic", "textBlock");
+        assertThat(names("io.techthinking.example.Sample$Inner")).containsExactly("inner");
+        assertThat(names("io.techthinking.example.Sample$Colour")).containsExactly("colour");
+        assertThat(names("io.techthinking.example.Sample$Api")).containsExactly("defaultMethod");
+        assertThat(names("io.techthinking.example.Sample$Marker")).isEmpty();
+    }
+
+    @Test
+    void skipsBracesInCommentsAndLiterals() {
+        assertThat(method("io.techthinking.example.Sample", "braces").getSource()).isEqualTo("\n" +
+            "        // value }\n" +
+            "        String text = \"a}b\"; char c = '}'; char quote = '\\'';\n" +
+            "        if (value != null) { run(() -> { return; }); }\n" +
+            "    ");
+        assertThat(method("io.techthinking.example.Sample", "textBlock").getSource().trim())
+            .startsWith("return \"\"\"")
+            .endsWith("\"\"\";");
+    }
+
+    @Test
+    void recordsWhereTheBodyIs() {
+        ScannedMethod method = method("io.techthinking.example.Sample$Inner", "inner");
+        assertThat(SOURCE.charAt(method.getBegin() - 1)).isEqualTo('{');
+        assertThat(SOURCE.charAt(method.getEnd())).isEqualTo('}');
+        assertThat(method.getSource()).isEqualTo(" new Object() { void anonymous() { } }; ");
+    }
+
+    @Test
+    void readsTheParameters() {
+        ScannedMethod braces = method("io.techthinking.example.Sample", "braces");
+        assertThat(braces.getParameterNames()).containsExactly("value", "numbers");
+        assertThat(braces.getParameterTypes()).containsExactly("String", "int...");
+
+        ScannedMethod generic = method("io.techthinking.example.Sample", "generic");
+        assertThat(generic.getParameterNames()).containsExactly("list", "t", "args");
+        assertThat(generic.getParameterTypes()).containsExactly("java.util.List<java.util.Map<String, E>>", "T", "String[]");
+        assertThat(method("io.techthinking.example.Sample", "textBlock").getParameterNames()).isEmpty();
+    }
+
+    @Test
+    void leavesWhatItCantReadToQDox() {
+        assertThat(MethodBodyScanner.scan("class A { void a() { }")).isEmpty();
+        assertThat(MethodBodyScanner.scan("class A { void a() { } } }")).isEmpty();
+        assertThat(MethodBodyScanner.scan("class A { /* void a() { } }")).isEmpty();
+        assertThat(MethodBodyScanner.scan("class A { void a() { String s = \"}; } }")).isEmpty();
+    }
+
+    @Test
+    void erasesDeclaredTypesToTheirSimpleNames() {
+        assertThat(ScannedSource.simpleErasure("java.util.List<java.util.Map<String, E>>")).isEqualTo("List");
+        assertThat(ScannedSource.simpleErasure("String...")).isEqualTo("String[]");
+        assertThat(ScannedSource.simpleErasure("Map.Entry<K, V>[]")).isEqualTo("Entry[]");
+    }
+
+    @Test
+    void findsTheSameMethodsAsQDox() throws IOException {
+        int compared = 0;
+        for (Path root : SourceLocator.defaultRoots()) {
+            try (Stream<Path> files = Files.walk(root)) {
+                for (Path file : files.filter(path -> path.toString().endsWith(".java")).collect(toList())) {
+                    compared += compareWithQDox(file);
+                }
+            }
+        }
+        assertThat(compared).isGreaterThan(100);
+    }
+
+    private static int compareWithQDox(Path file) throws IOException {
+        JavaSource javaSource;
+        try {
+            JavaProjectBuilder builder = new JavaProjectBuilder();
+            builder.setEncoding(StandardCharsets.UTF_8.name());
+            javaSource = builder.addSource(file.toFile());
+        } catch (RuntimeException e) {
+            // QDox 2.0 can't parse every newer language feature, there's nothing to compare with
+            return 0;
+        }
+        ScannedSource scanned = MethodBodyScanner.scan(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)).get();
+        int compared = 0;
+        for (JavaClass javaClass : javaSource.getClasses()) {
+            compared += compareWithQDox(file, javaClass, scanned);
+        }
+        return compared;
+    }
+
+    private static int compareWithQDox(Path file, JavaClass javaClass, ScannedSource scanned) {
+        List<ScannedMethod> scannedMethods = scanned.getMethods(javaClass.getBinaryName());
+        List<JavaMethod> methods = javaClass.getMethods().stream()
+            .filter(method -> hasBody(javaClass, method))
+            .collect(toList());
+        assertThat(scannedMethods.stream().map(ScannedMethod::getName).collect(toList()))
+            .as(file + " " + javaClass.getBinaryName())
+            .isEqualTo(methods.stream().map(JavaMethod::getName).collect(toList()));
+        int compared = 0;
+        for (int i = 0; i < methods.size(); i++) {
+            assertThat(scannedMethods.get(i).getSource()).as(file + " " + methods.get(i)).isEqualTo(methods.get(i).getSourceCode());
+            assertThat(scannedMethods.get(i).getParameterNames()).as(file + " " + methods.get(i))
+                .isEqualTo(methods.get(i).getParameters().stream().map(JavaParameter::getName).collect(toList()));
+            compared++;
+        }
+        for (JavaClass nestedClass : javaClass.getNestedClasses()) {
+            compared += compareWithQDox(file, nestedClass, scanned);
+        }
+        return compared;
+    }
+
+    private static boolean hasBody(JavaClass javaClass, JavaMethod method) {
+        if (javaClass.isAnnotation()) {
+            return false;
+        }
+        if (javaClass.isInterface()) {
+            return method.isDefault() || method.isStatic();
+        }
+        return !method.isAbstract() && !method.isNative();
+    }
+
+    private List<String> names(String className) {
+        return scannedSource.getMethods(className).stream().map(ScannedMethod::getName).collect(toList());
+    }
+
+    private ScannedMethod method(String className, String methodName) {
+        return scannedSource.getMethods(className).stream()
+            .filter(method -> method.getName().equals(methodName))
+            .findFirst()
+            .get();
+    }
+}
@@ -19,11 +19,12 @@
 package io.techthinking.flowbdd.wordify.sourcecode;
 
 import io.techthinking.flowbdd.wordify.MethodExtractor;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.lang.reflect.Method;
+
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,11 +45,43 @@ class MethodExtractorTest {
     private void passingAssertionWith(Object param) {
     }
 
-    //TODO handle unhappy path
-    @Disabled
+    private void overloaded(String value) {
+        givenAString(value);
+    }
+
+    private void overloaded(int value) {
+        givenAnInt(value);
+    }
+
+    private void givenAString(String value) {
+    }
+
+    private void givenAnInt(int value) {
+    }
+
     @Test
     void wordifyMethodNotFound() {
         MethodWrapper method = new MethodExtractor().methodWrapper(this.getClass(), "doesNotExistMethod");
+        assertThat(method.getSource()).isEqualTo("Could not find method: doesNotExistMethod");
+        assertThat(method.getParameters()).isEmpty();
+    }
+
+    @Test
+    void extractMethodByExactName() {
+        MethodWrapper method = new MethodExtractor().methodWrapper(this.getClass(), "methodNo");
+        assertThat(method.getSource()).isEqualTo("Could not find method: methodNo");
+    }
+
+    @Test
+    void extractTheOverloadThatRan() throws NoSuchMethodException {
+        Method intOverload = this.getClass().getDeclaredMethod("overloaded", int.class);
+        MethodWrapper method = new MethodExtractor().methodWrapper(intOverload, singletonList(1));
+        assertThat(method.getSource().trim()).isEqualTo("givenAnInt(value);");
+        assertThat(method.getParameters().get(0).getType()).isEqualTo("int");
+
+        Method stringOverload = this.getClass().getDeclaredMethod("overloaded", String.class);
+        method = new MethodExtractor().methodWrapper(stringOverload, singletonList("value"));
+        assertThat(method.getSource().trim()).isEqualTo("givenAString(value);");
     }
 
     @Test
@@ -77,4 +110,18 @@ class MethodExtractorTest {
         assertThat(parameter.getValue()).isNull();
         assertThat(method.getSource().trim()).isEqualTo("passingAssertionWith(key);");
     }
-}
\ No newline at end of file
+
+    @Test
+    void scanTheSourceBeforeParsingItWithQDox() throws NoSuchMethodException {
+        MethodExtractor methodExtractor = new MethodExtractor(new JavaSourceCache(), new ScannedSourceCache());
+
+        MethodWrapper method = methodExtractor.methodWrapper(this.getClass(), "methodWithParams", singletonList("value 1"));
+        assertThat(method.getSource().trim()).isEqualTo("passingAssertionWith(key);");
+        assertThat(method.getParameters()).containsExactly(new ParameterWrapper("key", "Object", "value 1"));
+
+        Method intOverload = this.getClass().getDeclaredMethod("overloaded", int.class);
+        assertThat(methodExtractor.methodWrapper(intOverload, singletonList(1)).getSource().trim()).isEqualTo("givenAnInt(value);");
+
+        assertThat(methodExtractor.methodWrapper(this.getClass(), "doesNotExistMethod").getSource()).isEqualTo("Could not find method: doesNotExistMethod");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.sourcecode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MethodSignatureTest {
+
+    <T extends Number> void generic(T value, List<String> values, T[] array) {
+    }
+
+    void varargs(String... values) {
+    }
+
+    void arrays(int[][] values, Nested nested) {
+    }
+
+    static class Nested {
+    }
+
+    static class Box<X extends CharSequence> {
+        void put(X value) {
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "generic", "varargs", "arrays" })
+    void sourceAndRuntimeSignaturesMatch(String methodName) throws IOException {
+        Method method = declaredMethod(this.getClass(), methodName);
+        JavaSourceWrapper sourceWrapper = new JavaSourceWrapper(this.getClass());
+
+        assertThat(MethodSignature.of(sourceWrapper.findMethod(methodName).get())).isEqualTo(MethodSignature.of(method));
+        assertThat(sourceWrapper.findMethod(method)).isEqualTo(sourceWrapper.findMethod(methodName));
+    }
+
+    @Test
+    void classTypeVariablesAreErased() throws IOException {
+        Method method = declaredMethod(Box.class, "put");
+        JavaSourceWrapper sourceWrapper = new JavaSourceWrapper(Box.class);
+
+        assertThat(MethodSignature.of(method)).isEqualTo("put(java.lang.CharSequence)");
+        assertThat(MethodSignature.of(sourceWrapper.findMethod("put").get())).isEqualTo("put(java.lang.CharSequence)");
+    }
+
+    @Test
+    void runtimeSignature() {
+        assertThat(MethodSignature.of(declaredMethod(this.getClass(), "arrays")))
+            .isEqualTo("arrays(int[][],io.techthinking.flowbdd.wordify.sourcecode.MethodSignatureTest$Nested)");
+        assertThat(MethodSignature.of(declaredMethod(this.getClass(), "generic")))
+            .isEqualTo("generic(java.lang.Number,java.util.List,java.lang.Number[])");
+    }
+
+    private static Method declaredMethod(Class<?> clazz, String methodName) {
+        return Stream.of(clazz.getDeclaredMethods()).filter(m -> m.getName().equals(methodName)).findFirst().get();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.sourcecode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SourceLocatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void findsTheSourceOfThisClass() {
+        SourceLocator sourceLocator = new SourceLocator(SourceLocator.defaultRoots());
+        assertThat(sourceLocator.find(this.getClass()).get().getPath())
+            .isEqualTo(Paths.get("src", "test", "java", "io", "techthinking", "flowbdd", "wordify", "sourcecode", "SourceLocatorTest.java").toAbsolutePath());
+    }
+
+    @Test
+    void findsNestedClassesInTheTopLevelSource() {
+        SourceLocator sourceLocator = new SourceLocator(SourceLocator.defaultRoots());
+        assertThat(sourceLocator.find(Map.Entry.class)).isEmpty();
+        assertThat(sourceLocator.find(Nested.class)).isEqualTo(sourceLocator.find(this.getClass()));
+    }
+
+    @Test
+    void findsClassesAcrossRoots() throws IOException {
+        Path first = writeSource(tempDir.resolve("first"), "a/First.java");
+        Path second = writeSource(tempDir.resolve("second"), "b/Second.java");
+        SourceLocator sourceLocator = new SourceLocator(asList(tempDir.resolve("first"), tempDir.resolve("second")));
+
+        assertThat(sourceLocator.size()).isEqualTo(2);
+        assertThat(sourceLocator.find("a.First").get().getPath()).isEqualTo(first);
+        assertThat(sourceLocator.find("b.Second").get().getPath()).isEqualTo(second);
+        assertThat(sourceLocator.findBySimpleName("Second")).contains("b.Second");
+    }
+
+    @Test
+    void theFirstRootWins() throws IOException {
+        Path first = writeSource(tempDir.resolve("first"), "a/Same.java");
+        writeSource(tempDir.resolve("second"), "a/Same.java");
+        SourceLocator sourceLocator = new SourceLocator(asList(tempDir.resolve("first"), tempDir.resolve("second")));
+
+        assertThat(sourceLocator.find("a.Same").get().getPath()).isEqualTo(first);
+    }
+
+    @Test
+    void refreshOnlyReplacesChangedEntries() throws IOException {
+        Path root = tempDir.resolve("root");
+        writeSource(root, "a/Unchanged.java");
+        Path changed = writeSource(root, "a/Changed.java");
+        Path removed = writeSource(root, "a/Removed.java");
+        SourceLocator sourceLocator = new SourceLocator(singletonList(root));
+        SourceFile unchangedBefore = sourceLocator.find("a.Unchanged").get();
+        SourceFile changedBefore = sourceLocator.find("a.Changed").get();
+
+        assertThat(changed.toFile().setLastModified(changedBefore.getLastModified() - 60_000)).isTrue();
+        Files.delete(removed);
+        writeSource(root, "a/Added.java");
+        sourceLocator.refresh();
+
+        assertThat(sourceLocator.find("a.Unchanged").get()).isSameAs(unchangedBefore);
+        assertThat(sourceLocator.find("a.Changed").get()).isNotEqualTo(changedBefore);
+        assertThat(sourceLocator.find("a.Removed")).isEmpty();
+        assertThat(sourceLocator.find("a.Added")).isPresent();
+    }
+
+    @Test
+    void aMissDoesNotWalkTheRoots() throws IOException {
+        Path root = tempDir.resolve("root");
+        SourceLocator sourceLocator = new SourceLocator(singletonList(root));
+        writeSource(root, "a/Late.java");
+
+        assertThat(sourceLocator.find("a.Late")).isEmpty();
+        sourceLocator.refresh();
+        assertThat(sourceLocator.find("a.Late")).isPresent();
+    }
+
+    @Test
+    void discoversSourceRootsWithTestRootsFirst() throws IOException {
+        Files.createFile(tempDir.resolve("settings.gradle.kts"));
+        Path module = Files.createDirectories(tempDir.resolve("module"));
+        Path main = Files.createDirectories(module.resolve(Paths.get("src", "main", "java")));
+        Path test = Files.createDirectories(module.resolve(Paths.get("src", "test", "java")));
+        Files.createDirectories(module.resolve(Paths.get("build", "src", "test", "java")));
+
+        assertThat(SourceLocator.buildRoot(module)).isEqualTo(tempDir);
+        assertThat(SourceLocator.discoverRoots(tempDir)).containsExactly(test, main);
+    }
+
+    private static Path writeSource(Path root, String relativePath) throws IOException {
+        Path source = root.resolve(relativePath);
+        Files.createDirectories(source.getParent());
+        return Files.write(source, "class Source {}".getBytes());
+    }
+
+    static class Nested {
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.wordify.tokenize;
+
+import io.techthinking.flowbdd.wordify.MethodExtractor;
+import io.techthinking.flowbdd.wordify.legacy.TokenizeClass;
+import io.techthinking.flowbdd.wordify.sourcecode.MethodWrapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaSourceTokensTemplateTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "value 1" })
+    void methodWithParams(String key) {
+        passingAssertionWith(key);
+    }
+
+    private void passingAssertionWith(Object param) {
+    }
+
+    @Test
+    void parametersBecomeSlots() {
+        JavaSourceTokensTemplate template = JavaSourceTokensTemplate.create("doSomething(paramName);", singletonList("paramName"));
+        assertThat(template.getTokens().getTokens()).containsExactly(
+            new Token("Do something", TokenType.DEFAULT),
+            new ParameterToken("paramName", false));
+    }
+
+    @Test
+    void bindsTheSameTokensAsTokenizingWithValues() {
+        String source = "" +
+            "        given(aBook(isbn, quantity));\n" +
+            "        then(theBookIs(isbn)\n" +
+            "            .withQuantity(quantity));";
+        JavaSourceTokensTemplate template = JavaSourceTokensTemplate.create(source, asList("isbn", "quantity"));
+
+        List<List<Object>> invocations = asList(asList("isbn-1", 1), asList("isbn-2", null), asList("isbn-3", 3L));
+        for (List<Object> values : invocations) {
+            assertThat(template.bind(values)).isEqualTo(tokenizeWithValues(source, values));
+        }
+    }
+
+    @Test
+    void upperCasesASlotAtTheStartOfALine() {
+        JavaSourceTokensTemplate template = JavaSourceTokensTemplate.create("key.isValid();", singletonList("key"));
+        assertThat(template.asString(singletonList("value"))).isEqualTo("Value is valid");
+    }
+
+    @Test
+    void wordifiesASlotWithoutAValue() {
+        JavaSourceTokensTemplate template = JavaSourceTokensTemplate.create("doSomething(paramName);", singletonList("paramName"));
+        assertThat(template.asString(emptyList())).isEqualTo("Do something param name");
+    }
+
+    @Test
+    void tokenizesEachMethodOnce() {
+        TokenizeClass tokenizeClass = new TokenizeClass(new MethodExtractor());
+        TemplateInvocation first = tokenizeClass.tokenizeInvocation(this.getClass(), "methodWithParams", singletonList("value 1"));
+        TemplateInvocation second = tokenizeClass.tokenizeInvocation(this.getClass(), "methodWithParams", singletonList("value 2"));
+
+        assertThat(second.getTemplate()).isSameAs(first.getTemplate());
+        assertThat(first.asString()).isEqualTo("Passing assertion with value 1");
+        assertThat(second.asString()).isEqualTo("Passing assertion with value 2");
+    }
+
+    @Test
+    void looksUpTheMethodOnceWhileItsSourceIsUnchanged() {
+        AtomicInteger lookups = new AtomicInteger();
+        TokenizeClass tokenizeClass = new TokenizeClass(new MethodExtractor() {
+            @Override
+            public MethodWrapper methodWrapper(Class<?> clazz, String methodName, List<Object> parameterValues) {
+                lookups.incrementAndGet();
+                return super.methodWrapper(clazz, methodName, parameterValues);
+            }
+        });
+        tokenizeClass.tokenizeInvocation(this.getClass(), "methodWithParams", singletonList("value 1"));
+        tokenizeClass.tokenizeInvocation(this.getClass(), "methodWithParams", singletonList("value 2"));
+
+        assertThat(lookups).hasValue(1);
+    }
+
+    private JavaSourceTokens tokenizeWithValues(String source, List<Object> values) {
+        TokenizeParameterMap parameterMap = new TokenizeParameterMap();
+        parameterMap.put(new TokenizeParameter("isbn", values.get(0), null));
+        parameterMap.put(new TokenizeParameter("quantity", values.get(1), null));
+        return new TokenizeSource(TokenizeStringUtil.stripJavaCode(source), parameterMap).tokenize();
+    }
+}
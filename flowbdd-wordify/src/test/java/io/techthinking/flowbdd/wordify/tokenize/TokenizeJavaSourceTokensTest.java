@@ -279,6 +279,32 @@ class TokenizeJavaSourceTokensTest {
         assertTokenize("aBCDEe", t("A"), t("BCDE"), t("e"));
     }
 
+    @Test
+    void handlesLongRunsOfPunctuationAndWhiteSpace() {
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            source.append(" ");
+        }
+        source.append("doSomething");
+        for (int i = 0; i < 100_000; i++) {
+            source.append(");");
+        }
+        source.append("doSomethingElse();");
+        assertTokenizeStartingAt(source.toString(), 100_000, t("Do something"), t("do something else"));
+    }
+
+    @Test
+    void tokensAreSlicesOfTheSource() {
+        String source = "withIsbn(\"default-isbn\", 10, 'a')";
+        JavaSourceTokens javaSourceTokens = tokenizeSource(source);
+        assertThat(javaSourceTokens.getTokens()).containsExactly(
+            t("With isbn"),
+            t("\"default-isbn\"", TokenType.STRING_LITERAL),
+            t("10", TokenType.NUMBER),
+            t("'a'", TokenType.CHAR));
+        assertThat(javaSourceTokens.getTokens().get(1).appendTo(new StringBuilder()).toString()).isEqualTo("\"default-isbn\"");
+    }
+
     @Disabled
     @Test
     void LearningTestForGeneralJavaCode() {
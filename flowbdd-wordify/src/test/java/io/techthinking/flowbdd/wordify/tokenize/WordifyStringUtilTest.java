@@ -49,6 +49,21 @@ class WordifyStringUtilTest {
         assertThat(WordifyStringUtil.wordifyMethodOrFieldName("__do__something__")).isEqualTo("do something");
     }
 
+    @Test
+    void wordifyASliceOfACharSequence() {
+        String source = "given(theIsbnDbContains());";
+        assertThat(WordifyStringUtil.wordifyMethodOrFieldName(source, 6, 23)).isEqualTo("the isbn db contains");
+        assertThat(WordifyStringUtil.wordifyMethodOrFieldName(source, 0, 5)).isEqualTo("given");
+    }
+
+    @Test
+    void wordifyStringIsTheSameWhenCached() {
+        String first = WordifyStringUtil.wordifyMethodOrFieldName("givenACachedIdentifier");
+        String second = WordifyStringUtil.wordifyMethodOrFieldName("givenACachedIdentifier");
+        assertThat(first).isEqualTo("given a cached identifier");
+        assertThat(second).isSameAs(first);
+    }
+
     @Test
     void wordifyMoreThanOneUnderscoreInARow() {
         char[] chars = "__do__something__".toCharArray();
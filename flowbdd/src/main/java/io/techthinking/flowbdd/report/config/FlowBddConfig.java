@@ -18,6 +18,8 @@
 
 package io.techthinking.flowbdd.report.config;
 
+import io.techthinking.flowbdd.wordify.index.PersistentWordifyCache;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
@@ -35,6 +37,9 @@ public class FlowBddConfig {
     private static final String DEFAULT_DATA_DIR = "data";
     private static final String DEFAULT_REPORT_DIR = "report";
     private static final String DEFAULT_EXTRA_DIRS = "extra";
+    private static final String DEFAULT_CACHE_DIR = "cache";
+    private static final int DEFAULT_ARGUMENT_MAX_LENGTH = 1000;
+    private static final int DEFAULT_OUTPUT_BUFFER_BYTES = 64 * 1024;
     private static final String DEFAULT_AI_PROMPT =
         "You are Flow BDD AI, an expert assistant for the Flow BDD testing framework.\n" +
         "Your goal is to help developers understand their BDD test results based on the provided data.\n\n" +
@@ -114,6 +119,39 @@ public class FlowBddConfig {
         return getBasePath().resolve(getProperty("flowbdd.extra.dir", DEFAULT_EXTRA_DIRS));
     }
 
+    /**
+     * Gets the cache path, kept between runs so {@link io.techthinking.flowbdd.report.report.writers.ReportWriter#prepare()}
+     * leaves it in place.
+     * @return The cache path.
+     */
+    public static Path getCachePath() {
+        return getBasePath().resolve(getProperty("flowbdd.cache.dir", DEFAULT_CACHE_DIR));
+    }
+
+    /**
+     * Gets the wordify cache path, of the test sources parsed by earlier runs.
+     * @return The wordify cache path.
+     */
+    public static Path getWordifyCachePath() {
+        return getCachePath().resolve("wordify");
+    }
+
+    /**
+     * Whether the test sources parsed by wordify are cached on disk, so a later run only parses the changed files.
+     * @return True if cached, the default.
+     */
+    public static boolean isWordifyCached() {
+        return Boolean.parseBoolean(getProperty("flowbdd.wordify.cache", "true"));
+    }
+
+    /**
+     * Gets the size the wordify cache is trimmed to, least recently used entries first.
+     * @return The maximum size in bytes.
+     */
+    public static long getWordifyCacheMaxBytes() {
+        return Long.parseLong(getProperty("flowbdd.wordify.cache.max.bytes", String.valueOf(PersistentWordifyCache.DEFAULT_MAX_BYTES)));
+    }
+
     /**
      * Gets the banner.
      * @return The banner string.
@@ -163,6 +201,82 @@ public class FlowBddConfig {
         return getProperty("flowbdd.ai.detail.level", "FULL");
     }
 
+    /**
+     * Whether wordify runs after each test class in a background batch rather than inside each test method.
+     * @return True if deferred, the default.
+     */
+    public static boolean isWordifyDeferred() {
+        return Boolean.parseBoolean(getProperty("flowbdd.wordify.deferred", "true"));
+    }
+
+    /**
+     * Whether each test suite is written when it completes and then released from memory, rather than all of them
+     * being kept until the test plan finishes. Only the index is written at the end.
+     * @return True if streamed, false by default so the results stay available to the test plan.
+     */
+    public static boolean isReportStreamed() {
+        return Boolean.parseBoolean(getProperty("flowbdd.report.stream", "false"));
+    }
+
+    /**
+     * The longest a test argument is rendered in the report and in wordify, longer values are cut and end with ...
+     * @return The maximum length in characters, 1000 by default.
+     */
+    public static int getArgumentMaxLength() {
+        return Integer.parseInt(getProperty("flowbdd.args.max.length", String.valueOf(DEFAULT_ARGUMENT_MAX_LENGTH)));
+    }
+
+    /**
+     * Whether each test captures what it writes to System.out, System.err and the logs, routed to the test by the
+     * thread that wrote it.
+     * @return True if captured, false by default as it replaces System.out and System.err for the whole run.
+     */
+    public static boolean isOutputCaptured() {
+        return Boolean.parseBoolean(getProperty("flowbdd.capture.output", "false"));
+    }
+
+    /**
+     * The output each test holds in memory per stream, once full it spills to a file under the extra directory.
+     * @return The buffer size in bytes, 64KB by default.
+     */
+    public static int getOutputBufferBytes() {
+        return Integer.parseInt(getProperty("flowbdd.capture.output.buffer.bytes", String.valueOf(DEFAULT_OUTPUT_BUFFER_BYTES)));
+    }
+
+    /**
+     * What each test case records. LEAN is for large runs where only the failures are looked at: passing test cases
+     * skip their wordify, notes and argument snapshots, and keep their status and timings.
+     * @return The capture profile, FULL by default.
+     */
+    public static CaptureProfile getCaptureProfile() {
+        return CaptureProfile.valueOf(getProperty("flowbdd.capture.profile", CaptureProfile.FULL.name()).trim().toUpperCase());
+    }
+
+    /**
+     * Whether the invocations of a repeated or parameterized test are reported as one entry with their counts and
+     * duration statistics, with only the invocations that didn't pass kept in full.
+     * @return True if aggregated, false by default so every invocation is reported.
+     */
+    public static boolean isInvocationsAggregated() {
+        return Boolean.parseBoolean(getProperty("flowbdd.aggregate.invocations", "false"));
+    }
+
+    /**
+     * Whether each test records the CPU time and the bytes allocated by its thread while the test method runs.
+     * @return True if captured, false by default as reading them costs a little on every test.
+     */
+    public static boolean isResourceCaptured() {
+        return Boolean.parseBoolean(getProperty("flowbdd.capture.resources", "false"));
+    }
+
+    /**
+     * Whether the sources of the test plan's FlowBdd test classes are parsed in parallel when the plan starts.
+     * @return True if prewarmed, the default.
+     */
+    public static boolean isWordifyPrewarmed() {
+        return Boolean.parseBoolean(getProperty("flowbdd.wordify.prewarm", "true"));
+    }
+
     /**
      * Gets the AI prompt template.
      * @return The AI prompt template.
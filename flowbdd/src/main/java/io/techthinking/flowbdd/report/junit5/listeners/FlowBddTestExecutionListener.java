@@ -23,16 +23,25 @@ import io.techthinking.flowbdd.report.report.model.Report;
 import io.techthinking.flowbdd.report.report.model.TestVersionInfoFactory;
 import io.techthinking.flowbdd.report.report.model.VersionInfo;
 import io.techthinking.flowbdd.report.junit5.results.extension.FlowBdd;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.platform.commons.support.AnnotationSupport;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.MethodSource;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -45,7 +54,63 @@ public class FlowBddTestExecutionListener implements TestExecutionListener {
     @Override
     public void testPlanExecutionStarted(TestPlan testPlan) {
         logger.debug("testPlanExecutionStarted: " + testPlan.containsTests() + ", roots: " + testPlan.getRoots());
-        // init the Report?
+        FlowBdd.getTestContext().setDiscoveryOrder(discoveryOrder(testPlan));
+        FlowBdd.getTestContext().prewarmWordify(flowBddTestMethods(testPlan));
+    }
+
+    /** The unique IDs of the plan depth first, which is the order a sequential run executes them in */
+    static List<String> discoveryOrder(TestPlan testPlan) {
+        List<String> uniqueIds = new ArrayList<>();
+        testPlan.getRoots().forEach(root -> addDiscoveryOrder(testPlan, root, uniqueIds));
+        return uniqueIds;
+    }
+
+    private static void addDiscoveryOrder(TestPlan testPlan, TestIdentifier testIdentifier, List<String> uniqueIds) {
+        uniqueIds.add(testIdentifier.getUniqueId());
+        testPlan.getChildren(testIdentifier).forEach(child -> addDiscoveryOrder(testPlan, child, uniqueIds));
+    }
+
+    /** The test methods of the plan whose class, or a class it is nested in, extends with FlowBdd */
+    static Set<Method> flowBddTestMethods(TestPlan testPlan) {
+        Set<Method> testMethods = new LinkedHashSet<>();
+        for (TestIdentifier root : testPlan.getRoots()) {
+            for (TestIdentifier testIdentifier : testPlan.getDescendants(root)) {
+                testIdentifier.getSource()
+                    .filter(MethodSource.class::isInstance)
+                    .map(MethodSource.class::cast)
+                    .ifPresent(methodSource -> addFlowBddTestMethod(methodSource, testMethods));
+            }
+        }
+        return testMethods;
+    }
+
+    private static void addFlowBddTestMethod(MethodSource methodSource, Set<Method> testMethods) {
+        try {
+            if (usesFlowBdd(methodSource.getJavaClass())) {
+                testMethods.add(methodSource.getJavaMethod());
+            }
+        } catch (RuntimeException e) {
+            // the class or method could not be loaded, the test will fail on its own
+            logger.debug("Not prewarming " + methodSource, e);
+        }
+    }
+
+    /**
+     * Through {@code @ExtendWith}, directly or on a composed annotation, or a {@code @RegisterExtension} field declared
+     * as FlowBdd. A field declared as a supertype, such as {@code Extension}, isn't recognised, its test simply isn't
+     * prewarmed.
+     */
+    static boolean usesFlowBdd(Class<?> testClass) {
+        for (Class<?> clazz = testClass; clazz != null; clazz = clazz.getEnclosingClass()) {
+            boolean extendsWithFlowBdd = AnnotationSupport.findRepeatableAnnotations(clazz, ExtendWith.class).stream()
+                .flatMap(extendWith -> Arrays.stream(extendWith.value()))
+                .anyMatch(FlowBdd.class::isAssignableFrom);
+            if (extendsWithFlowBdd || !AnnotationSupport.findAnnotatedFields(clazz, RegisterExtension.class,
+                field -> FlowBdd.class.isAssignableFrom(field.getType())).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -55,9 +120,14 @@ public class FlowBddTestExecutionListener implements TestExecutionListener {
 //        roots.forEach(root -> logger.debug("tags: " + root.getTags()));
 //        roots.forEach(root -> logger.debug("source: " + root.getSource()));
 //        roots.forEach(root -> logger.debug("id: " + root.getParentId()));
-        final VersionInfo versionInfo = TestVersionInfoFactory.create(Clock.systemDefaultZone());
-        final Report report = ReportFactory.create(FlowBdd.getTestContext().getTestResults(), versionInfo);
-        FlowBdd.getTestContext().writeIndex(report, versionInfo);
+        try {
+            FlowBdd.getTestContext().completeWordify();
+            final VersionInfo versionInfo = TestVersionInfoFactory.create(Clock.systemDefaultZone());
+            final Report report = ReportFactory.create(FlowBdd.getTestContext().getTestResults(), versionInfo);
+            FlowBdd.getTestContext().writeIndex(report, versionInfo);
+        } finally {
+            FlowBdd.getTestContext().clearDiscoveryOrder();
+        }
     }
 
     @Override
@@ -0,0 +1,175 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The test case running on this thread, carried to the threads it spawns so the notes and diagrams recorded there are
+ * attributed to it rather than to whichever test last set up the test instance.
+ * <p>
+ * Threads, including virtual threads, started by the test inherit it. Threads that already existed, such as those of a
+ * pool or {@code CompletableFuture}'s common pool, only see it while running a task wrapped here, for example
+ * {@code CompletableFuture.supplyAsync(CurrentTestCase.wrapSupplier(supplier))} or {@code CurrentTestCase.wrap(executorService)}.
+ * A thread that inherited a test case which has since completed no longer sees it.
+ */
+public final class CurrentTestCase {
+    private static final InheritableThreadLocal<Scope> current = new InheritableThreadLocal<>();
+
+    private CurrentTestCase() {
+    }
+
+    public static Optional<TestCaseResult> get() {
+        Scope scope = current.get();
+        return scope == null || scope.completed ? Optional.empty() : Optional.of(scope.testCaseResult);
+    }
+
+    /** A dynamic test starts inside its factory's test case, which is current again once the dynamic test completes */
+    static void start(TestCaseResult testCaseResult) {
+        Scope enclosing = current.get();
+        current.set(new Scope(testCaseResult, enclosing == null || enclosing.completed ? null : enclosing));
+    }
+
+    /** Completes the test case started last on this thread, for this thread and every thread that inherited it */
+    static void complete() {
+        Scope scope = current.get();
+        if (scope == null) {
+            return;
+        }
+        scope.completed = true;
+        restore(scope.enclosing);
+    }
+
+    /** The task runs in the test case that is current where it was wrapped, whichever thread runs it */
+    public static Runnable wrap(Runnable task) {
+        Scope scope = current.get();
+        return () -> {
+            Scope previous = current.get();
+            current.set(scope);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public static <T> Callable<T> wrapCallable(Callable<T> task) {
+        Scope scope = current.get();
+        return () -> {
+            Scope previous = current.get();
+            current.set(scope);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public static <T> Supplier<T> wrapSupplier(Supplier<T> task) {
+        Scope scope = current.get();
+        return () -> {
+            Scope previous = current.get();
+            current.set(scope);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /** Each task runs in the test case that is current where it was submitted */
+    public static Executor wrap(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    /** Each task runs in the test case that is current where it was submitted, shutting down shuts down the executor */
+    public static ExecutorService wrap(ExecutorService executorService) {
+        return new PropagatingExecutorService(executorService);
+    }
+
+    private static void restore(Scope scope) {
+        if (scope == null) {
+            current.remove();
+        } else {
+            current.set(scope);
+        }
+    }
+
+    private static class Scope {
+        private final TestCaseResult testCaseResult;
+        private final Scope enclosing;
+        private volatile boolean completed = false;
+
+        Scope(TestCaseResult testCaseResult, Scope enclosing) {
+            this.testCaseResult = testCaseResult;
+            this.enclosing = enclosing;
+        }
+    }
+
+    /** The submit and invoke methods of {@link AbstractExecutorService} all go through {@link #execute(Runnable)} */
+    private static class PropagatingExecutorService extends AbstractExecutorService {
+        private final ExecutorService executorService;
+
+        PropagatingExecutorService(ExecutorService executorService) {
+            this.executorService = executorService;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            executorService.execute(wrap(task));
+        }
+
+        @Override
+        public void shutdown() {
+            executorService.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return executorService.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return executorService.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return executorService.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return executorService.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
+import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Resolves the wordify of a test class's results in one batch after the class has run, on a background thread so
+ * neither the tests nor their timings pay for it. The report waits for the batches with {@link #awaitAll()}.
+ */
+public class DeferredWordify {
+    private static final Logger logger = LoggerFactory.getLogger(DeferredWordify.class.getName());
+
+    private final boolean deferred;
+    private final ExecutorService executor;
+    private final List<Future<?>> batches = new ArrayList<>();
+
+    public DeferredWordify(boolean deferred) {
+        this.deferred = deferred;
+        this.executor = deferred ? Executors.newSingleThreadExecutor(DeferredWordify::daemonThread) : null;
+    }
+
+    public boolean isDeferred() {
+        return deferred;
+    }
+
+    /** Inline mode resolves straight away, as wordify did before it could be deferred */
+    public void record(TestCaseResult testCaseResult) {
+        if (!deferred) {
+            testCaseResult.resolveWordify();
+        }
+    }
+
+    public void submit(TestSuiteResult testSuiteResult) {
+        submit(testSuiteResult, () -> {});
+    }
+
+    /** @param andThen runs once the suite's wordify is resolved, in the same batch or straight away inline */
+    public void submit(TestSuiteResult testSuiteResult, Runnable andThen) {
+        if (!deferred) {
+            andThen.run();
+            return;
+        }
+        // copied on the test thread, the class has finished so its results are complete
+        List<TestCaseResult> testCaseResults = new ArrayList<>(testSuiteResult.getTestCaseResults());
+        Future<?> batch = executor.submit(() -> {
+            resolveAll(testCaseResults);
+            andThen.run();
+        });
+        synchronized (batches) {
+            batches.add(batch);
+        }
+    }
+
+    public void awaitAll() {
+        List<Future<?>> pending;
+        synchronized (batches) {
+            pending = new ArrayList<>(batches);
+            batches.clear();
+        }
+        for (Future<?> batch : pending) {
+            try {
+                batch.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                logger.warn("Wordify batch failed", e.getCause());
+            }
+        }
+    }
+
+    private static void resolveAll(List<TestCaseResult> testCaseResults) {
+        for (TestCaseResult testCaseResult : testCaseResults) {
+            try {
+                testCaseResult.resolveWordify();
+            } catch (RuntimeException e) {
+                logger.warn("Could not wordify " + testCaseResult.getName(), e);
+            }
+        }
+    }
+
+    private static Thread daemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "flowbdd-wordify");
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -18,10 +18,14 @@
 
 package io.techthinking.flowbdd.report.junit5.results.extension;
 
+import io.techthinking.flowbdd.report.config.FlowBddConfig;
 import io.techthinking.flowbdd.report.junit5.results.model.TestCaseNameFactory;
 import io.techthinking.flowbdd.report.junit5.results.model.TestResults;
 import io.techthinking.flowbdd.report.report.writers.ReportWriter;
+import io.techthinking.flowbdd.wordify.IndexedMethodExtractor;
 import io.techthinking.flowbdd.wordify.WordifyExtensionContext;
+import io.techthinking.flowbdd.wordify.index.PersistentWordifyCache;
+import io.techthinking.flowbdd.wordify.index.WordifyIndex;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
@@ -53,7 +57,7 @@ public class FlowBdd implements
 
     private static final TestContext testContext = new TestContext(
         new TestResults(),
-        new WordifyExtensionContext(),
+        wordifyExtensionContext(),
         new TestCaseNameFactory(),
         new ReportWriter(),
         Clock.systemDefaultZone()
@@ -63,6 +67,14 @@ public class FlowBdd implements
         return testContext;
     }
 
+    private static WordifyExtensionContext wordifyExtensionContext() {
+        if (!FlowBddConfig.isWordifyCached()) {
+            return new WordifyExtensionContext();
+        }
+        PersistentWordifyCache cache = new PersistentWordifyCache(FlowBddConfig.getWordifyCachePath(), FlowBddConfig.getWordifyCacheMaxBytes());
+        return new WordifyExtensionContext(new IndexedMethodExtractor(WordifyIndex.fromClasspath(), cache));
+    }
+
     @Override
     public void beforeAll(ExtensionContext context) throws Exception {
         testContext.beforeAll(context);
@@ -85,17 +97,17 @@ public class FlowBdd implements
 
     @Override
     public <T> T interceptTestClassConstructor(Invocation<T> invocation, ReflectiveInvocationContext<Constructor<T>> invocationContext, ExtensionContext extensionContext) throws Throwable {
-        return invocation.proceed();
+        return testContext.interceptTestClassConstructor(invocation, invocationContext, extensionContext);
     }
 
     @Override
     public void interceptBeforeAllMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
-        invocation.proceed();
+        testContext.interceptBeforeAllMethod(invocation, invocationContext, extensionContext);
     }
 
     @Override
     public void interceptBeforeEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
-        invocation.proceed();
+        testContext.interceptBeforeEachMethod(invocation, invocationContext, extensionContext);
     }
 
     /** normal test without params */
@@ -105,7 +117,7 @@ public class FlowBdd implements
     }
 
     /**
-     * Using (at)TestFactory??? Not tested.
+     * Using (at)TestFactory, the factory method itself.
      * */
     @Override
     public <T> T interceptTestFactoryMethod(Invocation<T> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
@@ -126,23 +138,21 @@ public class FlowBdd implements
     }
 
     /**
-     * Using (at)TestFactory??? Not tested.
+     * Using (at)TestFactory, each dynamic test it returns.
      */
     @Override
     public void interceptDynamicTest(Invocation<Void> invocation, ExtensionContext extensionContext) throws Throwable {
-        // no invocationContext???
-        //updateTestCaseResult(invocationContext, extensionContext);
-        invocation.proceed();
+        testContext.interceptDynamicTest(invocation, extensionContext);
     }
 
     @Override
     public void interceptAfterEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
-        invocation.proceed();
+        testContext.interceptAfterEachMethod(invocation, invocationContext, extensionContext);
     }
 
     @Override
     public void interceptAfterAllMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
-        invocation.proceed();
+        testContext.interceptAfterAllMethod(invocation, invocationContext, extensionContext);
     }
 
     @Override
@@ -0,0 +1,67 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.AppenderBase;
+import org.slf4j.LoggerFactory;
+
+/** Sends each log event to the output of the test running on the thread that logged it */
+class LogbackOutputAppender extends AppenderBase<ILoggingEvent> {
+    private static final String NAME = "flowbdd-output";
+    private final OutputCapture outputCapture;
+
+    private LogbackOutputAppender(OutputCapture outputCapture) {
+        this.outputCapture = outputCapture;
+    }
+
+    /** Checked by name, so this class is only loaded when slf4j is bound to Logback */
+    static boolean isAvailable() {
+        return "ch.qos.logback.classic.LoggerContext".equals(LoggerFactory.getILoggerFactory().getClass().getName());
+    }
+
+    static void attach(OutputCapture outputCapture) {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        LogbackOutputAppender appender = new LogbackOutputAppender(outputCapture);
+        appender.setContext(loggerContext);
+        appender.setName(NAME);
+        appender.start();
+        loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).addAppender(appender);
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (!outputCapture.isCapturing()) {
+            return;
+        }
+        StringBuilder line = new StringBuilder()
+            .append(event.getLevel()).append(' ')
+            .append(event.getLoggerName()).append(" - ")
+            .append(event.getFormattedMessage())
+            .append(System.lineSeparator());
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            line.append(ThrowableProxyUtil.asString(throwable)).append(System.lineSeparator());
+        }
+        outputCapture.writeLog(line.toString());
+    }
+}
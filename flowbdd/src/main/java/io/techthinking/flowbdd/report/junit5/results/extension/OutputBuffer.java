@@ -0,0 +1,115 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.report.junit5.results.model.CapturedStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * One stream of one test. Writes fill a fixed-size buffer, allocated on the first write so a silent test costs
+ * nothing, and each time it is full it is drained to the spill file and reused from the start. A chatty test then
+ * holds at most one buffer however much it writes.
+ * <p>
+ * Output that can't be spilled is dropped rather than failing the test, the bytes still count it.
+ */
+class OutputBuffer {
+    private static final Logger log = LoggerFactory.getLogger(OutputBuffer.class);
+    private final int capacity;
+    private final Charset charset;
+    private final Supplier<Path> spillFile;
+    private byte[] buffer;
+    private int size = 0;
+    private long bytes = 0;
+    private Path file;
+    private OutputStream spill;
+    private boolean spillFailed = false;
+
+    OutputBuffer(int capacity, Charset charset, Supplier<Path> spillFile) {
+        this.capacity = Math.max(capacity, 1);
+        this.charset = charset;
+        this.spillFile = spillFile;
+    }
+
+    synchronized void write(byte[] bytes, int offset, int length) {
+        if (buffer == null) {
+            buffer = new byte[capacity];
+        }
+        this.bytes += length;
+        while (length > 0) {
+            if (size == capacity) {
+                drain();
+            }
+            int copied = Math.min(length, capacity - size);
+            System.arraycopy(bytes, offset, buffer, size, copied);
+            size += copied;
+            offset += copied;
+            length -= copied;
+        }
+    }
+
+    /** @return null when nothing was written */
+    synchronized CapturedStream close() {
+        if (bytes == 0) {
+            return null;
+        }
+        if (file == null) {
+            CapturedStream captured = CapturedStream.inMemory(new String(buffer, 0, size, charset), bytes);
+            buffer = null;
+            return captured;
+        }
+        drain();
+        buffer = null;
+        try {
+            if (spill != null) {
+                spill.close();
+            }
+        } catch (IOException e) {
+            log.warn("Unable to close captured output {}", file, e);
+        }
+        return CapturedStream.spilled(file, bytes);
+    }
+
+    private void drain() {
+        try {
+            if (!spillFailed) {
+                if (spill == null) {
+                    file = spillFile.get();
+                    Files.createDirectories(file.getParent());
+                    spill = Files.newOutputStream(file, CREATE, APPEND);
+                }
+                spill.write(buffer, 0, size);
+            }
+        } catch (IOException e) {
+            spillFailed = true;
+            log.warn("Unable to spill captured output to {}, the rest of it is dropped", file, e);
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.report.config.FlowBddConfig;
+import io.techthinking.flowbdd.report.junit5.results.model.CapturedOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Captures what each test writes to System.out, System.err and the Logback logs.
+ * <p>
+ * System.out and System.err are replaced once, on the first test, by streams that still write to the console and
+ * also to the test running on the writing thread, so tests running in parallel each get their own output. Output
+ * written by other threads, such as executors started by the test, only goes to the console.
+ * <p>
+ * Each stream of each test has a fixed-size buffer, output beyond it spills to a file under
+ * {@link FlowBddConfig#getExtraDirsPath()}. Log lines a console appender also prints are captured in both the log and
+ * System.out.
+ */
+public class OutputCapture {
+    private static final Logger log = LoggerFactory.getLogger(OutputCapture.class);
+    static final String OUTPUT_DIR = "output";
+    private final boolean enabled;
+    private final int bufferBytes;
+    private final Path directory;
+    private final Charset charset = Charset.defaultCharset();
+    private final ThreadLocal<TestOutput> current = new ThreadLocal<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile boolean installed = false;
+
+    OutputCapture(boolean enabled, int bufferBytes, Path directory) {
+        this.enabled = enabled;
+        this.bufferBytes = bufferBytes;
+        this.directory = directory;
+    }
+
+    public static OutputCapture create(boolean enabled) {
+        if (!enabled) {
+            return disabled();
+        }
+        return new OutputCapture(true, FlowBddConfig.getOutputBufferBytes(), FlowBddConfig.getExtraDirsPath().resolve(OUTPUT_DIR));
+    }
+
+    public static OutputCapture disabled() {
+        return new OutputCapture(false, 0, null);
+    }
+
+    /**
+     * Starts capturing for the test running on this thread.
+     * @param name the start of the spill file names, such as the test suite class, only asked for when the test spills
+     */
+    public void start(Supplier<String> name) {
+        if (!enabled) {
+            return;
+        }
+        install();
+        current.set(new TestOutput(name, current.get()));
+    }
+
+    /**
+     * The enclosing capture, such as the test factory a dynamic test runs in, resumes once the nested one stops.
+     * @return the output of the test running on this thread, null when it wrote nothing or capture is off
+     */
+    public CapturedOutput stop() {
+        TestOutput testOutput = current.get();
+        if (testOutput == null) {
+            return null;
+        }
+        if (testOutput.enclosing == null) {
+            current.remove();
+        } else {
+            current.set(testOutput.enclosing);
+        }
+        CapturedOutput output = new CapturedOutput(testOutput.stdOut.close(), testOutput.stdErr.close(), testOutput.log.close());
+        return output.isEmpty() ? null : output;
+    }
+
+    boolean isCapturing() {
+        return current.get() != null;
+    }
+
+    void writeLog(String line) {
+        TestOutput testOutput = current.get();
+        if (testOutput != null) {
+            byte[] bytes = line.getBytes(charset);
+            testOutput.log.write(bytes, 0, bytes.length);
+        }
+    }
+
+    private void install() {
+        if (installed) {
+            return;
+        }
+        synchronized (this) {
+            if (!installed) {
+                deleteSpilledOutput();
+                System.setOut(routed(System.out, testOutput -> testOutput.stdOut));
+                System.setErr(routed(System.err, testOutput -> testOutput.stdErr));
+                if (LogbackOutputAppender.isAvailable()) {
+                    LogbackOutputAppender.attach(this);
+                }
+                installed = true;
+            }
+        }
+    }
+
+    private PrintStream routed(PrintStream console, Function<TestOutput, OutputBuffer> stream) {
+        return new PrintStream(new RoutedOutputStream(console, stream), true);
+    }
+
+    /** The spill files are only linked from this run's report */
+    private void deleteSpilledOutput() {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder())
+                .filter(path -> !path.equals(directory))
+                .forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("Unable to delete the output of the previous run in {}", directory, e);
+        }
+    }
+
+    private class TestOutput {
+        private final OutputBuffer stdOut;
+        private final OutputBuffer stdErr;
+        private final OutputBuffer log;
+        private final TestOutput enclosing;
+
+        TestOutput(Supplier<String> name, TestOutput enclosing) {
+            this.enclosing = enclosing;
+            long id = sequence.incrementAndGet();
+            this.stdOut = new OutputBuffer(bufferBytes, charset, () -> directory.resolve(name.get() + "-" + id + "-stdout.txt"));
+            this.stdErr = new OutputBuffer(bufferBytes, charset, () -> directory.resolve(name.get() + "-" + id + "-stderr.txt"));
+            this.log = new OutputBuffer(bufferBytes, charset, () -> directory.resolve(name.get() + "-" + id + "-log.txt"));
+        }
+    }
+
+    private class RoutedOutputStream extends OutputStream {
+        private final PrintStream console;
+        private final Function<TestOutput, OutputBuffer> stream;
+
+        RoutedOutputStream(PrintStream console, Function<TestOutput, OutputBuffer> stream) {
+            this.console = console;
+            this.stream = stream;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            console.write(bytes, offset, length);
+            TestOutput testOutput = current.get();
+            if (testOutput != null) {
+                stream.apply(testOutput).write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() {
+            console.flush();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.wordify.WordifyExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Parses and tokenizes the test methods of the whole test plan when it starts, one task per test class on a
+ * ForkJoin pool, so it overlaps with discovery and the start of the tests rather than being paid by the first
+ * test of each class. A test that gets there first simply does the work itself, the caches are shared.
+ */
+public class PrewarmWordify {
+    private static final Logger logger = LoggerFactory.getLogger(PrewarmWordify.class.getName());
+
+    private final boolean enabled;
+    private final WordifyExtensionContext wordifyExtensionContext;
+    private final List<CompletableFuture<Void>> tasks = new ArrayList<>();
+    private ForkJoinPool pool;
+
+    public PrewarmWordify(boolean enabled, WordifyExtensionContext wordifyExtensionContext) {
+        this.enabled = enabled;
+        this.wordifyExtensionContext = wordifyExtensionContext;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void submit(Collection<Method> testMethods) {
+        if (!enabled || testMethods.isEmpty()) {
+            return;
+        }
+        // a class's first method parses its source, the rest of its methods reuse it
+        Map<Class<?>, List<Method>> methodsByClass = new LinkedHashMap<>();
+        for (Method testMethod : testMethods) {
+            methodsByClass.computeIfAbsent(testMethod.getDeclaringClass(), clazz -> new ArrayList<>()).add(testMethod);
+        }
+        ForkJoinPool pool = pool();
+        for (List<Method> methods : methodsByClass.values()) {
+            CompletableFuture<Void> task = CompletableFuture.runAsync(() -> prepareAll(methods), pool);
+            synchronized (tasks) {
+                tasks.add(task);
+            }
+        }
+    }
+
+    /**
+     * Unlike {@link ForkJoinPool#awaitQuiescence} the caller only waits, it doesn't run the tasks itself.
+     * @return false if the tasks were still running when the timeout elapsed
+     */
+    public boolean awaitAll(long timeout, TimeUnit unit) {
+        CompletableFuture<?>[] pending;
+        synchronized (tasks) {
+            pending = tasks.toArray(new CompletableFuture<?>[0]);
+            tasks.clear();
+        }
+        try {
+            CompletableFuture.allOf(pending).get(timeout, unit);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            logger.debug("Wordify prewarm did not complete", e);
+            return false;
+        }
+    }
+
+    private void prepareAll(List<Method> methods) {
+        for (Method method : methods) {
+            try {
+                wordifyExtensionContext.prepare(method);
+            } catch (RuntimeException e) {
+                // the test will wordify it again and report the problem then
+                logger.debug("Could not prepare wordify for " + method, e);
+            }
+        }
+    }
+
+    private synchronized ForkJoinPool pool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), PrewarmWordify::workerThread, null, true);
+        }
+        return pool;
+    }
+
+    private static ForkJoinWorkerThread workerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("flowbdd-prewarm-" + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
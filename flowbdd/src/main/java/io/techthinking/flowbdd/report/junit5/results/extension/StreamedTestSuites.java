@@ -0,0 +1,77 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteResult;
+import io.techthinking.flowbdd.report.report.adapter.ReportFactory;
+import io.techthinking.flowbdd.report.report.model.TestVersionInfoFactory;
+import io.techthinking.flowbdd.report.report.model.VersionInfo;
+import io.techthinking.flowbdd.report.report.writers.ReportWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+
+/**
+ * Writes each test suite's JSON and HTML as soon as it completes and then evicts its results, so a large test plan
+ * only holds the suites that are still running. The index is written from what the evicted suites keep.
+ */
+public class StreamedTestSuites {
+    private static final Logger logger = LoggerFactory.getLogger(StreamedTestSuites.class.getName());
+
+    private final boolean enabled;
+    private final ReportWriter reportWriter;
+    private final Clock clock;
+    private volatile VersionInfo versionInfo;
+
+    public StreamedTestSuites(boolean enabled, ReportWriter reportWriter, Clock clock) {
+        this.enabled = enabled;
+        this.reportWriter = reportWriter;
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void write(TestSuiteResult testSuiteResult) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reportWriter.write(ReportFactory.testSuite(testSuiteResult), versionInfo());
+            testSuiteResult.evict();
+        } catch (RuntimeException e) {
+            // kept, so it is written with the index instead
+            logger.warn("Could not stream " + testSuiteResult.getTestSuiteClass().getFullyQualifiedName(), e);
+        }
+    }
+
+    /** One for the whole run, it looks up the hostname */
+    private VersionInfo versionInfo() {
+        if (versionInfo == null) {
+            synchronized (this) {
+                if (versionInfo == null) {
+                    versionInfo = TestVersionInfoFactory.create(clock);
+                }
+            }
+        }
+        return versionInfo;
+    }
+}
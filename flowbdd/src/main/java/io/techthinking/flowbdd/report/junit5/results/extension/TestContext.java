@@ -18,9 +18,12 @@
 
 package io.techthinking.flowbdd.report.junit5.results.extension;
 
+import io.techthinking.flowbdd.report.config.CaptureProfile;
+import io.techthinking.flowbdd.report.config.FlowBddConfig;
 import io.techthinking.flowbdd.report.junit5.results.model.TestCaseNameFactory;
 import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
 import io.techthinking.flowbdd.report.junit5.results.model.TestResults;
+import io.techthinking.flowbdd.report.report.adapter.ThrowableFactory;
 import io.techthinking.flowbdd.report.report.model.Report;
 import io.techthinking.flowbdd.report.report.model.VersionInfo;
 import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteResult;
@@ -35,11 +38,16 @@ import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
 import org.junit.jupiter.api.extension.TestWatcher;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.opentest4j.TestAbortedException;
 
 import java.time.Clock;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 import static io.techthinking.flowbdd.report.junit5.results.model.TestCaseResultStatus.ABORTED;
 import static io.techthinking.flowbdd.report.junit5.results.model.TestCaseResultStatus.DISABLED;
@@ -56,16 +64,26 @@ import static io.techthinking.flowbdd.wordify.tokenize.WordifyStringUtil.wordify
  */
 public class TestContext implements
     BeforeAllCallback, BeforeEachCallback, AfterAllCallback, AfterEachCallback, TestWatcher, InvocationInterceptor {
-    private static final String BEFORE_EACH_START_TIME = "beforeEachStartTime";
-    private static final String UNDER_TEST_START_TIME = "underTestStartTime";
-    private static final String AFTER_EACH_START_TIME = "afterEachStartTime";
-
+    /** The prewarm has normally finished long before the plan does, this only bounds how long a stuck one holds the report */
+    private static final long PREWARM_TIMEOUT_SECONDS = 10;
     private final TestResults testResults;
     private final WordifyExtensionContext wordifyExtensionContext;
     private final TestCaseNameFactory testCaseNameFactory;
     private final ReportWriter reportWriter;
     private final Clock clock;
-    private boolean isReporting = false;
+    private final LongSupplier nanoClock;
+    private final ThreadResources threadResources;
+    /** The constructor runs before the suite or test case is started, so its time waits here on the thread that ran it */
+    private final ThreadLocal<Long> pendingConstructorTime = new ThreadLocal<>();
+    private final DeferredWordify deferredWordify;
+    private final StreamedTestSuites streamedTestSuites;
+    private final int argumentMaxLength = FlowBddConfig.getArgumentMaxLength();
+    private final PrewarmWordify prewarmWordify;
+    private final OutputCapture outputCapture;
+    private final boolean invocationsAggregated = FlowBddConfig.isInvocationsAggregated();
+    private final CaptureProfile captureProfile = FlowBddConfig.getCaptureProfile();
+    private final ThrowableFactory throwableFactory = ThrowableFactory.shared();
+    private volatile boolean isReporting = false;
 
     public TestContext(
         TestResults testResults,
@@ -73,75 +91,164 @@ public class TestContext implements
         TestCaseNameFactory testCaseNameFactory,
         ReportWriter reportWriter,
         Clock clock)
+    {
+        this(testResults, wordifyExtensionContext, testCaseNameFactory, reportWriter, clock, System::nanoTime);
+    }
+
+    public TestContext(
+        TestResults testResults,
+        WordifyExtensionContext wordifyExtensionContext,
+        TestCaseNameFactory testCaseNameFactory,
+        ReportWriter reportWriter,
+        Clock clock,
+        LongSupplier nanoClock)
+    {
+        this(testResults, wordifyExtensionContext, testCaseNameFactory, reportWriter, clock, nanoClock, new DeferredWordify(FlowBddConfig.isWordifyDeferred()));
+    }
+
+    public TestContext(
+        TestResults testResults,
+        WordifyExtensionContext wordifyExtensionContext,
+        TestCaseNameFactory testCaseNameFactory,
+        ReportWriter reportWriter,
+        Clock clock,
+        DeferredWordify deferredWordify)
+    {
+        this(testResults, wordifyExtensionContext, testCaseNameFactory, reportWriter, clock, System::nanoTime, deferredWordify);
+    }
+
+    public TestContext(
+        TestResults testResults,
+        WordifyExtensionContext wordifyExtensionContext,
+        TestCaseNameFactory testCaseNameFactory,
+        ReportWriter reportWriter,
+        Clock clock,
+        LongSupplier nanoClock,
+        DeferredWordify deferredWordify)
+    {
+        this(testResults, wordifyExtensionContext, testCaseNameFactory, reportWriter, clock, nanoClock, ThreadResources.create(FlowBddConfig.isResourceCaptured()), deferredWordify);
+    }
+
+    public TestContext(
+        TestResults testResults,
+        WordifyExtensionContext wordifyExtensionContext,
+        TestCaseNameFactory testCaseNameFactory,
+        ReportWriter reportWriter,
+        Clock clock,
+        LongSupplier nanoClock,
+        ThreadResources threadResources,
+        DeferredWordify deferredWordify)
+    {
+        this(testResults, wordifyExtensionContext, testCaseNameFactory, reportWriter, clock, nanoClock, threadResources, deferredWordify,
+            new StreamedTestSuites(FlowBddConfig.isReportStreamed(), reportWriter, clock));
+    }
+
+    public TestContext(
+        TestResults testResults,
+        WordifyExtensionContext wordifyExtensionContext,
+        TestCaseNameFactory testCaseNameFactory,
+        ReportWriter reportWriter,
+        Clock clock,
+        LongSupplier nanoClock,
+        ThreadResources threadResources,
+        DeferredWordify deferredWordify,
+        StreamedTestSuites streamedTestSuites)
     {
         this.testResults = testResults;
         this.wordifyExtensionContext = wordifyExtensionContext;
         this.testCaseNameFactory = testCaseNameFactory;
         this.reportWriter = reportWriter;
         this.clock = clock;
+        this.nanoClock = nanoClock;
+        this.threadResources = threadResources;
+        this.deferredWordify = deferredWordify;
+        this.streamedTestSuites = streamedTestSuites;
+        this.prewarmWordify = new PrewarmWordify(FlowBddConfig.isWordifyPrewarmed(), wordifyExtensionContext);
+        this.outputCapture = OutputCapture.create(FlowBddConfig.isOutputCaptured());
     }
 
     /** Start test suite */
     @Override
     public void beforeAll(ExtensionContext context) throws Exception {
         startReporting();
-        testResults.startTestSuite(context);
+        TestSuiteResult testSuiteResult = testResults.startTestSuite(context);
+        testSuiteResult.getTimings().addConstructor(takePendingConstructorTime()).start(nanoClock.getAsLong());
     }
 
     /** Start test case */
     @Override
     public void beforeEach(ExtensionContext context) throws Exception {
-        getTestSuiteResult(context).startTestCase(context).setStartTime(clock.millis());
+        TestCaseResult testCaseResult = getTestSuiteResult(context).startTestCase(context).setStartTime(clock.millis());
+        testCaseResult.getTimings().setConstructor(takePendingConstructorTime());
+        outputCapture.start(() -> testCaseResult.getTestSuiteClass().getFullyQualifiedName());
+        CurrentTestCase.start(testCaseResult);
     }
 
     /** Complete test suite */
     @Override
     public void afterAll(ExtensionContext context) throws Exception {
-        getTestSuiteResult(context).completeTestSuite();
+        TestSuiteResult testSuiteResult = getTestSuiteResult(context);
+        testSuiteResult.getTimings().complete(nanoClock.getAsLong());
+        testSuiteResult.completeTestSuite(invocationsAggregated);
+        deferredWordify.submit(testSuiteResult, () -> streamedTestSuites.write(testSuiteResult));
         //writeTestSuiteResults();
     }
 
     @Override
     public void afterEach(ExtensionContext context) throws Exception {
+        CurrentTestCase.complete();
+        getTestCaseResult(context).setOutput(outputCapture.stop());
     }
 
     @Override
     public <T> T interceptTestClassConstructor(Invocation<T> invocation, ReflectiveInvocationContext<Constructor<T>> invocationContext, ExtensionContext extensionContext) throws Throwable {
-        return invocation.proceed();
+        long startTime = nanoClock.getAsLong();
+        try {
+            return invocation.proceed();
+        } finally {
+            long elapsed = nanoClock.getAsLong() - startTime;
+            Long pending = pendingConstructorTime.get();
+            pendingConstructorTime.set(pending == null ? elapsed : pending + elapsed);
+        }
     }
 
     @Override
     public void interceptBeforeAllMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
-        invocation.proceed();
+        long startTime = nanoClock.getAsLong();
+        try {
+            invocation.proceed();
+        } finally {
+            getTestSuiteResult(extensionContext).getTimings().addBeforeAll(nanoClock.getAsLong() - startTime);
+        }
     }
 
     @Override
     public void interceptBeforeEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
-        getStore(extensionContext).put(BEFORE_EACH_START_TIME, clock.millis());
-        invocation.proceed();
-        long startTime = getStore(extensionContext).remove(BEFORE_EACH_START_TIME, long.class);
-        getTestCaseResult(extensionContext).getTimings().setBeforeEach(clock.millis() - startTime);
+        long startTime = nanoClock.getAsLong();
+        try {
+            invocation.proceed();
+        } finally {
+            getTestCaseResult(extensionContext).getTimings().addBeforeEach(nanoClock.getAsLong() - startTime);
+        }
     }
 
     /** Update test case - normal test without params */
     @Override
     public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
         updateTestCaseResult(invocationContext, extensionContext);
-        getStore(extensionContext).put(UNDER_TEST_START_TIME, clock.millis());
-        invocation.proceed();
-        long startTime = getStore(extensionContext).remove(UNDER_TEST_START_TIME, long.class);
-        getTestCaseResult(extensionContext).getTimings().setUnderTest(clock.millis() - startTime);
+        proceedUnderTest(invocation, extensionContext);
     }
 
-    /** Update test case - Using (at)TestFactory??? Not tested. */
+    /**
+     * Update and complete test case - the (at)TestFactory method, its dynamic tests are each captured by
+     * interceptDynamicTest. JUnit doesn't send watcher events for the factory, so its status is that of the factory
+     * method, and as JUnit counts its dynamic tests rather than the factory it is only kept when it didn't pass.
+     */
     @Override
     public <T> T interceptTestFactoryMethod(Invocation<T> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
         updateTestCaseResult(invocationContext, extensionContext);
-        getStore(extensionContext).put(UNDER_TEST_START_TIME, clock.millis());
-        T result = invocation.proceed();
-        long startTime = getStore(extensionContext).remove(UNDER_TEST_START_TIME, long.class);
-        getTestCaseResult(extensionContext).getTimings().setUnderTest(clock.millis() - startTime);
-        return result;
+        getTestSuiteResult(extensionContext).markTestFactory(extensionContext.getUniqueId());
+        return proceedToCompletion(invocation, getTestCaseResult(extensionContext));
     }
 
     /**
@@ -157,36 +264,56 @@ public class TestContext implements
     @Override
     public void interceptTestTemplateMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
         updateTestCaseResult(invocationContext, extensionContext);
-        getStore(extensionContext).put(UNDER_TEST_START_TIME, clock.millis());
-        invocation.proceed();
-        long startTime = getStore(extensionContext).remove(UNDER_TEST_START_TIME, long.class);
-        getTestCaseResult(extensionContext).getTimings().setUnderTest(clock.millis() - startTime);
+        proceedUnderTest(invocation, extensionContext);
     }
 
-    /** Update test case - Using (at)TestFactory??? Not tested. */
+    /**
+     * Start, update and complete test case - a dynamic test from a (at)TestFactory.
+     * Dynamic tests have no before and after each callbacks or watcher events of their own, so the whole test case is
+     * captured here, its status from the outcome of the invocation.
+     */
     @Override
     public void interceptDynamicTest(Invocation<Void> invocation, ExtensionContext extensionContext) throws Throwable {
-        // no invocationContext???
-        //updateTestCaseResult(invocationContext, extensionContext);
-        invocation.proceed();
+        ExtensionContext testFactoryContext = testFactoryContext(extensionContext);
+        TestCaseResult testCaseResult = getTestSuiteResult(testFactoryContext).startTestCase(extensionContext.getUniqueId())
+            .setStartTime(clock.millis());
+        String displayName = extensionContext.getDisplayName();
+        testCaseResult.setName(testFactoryContext.getTestMethod().map(Method::getName).orElse(displayName));
+        testCaseResult.setDisplayName(displayName);
+        testCaseResult.setWordify(displayName);
+        outputCapture.start(() -> testCaseResult.getTestSuiteClass().getFullyQualifiedName());
+        CurrentTestCase.start(testCaseResult);
+        try {
+            proceedToCompletion(invocation, testCaseResult);
+        } finally {
+            CurrentTestCase.complete();
+            testCaseResult.setOutput(outputCapture.stop());
+        }
     }
 
     @Override
     public void interceptAfterEachMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
-        getStore(extensionContext).put(AFTER_EACH_START_TIME, clock.millis());
-        invocation.proceed();
-        long startTime = getStore(extensionContext).remove(AFTER_EACH_START_TIME, long.class);
-        getTestCaseResult(extensionContext).getTimings().setAfterEach(clock.millis() - startTime);
+        long startTime = nanoClock.getAsLong();
+        try {
+            invocation.proceed();
+        } finally {
+            getTestCaseResult(extensionContext).getTimings().addAfterEach(nanoClock.getAsLong() - startTime);
+        }
     }
 
     @Override
     public void interceptAfterAllMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
-        invocation.proceed();
+        long startTime = nanoClock.getAsLong();
+        try {
+            invocation.proceed();
+        } finally {
+            getTestSuiteResult(extensionContext).getTimings().addAfterAll(nanoClock.getAsLong() - startTime);
+        }
     }
 
     @Override
     public void testSuccessful(ExtensionContext context) {
-        getTestCaseResult(context).setStatus(PASSED).setEndTime(clock.millis());
+        completeDetails(getTestCaseResult(context).setStatus(PASSED).setEndTime(clock.millis()));
     }
 
     @Override
@@ -196,19 +323,106 @@ public class TestContext implements
 
     @Override
     public void testAborted(ExtensionContext context, Throwable cause) {
-        getTestCaseResult(context).setStatus(ABORTED).setCause(cause).setEndTime(clock.millis());
+        completeDetails(getTestCaseResult(context).setStatus(ABORTED).setCause(throwableFactory.create(cause)).setEndTime(clock.millis()));
     }
 
     @Override
     public void testFailed(ExtensionContext context, Throwable cause) {
-        getTestCaseResult(context).setStatus(FAILED).setCause(cause).setEndTime(clock.millis());
+        completeDetails(getTestCaseResult(context).setStatus(FAILED).setCause(throwableFactory.create(cause)).setEndTime(clock.millis()));
+    }
+
+    /** In the lean capture profile only test cases that didn't pass keep their wordify, notes and arguments */
+    private void completeDetails(TestCaseResult testCaseResult) {
+        if (captureProfile != CaptureProfile.LEAN) {
+            return;
+        }
+        if (testCaseResult.getStatus() == PASSED) {
+            testCaseResult.discardDetails();
+        } else {
+            testCaseResult.recordPendingDetails();
+        }
     }
 
+    /** For test cases JUnit sends no watcher events for, their status is the outcome of the invocation */
+    private <T> T proceedToCompletion(Invocation<T> invocation, TestCaseResult testCaseResult) throws Throwable {
+        try {
+            T result = proceedUnderTest(invocation, testCaseResult);
+            testCaseResult.setStatus(PASSED);
+            return result;
+        } catch (TestAbortedException e) {
+            testCaseResult.setStatus(ABORTED).setCause(throwableFactory.create(e));
+            throw e;
+        } catch (Throwable e) {
+            testCaseResult.setStatus(FAILED).setCause(throwableFactory.create(e));
+            throw e;
+        } finally {
+            completeDetails(testCaseResult.setEndTime(clock.millis()));
+        }
+    }
+
+    /** Dynamic tests, and the containers they may be nested in, have no test class or method of their own */
+    private static ExtensionContext testFactoryContext(ExtensionContext extensionContext) {
+        ExtensionContext context = extensionContext;
+        while (!context.getTestMethod().isPresent() && context.getParent().isPresent()) {
+            context = context.getParent().get();
+        }
+        return context;
+    }
+
+    /** Times the test method, and measures its thread's CPU time and allocations when resource capture is on */
+    private <T> T proceedUnderTest(Invocation<T> invocation, ExtensionContext extensionContext) throws Throwable {
+        return proceedUnderTest(invocation, getTestCaseResult(extensionContext));
+    }
+
+    private <T> T proceedUnderTest(Invocation<T> invocation, TestCaseResult testCaseResult) throws Throwable {
+        long cpuTime = threadResources.cpuTime();
+        long allocatedBytes = threadResources.allocatedBytes();
+        long startTime = nanoClock.getAsLong();
+        try {
+            return invocation.proceed();
+        } finally {
+            long underTest = nanoClock.getAsLong() - startTime;
+            long cpuTimeEnd = threadResources.cpuTime();
+            long allocatedBytesEnd = threadResources.allocatedBytes();
+            testCaseResult.getTimings()
+                .setUnderTest(underTest)
+                .setCpuTime(ThreadResources.elapsed(cpuTime, cpuTimeEnd))
+                .setAllocatedBytes(ThreadResources.elapsed(allocatedBytes, allocatedBytesEnd));
+        }
+    }
+
+    /** Classes may start in parallel, only the first prepares the report directories and the others wait for it */
     private void startReporting() {
-        if (!isReporting) {
-            reportWriter.prepare();
+        if (isReporting) {
+            return;
+        }
+        synchronized (this) {
+            if (!isReporting) {
+                reportWriter.prepare();
+                isReporting = true;
+            }
         }
-        isReporting = true;
+    }
+
+    /** Called when the test plan starts, with the test methods of the classes that use FlowBdd */
+    public void prewarmWordify(Collection<Method> testMethods) {
+        prewarmWordify.submit(testMethods);
+    }
+
+    /** Called when the test plan starts, so the results are reported in the order a sequential run would have */
+    public void setDiscoveryOrder(List<String> uniqueIds) {
+        testResults.setDiscoveryOrder(uniqueIds);
+    }
+
+    /** Called when the test plan has been reported */
+    public void clearDiscoveryOrder() {
+        testResults.clearDiscoveryOrder();
+    }
+
+    /** Waits for the prewarm and the deferred wordify batches, call before building the report */
+    public void completeWordify() {
+        prewarmWordify.awaitAll(PREWARM_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        deferredWordify.awaitAll();
     }
 
     public void writeIndex(Report report, VersionInfo versionInfo) {
@@ -239,32 +453,45 @@ public class TestContext implements
      */
     public void updateTestCaseResult(ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) {
         TestCaseResult testCaseResult = getTestCaseResult(extensionContext);
-//        List<Object> arguments = invocationContext.getArguments();
-//        Method method = invocationContext.getExecutable();
-//        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
-//        String displayName = extensionContext.getDisplayName();
+        List<Object> arguments = invocationContext.getArguments();
+        Optional<Method> testMethod = extensionContext.getTestMethod();
+        String displayName = extensionContext.getDisplayName();
+        if (captureProfile == CaptureProfile.LEAN) {
+            // only the method's name until the outcome is known, the arguments are held until then and not snapshot,
+            // the contexts aren't held at all
+            testMethod.ifPresent(method -> {
+                testCaseResult.setName(method.getName());
+                testCaseResult.setDisplayName(upperCaseFirstChar(wordifyMethodOrFieldName(method.getName())));
+            });
+            testCaseResult.setPendingDetails(() -> updateTestCaseDetails(arguments, testMethod, displayName, testCaseResult));
+            return;
+        }
+        updateTestCaseDetails(arguments, testMethod, displayName, testCaseResult);
+    }
 
+    private void updateTestCaseDetails(List<Object> arguments, Optional<Method> testMethod, String displayName, TestCaseResult testCaseResult) {
         // TODO logic should really be inside testResults!
-        testCaseResult.setWordify(wordifyExtensionContext.wordify(extensionContext, invocationContext.getArguments()).orElse(null));
-        testCaseResult.setArgs(invocationContext.getArguments());
-        setTestCaseName(invocationContext, extensionContext, testCaseResult);
+        // snapshots, so nothing holds on to the argument objects once the test is done
+        testCaseResult.setArgs(arguments, argumentMaxLength);
+        List<Object> argValues = testCaseResult.getArgValues();
+        testMethod.ifPresent(method -> {
+            testCaseResult.setPendingWordify(() -> wordifyExtensionContext.wordifyTemplate(method, argValues));
+            deferredWordify.record(testCaseResult);
+            setTestCaseName(method, displayName, testCaseResult);
+        });
     }
 
-    private void setTestCaseName(ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext, TestCaseResult testCaseResult) {
-        if (!extensionContext.getTestMethod().isPresent()) {
-            return;
-        }
-        final Method method = extensionContext.getTestMethod().get();
+    private void setTestCaseName(Method method, String displayName, TestCaseResult testCaseResult) {
         final ParameterizedTest parameterizedTest = method.getAnnotation(ParameterizedTest.class);
         testCaseResult.setName(method.getName());
         if (parameterizedTest != null) {
             String testName = parameterizedTest.name();
             // the default pattern doesn't work well it shows "[0] value 1"
-            if (testName.equals("[{index}] {argumentsWithNames}") || extensionContext.getDisplayName().startsWith("[")) {
+            if (testName.equals("[{index}] {argumentsWithNames}") || displayName.startsWith("[")) {
                 String methodNameWordify = upperCaseFirstChar(wordifyMethodOrFieldName(method.getName()));
-                testCaseResult.setDisplayName(testCaseNameFactory.createName(methodNameWordify, testCaseResult.getArgs()));
+                testCaseResult.setDisplayName(testCaseNameFactory.createName(methodNameWordify, testCaseResult.getArgValues()));
             } else {
-                testCaseResult.setDisplayName(extensionContext.getDisplayName());
+                testCaseResult.setDisplayName(displayName);
             }
         } else {
             testCaseResult.setDisplayName(upperCaseFirstChar(wordifyMethodOrFieldName(method.getName())));
@@ -275,7 +502,9 @@ public class TestContext implements
         testResults.reset();
     }
 
-    private ExtensionContext.Store getStore(ExtensionContext context) {
-        return context.getStore(ExtensionContext.Namespace.create(getClass(), context.getRequiredTestMethod()));
+    private long takePendingConstructorTime() {
+        Long pending = pendingConstructorTime.get();
+        pendingConstructorTime.remove();
+        return pending == null ? 0L : pending;
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.report.junit5.results.model.Timings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads the CPU time and the bytes allocated by the current thread. CPU time comes from the standard
+ * {@link ThreadMXBean}, allocated bytes need {@code com.sun.management.ThreadMXBean} which HotSpot and OpenJ9 have.
+ * A reading the JVM can't take, or that wasn't asked for, is {@link #NOT_MEASURED}.
+ */
+public class ThreadResources {
+    private static final Logger logger = LoggerFactory.getLogger(ThreadResources.class.getName());
+
+    public static final long NOT_MEASURED = Timings.NOT_MEASURED;
+    private static final ThreadResources DISABLED = new ThreadResources(null, false, false);
+
+    private final ThreadMXBean threadMXBean;
+    private final boolean cpuTimeMeasured;
+    private final boolean allocatedBytesMeasured;
+
+    ThreadResources(ThreadMXBean threadMXBean, boolean cpuTimeMeasured, boolean allocatedBytesMeasured) {
+        this.threadMXBean = threadMXBean;
+        this.cpuTimeMeasured = cpuTimeMeasured;
+        this.allocatedBytesMeasured = allocatedBytesMeasured;
+    }
+
+    public static ThreadResources disabled() {
+        return DISABLED;
+    }
+
+    /** Turns on the JVM's thread CPU time and allocation accounting where it is supported but off */
+    public static ThreadResources create(boolean enabled) {
+        if (!enabled) {
+            return DISABLED;
+        }
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        boolean cpuTime = false;
+        if (threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            if (!threadMXBean.isThreadCpuTimeEnabled()) {
+                threadMXBean.setThreadCpuTimeEnabled(true);
+            }
+            cpuTime = true;
+        }
+        boolean allocatedBytes = false;
+        try {
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+                if (sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+                    if (!sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                        sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+                    }
+                    allocatedBytes = true;
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException e) {
+            logger.debug("Allocated bytes per thread are not available on this JVM", e);
+        }
+        if (!cpuTime || !allocatedBytes) {
+            logger.info("Resource capture is enabled but this JVM can't measure{}{}",
+                cpuTime ? "" : " thread CPU time", allocatedBytes ? "" : " allocated bytes per thread");
+        }
+        return new ThreadResources(threadMXBean, cpuTime, allocatedBytes);
+    }
+
+    public boolean isEnabled() {
+        return cpuTimeMeasured || allocatedBytesMeasured;
+    }
+
+    /** @return CPU time of the current thread in nanoseconds, user and system */
+    public long cpuTime() {
+        return cpuTimeMeasured ? threadMXBean.getCurrentThreadCpuTime() : NOT_MEASURED;
+    }
+
+    /** @return bytes allocated by the current thread since it started, a running total */
+    public long allocatedBytes() {
+        return allocatedBytesMeasured
+            ? ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId())
+            : NOT_MEASURED;
+    }
+
+    /** @return the difference between two readings, or {@link #NOT_MEASURED} if either wasn't taken */
+    public static long elapsed(long start, long end) {
+        return start == NOT_MEASURED || end == NOT_MEASURED ? NOT_MEASURED : end - start;
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.model;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A test argument rendered to text when it is captured, so the result doesn't keep the argument's object graph
+ * reachable and the report doesn't call its {@code toString()} at the end of the run.
+ * <p>
+ * Values are rendered by type. Arrays, collections and maps are walked element by element and the walk stops once
+ * {@code maxLength} is reached, cycles are rendered as {@code (this ...)}. Anything else uses its own
+ * {@code toString()}, truncated, and a {@code toString()} that throws is rendered as the exception rather than
+ * failing the test.
+ */
+public class ArgumentSnapshot {
+    public static final int DEFAULT_MAX_LENGTH = 1000;
+    static final String TRUNCATED = "...";
+
+    private final String typeName;
+    private final String simpleTypeName;
+    private final String packageName;
+    private final String value;
+    private final boolean truncated;
+
+    ArgumentSnapshot(String typeName, String simpleTypeName, String packageName, String value, boolean truncated) {
+        this.typeName = typeName;
+        this.simpleTypeName = simpleTypeName;
+        this.packageName = packageName;
+        this.value = value;
+        this.truncated = truncated;
+    }
+
+    /** @return null for a null argument */
+    public static ArgumentSnapshot of(Object argument, int maxLength) {
+        if (argument == null) {
+            return null;
+        }
+        Class<?> type = argument.getClass();
+        Renderer renderer = new Renderer(maxLength);
+        renderer.render(argument);
+        return new ArgumentSnapshot(type.getTypeName(), type.getSimpleName(), packageName(type), renderer.value(), renderer.truncated);
+    }
+
+    private static String packageName(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        Package typePackage = type.getPackage();
+        return typePackage == null ? "" : typePackage.getName();
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public String getSimpleTypeName() {
+        return simpleTypeName;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /** Whether the value was cut at the maximum length, it then ends with {@code ...} */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArgumentSnapshot)) return false;
+        ArgumentSnapshot that = (ArgumentSnapshot) o;
+        return truncated == that.truncated && Objects.equals(typeName, that.typeName) && Objects.equals(simpleTypeName, that.simpleTypeName) && Objects.equals(packageName, that.packageName) && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(typeName, simpleTypeName, packageName, value, truncated);
+    }
+
+    @Override
+    public String toString() {
+        return "ArgumentSnapshot{" +
+            "typeName='" + typeName + '\'' +
+            ", value='" + value + '\'' +
+            ", truncated=" + truncated +
+            '}';
+    }
+
+    /** Appends until the maximum length, after which everything else is skipped rather than rendered */
+    private static class Renderer {
+        private final int maxLength;
+        private final StringBuilder text = new StringBuilder();
+        private final Set<Object> rendering = Collections.newSetFromMap(new IdentityHashMap<>());
+        private boolean truncated = false;
+
+        Renderer(int maxLength) {
+            this.maxLength = Math.max(maxLength, 0);
+        }
+
+        String value() {
+            return truncated ? text + TRUNCATED : text.toString();
+        }
+
+        void render(Object value) {
+            if (truncated) {
+                return;
+            }
+            if (value == null) {
+                append("null");
+            } else if (value instanceof CharSequence) {
+                append((CharSequence) value);
+            } else if (value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum || value instanceof Class) {
+                append(String.valueOf(value));
+            } else if (value.getClass().isArray()) {
+                renderContainer(value, () -> renderArray(value));
+            } else if (value instanceof Collection) {
+                renderContainer(value, () -> renderElements(((Collection<?>) value).iterator()));
+            } else if (value instanceof Map) {
+                renderContainer(value, () -> renderEntries((Map<?, ?>) value));
+            } else {
+                append(safeToString(value));
+            }
+        }
+
+        private void renderContainer(Object container, Runnable renderContents) {
+            if (!rendering.add(container)) {
+                append("(this " + container.getClass().getSimpleName() + ")");
+                return;
+            }
+            try {
+                renderContents.run();
+            } catch (RuntimeException e) {
+                // e.g. a collection modified by another thread while it is walked
+                append("(" + e.getClass().getSimpleName() + ")");
+            } finally {
+                rendering.remove(container);
+            }
+        }
+
+        private void renderArray(Object array) {
+            int length = Array.getLength(array);
+            append("[");
+            for (int index = 0; index < length && !truncated; index++) {
+                if (index > 0) {
+                    append(", ");
+                }
+                render(Array.get(array, index));
+            }
+            append("]");
+        }
+
+        private void renderElements(Iterator<?> elements) {
+            append("[");
+            boolean first = true;
+            while (elements.hasNext() && !truncated) {
+                if (!first) {
+                    append(", ");
+                }
+                first = false;
+                render(elements.next());
+            }
+            append("]");
+        }
+
+        private void renderEntries(Map<?, ?> map) {
+            append("{");
+            boolean first = true;
+            Iterator<? extends Map.Entry<?, ?>> entries = map.entrySet().iterator();
+            while (entries.hasNext() && !truncated) {
+                Map.Entry<?, ?> entry = entries.next();
+                if (!first) {
+                    append(", ");
+                }
+                first = false;
+                render(entry.getKey());
+                append("=");
+                render(entry.getValue());
+            }
+            append("}");
+        }
+
+        private void append(CharSequence value) {
+            if (truncated) {
+                return;
+            }
+            int remaining = maxLength - text.length();
+            if (value.length() > remaining) {
+                text.append(value, 0, remaining);
+                truncated = true;
+            } else {
+                text.append(value);
+            }
+        }
+
+        private static String safeToString(Object value) {
+            try {
+                return String.valueOf(value);
+            } catch (RuntimeException | StackOverflowError e) {
+                return "(" + value.getClass().getSimpleName() + ".toString() threw " + e.getClass().getSimpleName() + ")";
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.model;
+
+import java.util.Objects;
+
+/** The output of one test, a stream it didn't write to is null */
+public class CapturedOutput {
+    private final CapturedStream stdOut;
+    private final CapturedStream stdErr;
+    private final CapturedStream log;
+
+    public CapturedOutput(CapturedStream stdOut, CapturedStream stdErr, CapturedStream log) {
+        this.stdOut = stdOut;
+        this.stdErr = stdErr;
+        this.log = log;
+    }
+
+    public CapturedStream getStdOut() {
+        return stdOut;
+    }
+
+    public CapturedStream getStdErr() {
+        return stdErr;
+    }
+
+    public CapturedStream getLog() {
+        return log;
+    }
+
+    public boolean isEmpty() {
+        return stdOut == null && stdErr == null && log == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CapturedOutput)) return false;
+        CapturedOutput that = (CapturedOutput) o;
+        return Objects.equals(stdOut, that.stdOut) && Objects.equals(stdErr, that.stdErr) && Objects.equals(log, that.log);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stdOut, stdErr, log);
+    }
+
+    @Override
+    public String toString() {
+        return "CapturedOutput{" +
+            "stdOut=" + stdOut +
+            ", stdErr=" + stdErr +
+            ", log=" + log +
+            '}';
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.model;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * What a test wrote to one stream. Output that fit in the test's buffer is held as text, larger output was spilled to
+ * a file and only its path is held.
+ */
+public class CapturedStream {
+    private final String text;
+    private final Path file;
+    private final long bytes;
+
+    private CapturedStream(String text, Path file, long bytes) {
+        this.text = text;
+        this.file = file;
+        this.bytes = bytes;
+    }
+
+    public static CapturedStream inMemory(String text, long bytes) {
+        return new CapturedStream(text, null, bytes);
+    }
+
+    public static CapturedStream spilled(Path file, long bytes) {
+        return new CapturedStream(null, file, bytes);
+    }
+
+    /** @return null when spilled */
+    public String getText() {
+        return text;
+    }
+
+    /** @return null when held in memory */
+    public Path getFile() {
+        return file;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CapturedStream)) return false;
+        CapturedStream that = (CapturedStream) o;
+        return bytes == that.bytes && Objects.equals(text, that.text) && Objects.equals(file, that.file);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(text, file, bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "CapturedStream{" +
+            "text='" + text + '\'' +
+            ", file=" + file +
+            ", bytes=" + bytes +
+            '}';
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Counts and duration statistics of the invocations of one repeated or parameterized test. Durations are the
+ * {@link Timings#getTotal()} of each invocation in nanoseconds, percentiles are nearest rank.
+ */
+public class InvocationStatistics {
+    private final int invocationCount;
+    private final int passedCount;
+    private final int failedCount;
+    private final int abortedCount;
+    private final long min;
+    private final long mean;
+    private final long p50;
+    private final long p95;
+    private final long p99;
+    private final long max;
+
+    public InvocationStatistics(int invocationCount, int passedCount, int failedCount, int abortedCount, long min, long mean, long p50, long p95, long p99, long max) {
+        this.invocationCount = invocationCount;
+        this.passedCount = passedCount;
+        this.failedCount = failedCount;
+        this.abortedCount = abortedCount;
+        this.min = min;
+        this.mean = mean;
+        this.p50 = p50;
+        this.p95 = p95;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    public static InvocationStatistics of(List<TestCaseResult> invocations) {
+        long[] durations = new long[invocations.size()];
+        long sum = 0;
+        int passed = 0;
+        int failed = 0;
+        int aborted = 0;
+        for (int i = 0; i < durations.length; i++) {
+            TestCaseResult invocation = invocations.get(i);
+            durations[i] = invocation.getTimings().getTotal();
+            sum += durations[i];
+            if (invocation.getStatus() == TestCaseResultStatus.PASSED) passed++;
+            else if (invocation.getStatus() == TestCaseResultStatus.FAILED) failed++;
+            else if (invocation.getStatus() == TestCaseResultStatus.ABORTED) aborted++;
+        }
+        if (durations.length == 0) {
+            return new InvocationStatistics(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        Arrays.sort(durations);
+        return new InvocationStatistics(durations.length, passed, failed, aborted,
+            durations[0], sum / durations.length,
+            percentile(durations, 50), percentile(durations, 95), percentile(durations, 99),
+            durations[durations.length - 1]);
+    }
+
+    /** The smallest duration that the given percent of the sorted durations are at or below */
+    static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    public int getInvocationCount() {
+        return invocationCount;
+    }
+
+    public int getPassedCount() {
+        return passedCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public int getAbortedCount() {
+        return abortedCount;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMean() {
+        return mean;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP95() {
+        return p95;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof InvocationStatistics)) return false;
+        InvocationStatistics that = (InvocationStatistics) o;
+        return invocationCount == that.invocationCount && passedCount == that.passedCount && failedCount == that.failedCount && abortedCount == that.abortedCount && min == that.min && mean == that.mean && p50 == that.p50 && p95 == that.p95 && p99 == that.p99 && max == that.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(invocationCount, passedCount, failedCount, abortedCount, min, mean, p50, p95, p99, max);
+    }
+
+    @Override
+    public String toString() {
+        return "InvocationStatistics{" +
+            "invocationCount=" + invocationCount +
+            ", passedCount=" + passedCount +
+            ", failedCount=" + failedCount +
+            ", abortedCount=" + abortedCount +
+            ", min=" + min +
+            ", mean=" + mean +
+            ", p50=" + p50 +
+            ", p95=" + p95 +
+            ", p99=" + p99 +
+            ", max=" + max +
+            '}';
+    }
+}
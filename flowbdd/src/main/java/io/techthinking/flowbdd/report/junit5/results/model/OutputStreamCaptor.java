@@ -37,7 +37,7 @@ public class OutputStreamCaptor {
 
     public void stop() {
         System.setOut(standardOut);
-        System.setOut(standardErr);
+        System.setErr(standardErr);
     }
 
     public String getSystemOut() {
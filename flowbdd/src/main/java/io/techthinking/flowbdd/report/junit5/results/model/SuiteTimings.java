@@ -0,0 +1,107 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.model;
+
+import java.util.Objects;
+
+/**
+ * Time spent in the class level phases of a test suite, in nanoseconds from {@link System#nanoTime()}. The test cases
+ * have their own {@link Timings}.
+ */
+public class SuiteTimings {
+    private long constructor = 0;
+    private long beforeAll = 0;
+    private long afterAll = 0;
+    private long duration = 0;
+    private long startTime = -1;
+
+    /** The test class constructor when the lifecycle is per class, otherwise each test case has its own */
+    public long getConstructor() {
+        return constructor;
+    }
+
+    public SuiteTimings addConstructor(long constructor) {
+        this.constructor += constructor;
+        return this;
+    }
+
+    public long getBeforeAll() {
+        return beforeAll;
+    }
+
+    public SuiteTimings addBeforeAll(long beforeAll) {
+        this.beforeAll += beforeAll;
+        return this;
+    }
+
+    public long getAfterAll() {
+        return afterAll;
+    }
+
+    public SuiteTimings addAfterAll(long afterAll) {
+        this.afterAll += afterAll;
+        return this;
+    }
+
+    /** Elapsed from the start of the suite to its end, less than the sum of the test cases when they ran in parallel */
+    public long getDuration() {
+        return duration;
+    }
+
+    public SuiteTimings setDuration(long duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    public SuiteTimings start(long startTime) {
+        this.startTime = startTime;
+        return this;
+    }
+
+    /** Sets the duration from {@link #start(long)}, if the suite was started */
+    public SuiteTimings complete(long endTime) {
+        if (startTime >= 0) {
+            this.duration = endTime - startTime;
+        }
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SuiteTimings)) return false;
+        SuiteTimings that = (SuiteTimings) o;
+        return constructor == that.constructor && beforeAll == that.beforeAll && afterAll == that.afterAll && duration == that.duration;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(constructor, beforeAll, afterAll, duration);
+    }
+
+    @Override
+    public String toString() {
+        return "SuiteTimings{" +
+            "constructor=" + constructor +
+            ", beforeAll=" + beforeAll +
+            ", afterAll=" + afterAll +
+            ", duration=" + duration +
+            '}';
+    }
+}
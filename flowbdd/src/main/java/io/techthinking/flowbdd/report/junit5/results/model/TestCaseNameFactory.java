@@ -22,7 +22,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class TestCaseNameFactory {
-    public String createName(String name, List<Object> args) {
+    public String createName(String name, List<?> args) {
         if (args.isEmpty()) {
             return name;
         }
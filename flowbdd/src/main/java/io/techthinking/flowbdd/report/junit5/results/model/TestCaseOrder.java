@@ -0,0 +1,167 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Orders results by JUnit unique ID the way a sequential run executes them, whichever order they actually ran in.
+ * <p>
+ * The discovery order of the test plan comes first, which follows any {@code @TestMethodOrder}. Invocations of a test
+ * template are not in the plan until they run, so they take the position of their method and then sort by unique ID
+ * with numbers compared by value, {@code #2} before {@code #10}.
+ */
+public class TestCaseOrder implements Comparator<String> {
+    private static final String SEGMENT_SEPARATOR = "/[";
+    private final Map<String, Integer> discoveryIndex = new ConcurrentHashMap<>();
+
+    /**
+     * Called when a test plan starts, a later plan's IDs replace those of an earlier one. A plan only orders the
+     * results of its own tests, so the positions of different plans are never compared with each other.
+     */
+    public void setDiscoveryOrder(List<String> uniqueIds) {
+        for (int i = 0; i < uniqueIds.size(); i++) {
+            discoveryIndex.put(uniqueIds.get(i), i);
+        }
+    }
+
+    /**
+     * Called once a test plan has been reported, so a long lived process running plan after plan doesn't keep every
+     * plan's IDs. Results still to be ordered fall back to their natural order.
+     */
+    public void clearDiscoveryOrder() {
+        discoveryIndex.clear();
+    }
+
+    /**
+     * Sorts the values by their unique ID, each ID's discovery position is looked up once rather than on every
+     * comparison, which matters for test factories with many thousands of dynamic tests.
+     */
+    public <T> List<T> sort(Map<String, T> byUniqueId) {
+        List<Positioned<T>> positioned = new ArrayList<>(byUniqueId.size());
+        for (Map.Entry<String, T> entry : byUniqueId.entrySet()) {
+            positioned.add(new Positioned<>(entry.getKey(), discoveryIndex(entry.getKey()), entry.getValue()));
+        }
+        positioned.sort(Positioned::compareTo);
+        List<T> sorted = new ArrayList<>(positioned.size());
+        for (Positioned<T> value : positioned) {
+            sorted.add(value.value);
+        }
+        return sorted;
+    }
+
+    @Override
+    public int compare(String uniqueId1, String uniqueId2) {
+        int discovered = Integer.compare(discoveryIndex(uniqueId1), discoveryIndex(uniqueId2));
+        return discovered != 0 ? discovered : compareNatural(uniqueId1, uniqueId2);
+    }
+
+    /** The position of the ID, or of its nearest ancestor in the plan */
+    private int discoveryIndex(String uniqueId) {
+        for (String id = uniqueId; ; ) {
+            Integer index = discoveryIndex.get(id);
+            if (index != null) {
+                return index;
+            }
+            int parent = id.lastIndexOf(SEGMENT_SEPARATOR);
+            if (parent <= 0) {
+                return Integer.MAX_VALUE;
+            }
+            id = id.substring(0, parent);
+        }
+    }
+
+    static int compareNatural(String s1, String s2) {
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < s1.length() && i2 < s2.length()) {
+            char c1 = s1.charAt(i1);
+            char c2 = s2.charAt(i2);
+            if (Character.isDigit(c1) && Character.isDigit(c2)) {
+                int end1 = digitsEnd(s1, i1);
+                int end2 = digitsEnd(s2, i2);
+                int compared = compareDigits(s1, i1, end1, s2, i2, end2);
+                if (compared != 0) {
+                    return compared;
+                }
+                i1 = end1;
+                i2 = end2;
+            } else if (c1 != c2) {
+                return Character.compare(c1, c2);
+            } else {
+                i1++;
+                i2++;
+            }
+        }
+        return Integer.compare(s1.length() - i1, s2.length() - i2);
+    }
+
+    private static int digitsEnd(String s, int start) {
+        int end = start;
+        while (end < s.length() && Character.isDigit(s.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    /** Without parsing, so any number of digits compares, and without substrings as this runs on every comparison */
+    private static int compareDigits(String s1, int start1, int end1, String s2, int start2, int end2) {
+        int trimmed1 = skipLeadingZeros(s1, start1, end1);
+        int trimmed2 = skipLeadingZeros(s2, start2, end2);
+        if (end1 - trimmed1 != end2 - trimmed2) {
+            return Integer.compare(end1 - trimmed1, end2 - trimmed2);
+        }
+        for (int i1 = trimmed1, i2 = trimmed2; i1 < end1; i1++, i2++) {
+            if (s1.charAt(i1) != s2.charAt(i2)) {
+                return Character.compare(s1.charAt(i1), s2.charAt(i2));
+            }
+        }
+        return Integer.compare(end1 - start1, end2 - start2);
+    }
+
+    /** Keeps the last digit, so 000 compares as 0 */
+    private static int skipLeadingZeros(String s, int start, int end) {
+        int trimmed = start;
+        while (trimmed < end - 1 && s.charAt(trimmed) == '0') {
+            trimmed++;
+        }
+        return trimmed;
+    }
+
+    private static class Positioned<T> {
+        private final String uniqueId;
+        private final int discoveryIndex;
+        private final T value;
+
+        Positioned(String uniqueId, int discoveryIndex, T value) {
+            this.uniqueId = uniqueId;
+            this.discoveryIndex = discoveryIndex;
+            this.value = value;
+        }
+
+        int compareTo(Positioned<T> other) {
+            int discovered = Integer.compare(discoveryIndex, other.discoveryIndex);
+            return discovered != 0 ? discovered : compareNatural(uniqueId, other.uniqueId);
+        }
+    }
+}
@@ -19,11 +19,16 @@
 package io.techthinking.flowbdd.report.junit5.results.model;
 
 import io.techthinking.flowbdd.report.junit5.results.model.notes.Notes;
+import io.techthinking.flowbdd.report.report.model.Throwable;
+import io.techthinking.flowbdd.wordify.tokenize.TemplateInvocation;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
+
+import static java.util.Collections.emptyList;
 
 public class TestCaseResult {
     //TODO classes to add
@@ -50,15 +55,26 @@ public class TestCaseResult {
     // - args, repeat, etc...
     //TODO How to handle repeats?
     private String wordify;
+    /** shared method template plus this invocation's args, only expanded when the wordify is asked for */
+    private volatile TemplateInvocation wordifyTemplate;
+    /** wordify recorded by the test thread, resolved later in a batch or when the wordify is first asked for */
+    private volatile Supplier<TemplateInvocation> pendingWordify;
     private String name; // methodName!!
     private String displayName; // methodNameWordify or methodDisplayName ???
     private TestCaseResultStatus status;
+    /** converted when the test fails, so the exception and whatever it references aren't held until the report */
     private Throwable cause;
-    private List<Object> args = new ArrayList<>();
+    private List<ArgumentSnapshot> args = new ArrayList<>();
     private final TestSuiteClass testSuiteClass; // TODO surely this should be class??!?!?
-    private final Notes notes;
+    private volatile Notes notes;
+    /** in the lean capture profile, what is recorded once the test is known not to have passed */
+    private volatile Runnable pendingDetails;
 
     private final Timings timings = new Timings();
+    /** null unless output capture is on and the test wrote something */
+    private CapturedOutput output;
+    /** null unless this result stands for the aggregated invocations of a repeated or parameterized test */
+    private InvocationStatistics invocations;
     private long startTime;
     private long endTime;
 
@@ -68,7 +84,16 @@ public class TestCaseResult {
     }
 
     public String getWordify() {
-        return wordify;
+        if (pendingWordify != null) {
+            resolveWordify();
+        }
+        return storedWordify();
+    }
+
+    /** The wordify without resolving a pending one, null while it is pending */
+    private String storedWordify() {
+        TemplateInvocation template = wordifyTemplate;
+        return wordify == null && template != null ? template.asString() : wordify;
     }
 
     public TestCaseResultStatus getStatus() {
@@ -91,10 +116,20 @@ public class TestCaseResult {
         return testSuiteClass;
     }
 
-    public List<Object> getArgs() {
+    /** Snapshots of the arguments, a null argument is null */
+    public List<ArgumentSnapshot> getArgs() {
         return args;
     }
 
+    /** The rendered arguments, for naming and wordify */
+    public List<Object> getArgValues() {
+        List<Object> values = new ArrayList<>(args.size());
+        for (ArgumentSnapshot arg : args) {
+            values.add(arg == null ? null : arg.getValue());
+        }
+        return values;
+    }
+
     public Notes getNotes() {
         return notes;
     }
@@ -103,6 +138,24 @@ public class TestCaseResult {
         return timings;
     }
 
+    public Optional<CapturedOutput> getOutput() {
+        return Optional.ofNullable(output);
+    }
+
+    public TestCaseResult setOutput(CapturedOutput output) {
+        this.output = output == null || output.isEmpty() ? null : output;
+        return this;
+    }
+
+    public Optional<InvocationStatistics> getInvocations() {
+        return Optional.ofNullable(invocations);
+    }
+
+    public TestCaseResult setInvocations(InvocationStatistics invocations) {
+        this.invocations = invocations;
+        return this;
+    }
+
     public long getDuration() {
         return endTime - startTime;
     }
@@ -119,9 +172,89 @@ public class TestCaseResult {
 
     public TestCaseResult setWordify(String wordify) {
         this.wordify = wordify;
+        this.wordifyTemplate = null;
+        this.pendingWordify = null;
+        return this;
+    }
+
+    public TestCaseResult setPendingWordify(Supplier<TemplateInvocation> pendingWordify) {
+        this.wordify = null;
+        this.wordifyTemplate = null;
+        this.pendingWordify = pendingWordify;
+        return this;
+    }
+
+    /**
+     * The other result's template with no arguments bound, so its parameters read as their names. A pending one is
+     * resolved once for both when either is asked for. Without a template there is no wordify.
+     */
+    public TestCaseResult setArgumentFreeWordifyFrom(TestCaseResult other) {
+        if (other.isWordifyPending()) {
+            return setPendingWordify(() -> withoutArguments(other.resolvedWordifyTemplate()));
+        }
+        this.wordify = null;
+        this.wordifyTemplate = withoutArguments(other.wordifyTemplate);
+        this.pendingWordify = null;
+        return this;
+    }
+
+    private static TemplateInvocation withoutArguments(TemplateInvocation invocation) {
+        return invocation == null ? null : new TemplateInvocation(invocation.getTemplate(), emptyList());
+    }
+
+    private TemplateInvocation resolvedWordifyTemplate() {
+        resolveWordify();
+        return wordifyTemplate;
+    }
+
+    public TestCaseResult setPendingDetails(Runnable pendingDetails) {
+        this.pendingDetails = pendingDetails;
         return this;
     }
 
+    /** Records the pending details, once */
+    public void recordPendingDetails() {
+        Runnable pending = pendingDetails;
+        pendingDetails = null;
+        if (pending != null) {
+            pending.run();
+        }
+    }
+
+    /** Drops the pending details, notes and arguments of a test case that passed, keeping its status and timings */
+    public TestCaseResult discardDetails() {
+        pendingDetails = null;
+        notes = new Notes();
+        args = new ArrayList<>();
+        return setWordify(null);
+    }
+
+    /** Whether the wordify is, or once resolved will be, built from the method's template */
+    public boolean hasWordifyTemplate() {
+        return pendingWordify != null || wordifyTemplate != null;
+    }
+
+    public boolean isWordifyPending() {
+        return pendingWordify != null;
+    }
+
+    /**
+     * Runs the pending wordify once and keeps its template, so the source lookup lands wherever this is called rather
+     * than on a later read. The text itself is only expanded when read. A failure leaves the wordify empty rather than
+     * retrying on every read.
+     */
+    public synchronized void resolveWordify() {
+        Supplier<TemplateInvocation> pending = pendingWordify;
+        if (pending == null) {
+            return;
+        }
+        try {
+            wordifyTemplate = pending.get();
+        } finally {
+            pendingWordify = null;
+        }
+    }
+
     public TestCaseResult setName(String name) {
         this.name = name;
         return this;
@@ -142,27 +275,38 @@ public class TestCaseResult {
     }
 
     public TestCaseResult setArgs(List<Object> args) {
-        this.args = args;
+        return setArgs(args, ArgumentSnapshot.DEFAULT_MAX_LENGTH);
+    }
+
+    /** Takes a snapshot of each argument, so the argument objects can be garbage collected after the test */
+    public TestCaseResult setArgs(List<Object> args, int maxLength) {
+        List<ArgumentSnapshot> snapshots = new ArrayList<>(args.size());
+        for (Object arg : args) {
+            snapshots.add(ArgumentSnapshot.of(arg, maxLength));
+        }
+        this.args = snapshots;
         return this;
     }
 
+    /** ignore timings, a pending wordify is compared as is rather than resolved */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof TestCaseResult)) return false;
         TestCaseResult that = (TestCaseResult) o;
-        return Objects.equals(wordify, that.wordify) && Objects.equals(name, that.name) && Objects.equals(displayName, that.displayName) && status == that.status && Objects.equals(cause, that.cause) && Objects.equals(args, that.args) && Objects.equals(testSuiteClass, that.testSuiteClass) && Objects.equals(notes, that.notes) && Objects.equals(timings, that.timings);
+        return Objects.equals(storedWordify(), that.storedWordify()) && Objects.equals(pendingWordify, that.pendingWordify) && Objects.equals(name, that.name) && Objects.equals(displayName, that.displayName) && status == that.status && Objects.equals(cause, that.cause) && Objects.equals(args, that.args) && Objects.equals(testSuiteClass, that.testSuiteClass) && Objects.equals(notes, that.notes) && Objects.equals(output, that.output) && Objects.equals(invocations, that.invocations);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(wordify, name, displayName, status, cause, args, testSuiteClass, notes, timings);
+        return Objects.hash(storedWordify(), pendingWordify, name, displayName, status, cause, args, testSuiteClass, notes, output, invocations);
     }
 
     @Override
     public String toString() {
         return "TestCaseResult{" +
-            "wordify='" + wordify + '\'' +
+            "wordify='" + storedWordify() + '\'' +
+            ", pendingWordify=" + isWordifyPending() +
             ", name='" + name + '\'' +
             ", displayName='" + displayName + '\'' +
             ", status=" + status +
@@ -171,6 +315,8 @@ public class TestCaseResult {
             ", testSuiteClass=" + testSuiteClass +
             ", notes=" + notes +
             ", timings=" + timings +
+            ", output=" + output +
+            ", invocations=" + invocations +
             '}';
     }
 }
@@ -24,10 +24,12 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static io.techthinking.flowbdd.report.junit5.results.model.TestSuiteClass.*;
+import static java.util.stream.Collectors.toList;
 
 public class TestResults {
 
@@ -52,14 +54,35 @@ public class TestResults {
      * }
      */
 
+    /** Every lifecycle callback looks its suite up by class, so each class's key is only built once */
+    private static final ClassValue<TestSuiteClass> testSuiteClasses = new ClassValue<TestSuiteClass>() {
+        @Override
+        protected TestSuiteClass computeValue(Class<?> type) {
+            return testSuiteClass(type);
+        }
+    };
+
     private final ConcurrentHashMap<TestSuiteClass, TestSuiteResult> testSuiteToTestSuiteResults = new ConcurrentHashMap<>();
+    private final TestCaseOrder testCaseOrder = new TestCaseOrder();
 
     public List<TestSuiteClass> getClasses() {
         return Collections.list(testSuiteToTestSuiteResults.keys());
     }
 
+    /** A snapshot in {@link TestCaseOrder}, so the report is the same whether the classes ran in parallel or not */
     public Collection<TestSuiteResult> getTestSuiteResults() {
-        return testSuiteToTestSuiteResults.values();
+        return testSuiteToTestSuiteResults.values().stream()
+            .sorted(Comparator.comparing(TestSuiteResult::getUniqueId, testCaseOrder))
+            .collect(toList());
+    }
+
+    /** The unique IDs of a test plan in the order it was discovered, see {@link TestCaseOrder} */
+    public void setDiscoveryOrder(List<String> uniqueIds) {
+        testCaseOrder.setDiscoveryOrder(uniqueIds);
+    }
+
+    public void clearDiscoveryOrder() {
+        testCaseOrder.clearDiscoveryOrder();
     }
 
     public TestSuiteResult getTestSuiteResults(TestSuiteClass testSuiteClass) {
@@ -73,13 +96,13 @@ public class TestResults {
     public TestSuiteResult startTestSuite(ExtensionContext context) {
         TestSuiteClass testSuiteClass = testSuiteClass(context.getRequiredTestClass());
         String title = new WordifyString(testSuiteClass.getClassName()).wordify(); //TODO
-        TestSuiteResult testSuiteResult = new TestSuiteResult(testSuiteClass, title, new Notes());
+        TestSuiteResult testSuiteResult = new TestSuiteResult(testSuiteClass, context.getUniqueId(), title, new Notes(), testCaseOrder);
         testSuiteToTestSuiteResults.put(getTestSuiteClass(context), testSuiteResult);
         return testSuiteResult;
     }
 
     public TestSuiteClass getTestSuiteClass(ExtensionContext extensionContext) {
-        return testSuiteClass(extensionContext.getRequiredTestClass());
+        return testSuiteClasses.get(extensionContext.getRequiredTestClass());
     }
 
     public void reset() {
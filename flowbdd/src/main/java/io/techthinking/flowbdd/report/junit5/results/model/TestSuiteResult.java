@@ -21,11 +21,15 @@ package io.techthinking.flowbdd.report.junit5.results.model;
 import io.techthinking.flowbdd.report.junit5.results.model.notes.Notes;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
-import static io.techthinking.flowbdd.report.junit5.results.model.TestSuiteClass.*;
+import static io.techthinking.flowbdd.wordify.tokenize.WordifyStringUtil.upperCaseFirstChar;
+import static io.techthinking.flowbdd.wordify.tokenize.WordifyStringUtil.wordifyMethodOrFieldName;
 
 /**
  * <pre> {@code
@@ -51,36 +55,156 @@ import static io.techthinking.flowbdd.report.junit5.results.model.TestSuiteClass
  *
  * This could be a service to create an immutable TestSuiteResults??
  * }</pre>
+ * Test cases may start on any thread when JUnit runs methods in parallel, so they are held by unique ID in a
+ * concurrent map and put in {@link TestCaseOrder} when they are read.
  */
 public class TestSuiteResult {
+    private static final String INVOCATION_SEGMENT = "/[test-template-invocation:";
     private final TestSuiteClass testSuiteClass;
-    /** all results including different params and or repeated test */
-    private final List<TestCaseResult> testCaseResults = new ArrayList<>();
-    private final ConcurrentHashMap<ExtensionContext, TestCaseResult> contextToTestCaseResult = new ConcurrentHashMap<>();
+    private final String uniqueId;
+    /** all results including different params and or repeated test, by unique ID */
+    private final Map<String, TestCaseResult> testCaseResults = new ConcurrentHashMap<>();
+    /** Unique IDs of the (at)TestFactory methods, which like in JUnit's counts only stand as a test case when they fail */
+    private final Set<String> testFactories = ConcurrentHashMap.newKeySet();
+    private final TestCaseOrder testCaseOrder;
     private final String title;
-    private final Notes notes;
-    private TestSuiteTotals totals;
+    private volatile Notes notes;
+    private final SuiteTimings timings = new SuiteTimings();
+    private volatile TestSuiteTotals totals;
+    private volatile boolean evicted = false;
 
     public TestSuiteResult(TestSuiteClass testSuiteClass, String title, Notes notes) {
+        this(testSuiteClass, testSuiteClass.getFullyQualifiedName(), title, notes, new TestCaseOrder());
+    }
+
+    public TestSuiteResult(TestSuiteClass testSuiteClass, String uniqueId, String title, Notes notes, TestCaseOrder testCaseOrder) {
         this.testSuiteClass = testSuiteClass;
+        this.uniqueId = uniqueId;
         this.title = title;
         this.notes = notes;
+        this.testCaseOrder = testCaseOrder;
     }
 
     // /** Creates the testcase, before we have invocationContext */
     public TestCaseResult startTestCase(ExtensionContext context) {
-        TestCaseResult testCaseResult = createTestCaseResult(context);
-        this.testCaseResults.add(testCaseResult);
-        contextToTestCaseResult.put(context, testCaseResult);
+        return startTestCase(context.getUniqueId());
+    }
+
+    /** Only the unique ID is kept, so the result holds on to nothing of JUnit's once its test has finished */
+    public TestCaseResult startTestCase(String uniqueId) {
+        TestCaseResult testCaseResult = new TestCaseResult(testSuiteClass, new Notes());
+        testCaseResults.put(uniqueId, testCaseResult);
         return testCaseResult;
     }
 
+    /** The test case started for the factory is dropped on completion unless the factory itself didn't pass */
+    public void markTestFactory(String uniqueId) {
+        testFactories.add(uniqueId);
+    }
+
     public void completeTestSuite() {
-        totals = TestSuiteTotalsFactory.create(testCaseResults);
+        completeTestSuite(false);
+    }
+
+    /**
+     * @param aggregateInvocations whether the invocations of each repeated or parameterized test are replaced by one
+     *                             result with their statistics, the totals still count every invocation
+     */
+    public void completeTestSuite(boolean aggregateInvocations) {
+        for (String testFactory : testFactories) {
+            testCaseResults.computeIfPresent(testFactory, (id, result) -> result.getStatus() == TestCaseResultStatus.PASSED ? null : result);
+        }
+        testFactories.clear();
+        totals = TestSuiteTotalsFactory.create(getTestCaseResults());
+        if (aggregateInvocations) {
+            aggregateInvocations();
+        }
+    }
+
+    /**
+     * Folds the invocations of each test template into a result held under the template's unique ID, so it takes the
+     * template's place in {@link TestCaseOrder}. Invocations that didn't pass are kept in full after it.
+     */
+    private void aggregateInvocations() {
+        Map<String, Map<String, TestCaseResult>> byTemplate = new HashMap<>();
+        for (Map.Entry<String, TestCaseResult> entry : testCaseResults.entrySet()) {
+            String id = entry.getKey();
+            int invocation = id.lastIndexOf(INVOCATION_SEGMENT);
+            if (invocation > 0 && id.indexOf("/[", invocation + 1) < 0) {
+                byTemplate.computeIfAbsent(id.substring(0, invocation), templateId -> new HashMap<>()).put(id, entry.getValue());
+            }
+        }
+        byTemplate.forEach((templateId, invocations) -> {
+            testCaseResults.put(templateId, aggregate(testCaseOrder.sort(invocations)));
+            invocations.forEach((id, invocation) -> {
+                if (!isKeptInFull(invocation)) {
+                    testCaseResults.remove(id);
+                }
+            });
+        });
+    }
+
+    /**
+     * Named after the method and wordified from its template without arguments, as the text of any one invocation would
+     * misdescribe the rest; the invocations kept in full keep theirs. With the notes of the first that didn't pass if
+     * there is one, and the summed timings of those it replaces so the suite's time is unchanged. A pending wordify
+     * stays pending.
+     */
+    private TestCaseResult aggregate(List<TestCaseResult> invocations) {
+        TestCaseResult first = invocations.get(0);
+        TestCaseResult noted = invocations.stream().filter(TestSuiteResult::isKeptInFull).findFirst().orElse(first);
+        TestCaseResult templated = invocations.stream().filter(TestCaseResult::hasWordifyTemplate).findFirst().orElse(first);
+        TestCaseResult aggregate = new TestCaseResult(testSuiteClass, noted.getNotes())
+            .setName(first.getName())
+            .setArgumentFreeWordifyFrom(templated)
+            .setStatus(TestCaseResultStatus.PASSED)
+            .setInvocations(InvocationStatistics.of(invocations));
+        aggregate.setDisplayName(first.getName() == null ? null : upperCaseFirstChar(wordifyMethodOrFieldName(first.getName())));
+        Timings timings = aggregate.getTimings();
+        for (TestCaseResult invocation : invocations) {
+            if (invocation.getStatus() == TestCaseResultStatus.FAILED) {
+                aggregate.setStatus(TestCaseResultStatus.FAILED);
+            } else if (invocation.getStatus() == TestCaseResultStatus.ABORTED && aggregate.getStatus() != TestCaseResultStatus.FAILED) {
+                aggregate.setStatus(TestCaseResultStatus.ABORTED);
+            }
+            if (isKeptInFull(invocation)) continue;
+            Timings folded = invocation.getTimings();
+            timings.setConstructor(timings.getConstructor() + folded.getConstructor())
+                .addBeforeEach(folded.getBeforeEach())
+                .setUnderTest(timings.getUnderTest() + folded.getUnderTest())
+                .addAfterEach(folded.getAfterEach());
+        }
+        return aggregate;
+    }
+
+    private static boolean isKeptInFull(TestCaseResult invocation) {
+        return invocation.getStatus() == TestCaseResultStatus.FAILED || invocation.getStatus() == TestCaseResultStatus.ABORTED;
+    }
+
+    /**
+     * Releases the test cases and notes once the suite has been written, keeping the title, totals and timings the
+     * report index needs.
+     */
+    public void evict() {
+        evicted = true;
+        testCaseResults.clear();
+        notes = new Notes();
+    }
+
+    public boolean isEvicted() {
+        return evicted;
     }
 
     public TestCaseResult getTestCaseResult(ExtensionContext context) {
-        return contextToTestCaseResult.get(context);
+        return getTestCaseResult(context.getUniqueId());
+    }
+
+    public TestCaseResult getTestCaseResult(String uniqueId) {
+        return testCaseResults.get(uniqueId);
+    }
+
+    public String getUniqueId() {
+        return uniqueId;
     }
 
     public String getTitle() {
@@ -95,15 +219,16 @@ public class TestSuiteResult {
         return totals;
     }
 
+    /** A snapshot in {@link TestCaseOrder}, test cases still running may or may not be in it */
     public List<TestCaseResult> getTestCaseResults() {
-        return testCaseResults;
+        return Collections.unmodifiableList(testCaseOrder.sort(testCaseResults));
     }
 
     public Notes getNotes() {
         return notes;
     }
 
-    private TestCaseResult createTestCaseResult(ExtensionContext context) {
-        return new TestCaseResult(testSuiteClass(context.getRequiredTestClass()), new Notes());
+    public SuiteTimings getTimings() {
+        return timings;
     }
 }
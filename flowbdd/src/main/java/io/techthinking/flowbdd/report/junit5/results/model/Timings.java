@@ -20,10 +20,29 @@ package io.techthinking.flowbdd.report.junit5.results.model;
 
 import java.util.Objects;
 
+/**
+ * Time spent in each phase of a test case, in nanoseconds from {@link System#nanoTime()}. A phase with several
+ * methods, such as two {@code @BeforeEach} methods, is their sum.
+ */
 public class Timings {
+    public static final long NOT_MEASURED = -1;
+
+    private long constructor = 0;
     private long beforeEach = 0;
     private long underTest = 0;
     private long afterEach = 0;
+    private long cpuTime = NOT_MEASURED;
+    private long allocatedBytes = NOT_MEASURED;
+
+    /** The test class constructor for this test case, zero when the lifecycle is per class */
+    public long getConstructor() {
+        return constructor;
+    }
+
+    public Timings setConstructor(long constructor) {
+        this.constructor = constructor;
+        return this;
+    }
 
     public long getBeforeEach() {
         return beforeEach;
@@ -34,6 +53,11 @@ public class Timings {
         return this;
     }
 
+    public Timings addBeforeEach(long beforeEach) {
+        this.beforeEach += beforeEach;
+        return this;
+    }
+
     public long getUnderTest() {
         return underTest;
     }
@@ -52,8 +76,33 @@ public class Timings {
         return this;
     }
 
+    public Timings addAfterEach(long afterEach) {
+        this.afterEach += afterEach;
+        return this;
+    }
+
+    /** Thread CPU time of the test method in nanoseconds, when resource capture is on */
+    public long getCpuTime() {
+        return cpuTime;
+    }
+
+    public Timings setCpuTime(long cpuTime) {
+        this.cpuTime = cpuTime;
+        return this;
+    }
+
+    /** Bytes allocated by the thread during the test method, when resource capture is on */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public Timings setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+        return this;
+    }
+
     public long getTotal() {
-        return beforeEach + underTest + afterEach;
+        return constructor + beforeEach + underTest + afterEach;
     }
 
     @Override
@@ -61,21 +110,24 @@ public class Timings {
         if (this == o) return true;
         if (!(o instanceof Timings)) return false;
         Timings timings = (Timings) o;
-        return beforeEach == timings.beforeEach && underTest == timings.underTest && afterEach == timings.afterEach;
+        return constructor == timings.constructor && beforeEach == timings.beforeEach && underTest == timings.underTest && afterEach == timings.afterEach && cpuTime == timings.cpuTime && allocatedBytes == timings.allocatedBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(beforeEach, underTest, afterEach);
+        return Objects.hash(constructor, beforeEach, underTest, afterEach, cpuTime, allocatedBytes);
     }
 
     @Override
     public String toString() {
         return "Timings{" +
-            "beforeEach=" + beforeEach +
+            "constructor=" + constructor +
+            ", beforeEach=" + beforeEach +
             ", underTest=" + underTest +
             ", afterEach=" + afterEach +
             ", total=" + getTotal() +
+            ", cpuTime=" + cpuTime +
+            ", allocatedBytes=" + allocatedBytes +
             '}';
     }
 }
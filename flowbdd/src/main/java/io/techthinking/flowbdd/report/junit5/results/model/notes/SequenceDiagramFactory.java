@@ -23,26 +23,38 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Objects;
 
+/**
+ * Guarded by this, so the diagrams can be added from the parallel test methods of a class. {@link #getAll()} is a copy.
+ */
 public class SequenceDiagramFactory {
-    HashMap<String, SequenceDiagram> map = new LinkedHashMap<>();
+    private static final String DEFAULT_NAME = "diagram-1";
+    private final HashMap<String, SequenceDiagram> map = new LinkedHashMap<>();
 
     //TODO this concept works, needs testing so that we can add "diagram-1"
-    public SequenceDiagram add(SequenceDiagram diagram) {
-        map.put("diagram-1", diagram);
+    public synchronized SequenceDiagram add(SequenceDiagram diagram) {
+        map.put(DEFAULT_NAME, diagram);
         return diagram;
     }
 
-    public SequenceDiagram add(String name, SequenceDiagram diagram) {
+    public synchronized SequenceDiagram add(String name, SequenceDiagram diagram) {
         map.put(name, diagram);
         return diagram;
     }
 
-    public SequenceDiagram get(String name) {
+    /** Adds the diagram unless there already is one, either way returns the default diagram */
+    public synchronized SequenceDiagram addOnce(SequenceDiagram diagram) {
+        if (map.isEmpty()) {
+            map.put(DEFAULT_NAME, diagram);
+        }
+        return map.get(DEFAULT_NAME);
+    }
+
+    public synchronized SequenceDiagram get(String name) {
         return  map.get(name);
     }
 
-    public HashMap<String, SequenceDiagram> getAll() {
-        return map;
+    public synchronized HashMap<String, SequenceDiagram> getAll() {
+        return new LinkedHashMap<>(map);
     }
 
     @Override
@@ -50,18 +62,18 @@ public class SequenceDiagramFactory {
         if (this == o) return true;
         if (!(o instanceof SequenceDiagramFactory)) return false;
         SequenceDiagramFactory that = (SequenceDiagramFactory) o;
-        return Objects.equals(map, that.map);
+        return Objects.equals(getAll(), that.getAll());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(map);
+        return Objects.hash(getAll());
     }
 
     @Override
     public String toString() {
         return "SequenceDiagramFactory{" +
-            "map=" + map +
+            "map=" + getAll() +
             '}';
     }
 }
@@ -18,21 +18,32 @@
 
 package io.techthinking.flowbdd.report.junit5.results.model.notes;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * Feature notes are shared by the test methods of a class, which may run in parallel, so reads never see a
+ * half-written list and {@link #addOnce(String)} is atomic.
+ */
 public class TextNotes {
-    private final List<String> notes = new ArrayList<>();
+    private final List<String> notes = new CopyOnWriteArrayList<>();
 
     public List<String> getNotes() {
         return notes;
     }
 
-    public void add(String note) {
+    public synchronized void add(String note) {
         notes.add(note);
     }
 
+    /** Adds the note unless there already is one, for notes that every test of a class writes */
+    public synchronized void addOnce(String note) {
+        if (notes.isEmpty()) {
+            notes.add(note);
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
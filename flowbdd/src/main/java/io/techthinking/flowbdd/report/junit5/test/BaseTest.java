@@ -20,6 +20,7 @@ package io.techthinking.flowbdd.report.junit5.test;
 
 import io.techthinking.flowbdd.report.junit5.annotations.InjectTestCaseResult;
 import io.techthinking.flowbdd.report.junit5.annotations.InjectTestSuiteResult;
+import io.techthinking.flowbdd.report.junit5.results.extension.CurrentTestCase;
 import io.techthinking.flowbdd.report.junit5.results.extension.FlowBdd;
 import io.techthinking.flowbdd.report.junit5.results.extension.TestSuiteResultParameterResolver;
 import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
@@ -118,22 +119,20 @@ public abstract class BaseTest {
         return context;
     }
 
-    // addOnce(), then this logic doesn't have to be here
     public void featureNotes(String notes) {
-        if (featureNotes().text().getNotes().isEmpty()) {
-            featureNotes().text().add(notes);
-        }
+        featureNotes().text().addOnce(notes);
     }
 
+    /**
+     * The notes of the test running on this thread, or of the test that spawned it, see {@link CurrentTestCase}. Falls
+     * back to the test that last set up this instance.
+     */
     public Notes notes() {
-        return context.test().notes();
+        return CurrentTestCase.get().map(TestCaseResult::getNotes).orElseGet(() -> context.test().notes());
     }
 
     public SequenceDiagram sequenceDiagram() {
-        if (context.test().notes().diagrams().getAll().isEmpty()) {
-            context().test().notes().diagrams().add(new SequenceDiagram());
-        }
-        return context.test().notes().diagrams().get("diagram-1");
+        return notes().diagrams().addOnce(new SequenceDiagram());
     }
 
     // would you need a helper method?
@@ -38,37 +38,38 @@ import java.util.stream.Collectors;
  *     Bob-->>John: Jolly good!
  *   </div>
  * }</pre>
+ * Guarded by this, so messages can be added from the threads a test spawns.
  */
 public class SequenceDiagram implements Expression {
-    private List<Participant> participants = new ArrayList<>();
-    private List<Message> messages = new ArrayList<>();
+    private final List<Participant> participants = new ArrayList<>();
+    private final List<Message> messages = new ArrayList<>();
 
     @Override
-    public String generate() {
+    public synchronized String generate() {
         return "sequenceDiagram\n"
             + participants.stream().map(Expression::generate).collect(Collectors.joining("\n\t", "\t", "\n"))
             + messages.stream().map(Expression::generate).collect(Collectors.joining("\n\t", "\t", ""));
     }
 
-    public SequenceDiagram addActor(String name) {
+    public synchronized SequenceDiagram addActor(String name) {
         //TODO if "Actor" throw illegal state exception
         participants.add(new Participant(name, ParticipantType.ACTOR));
         return this;
     }
 
-    public SequenceDiagram addParticipant(String name) {
+    public synchronized SequenceDiagram addParticipant(String name) {
         participants.add(new Participant(name));
         return this;
     }
 
-    public SequenceDiagram addMessage(Message message) {
+    public synchronized SequenceDiagram addMessage(Message message) {
         messages.add(message);
         return this;
     }
 
     // TODO what if we don't have any actors and or participants should we create?
     // first from being an actor, then participants
-    public SequenceDiagram add(MessageBuilder message) {
+    public synchronized SequenceDiagram add(MessageBuilder message) {
         messages.add(message.build());
         return this;
     }
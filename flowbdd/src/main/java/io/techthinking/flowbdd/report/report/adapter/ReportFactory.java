@@ -18,69 +18,146 @@
 
 package io.techthinking.flowbdd.report.report.adapter;
 
+import io.techthinking.flowbdd.report.config.FlowBddConfig;
+import io.techthinking.flowbdd.report.junit5.results.model.ArgumentSnapshot;
+import io.techthinking.flowbdd.report.junit5.results.model.CapturedOutput;
+import io.techthinking.flowbdd.report.junit5.results.model.CapturedStream;
+import io.techthinking.flowbdd.report.junit5.results.model.InvocationStatistics;
+import io.techthinking.flowbdd.report.junit5.results.model.SuiteTimings;
 import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
 import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResultStatus;
 import io.techthinking.flowbdd.report.junit5.results.model.TestResults;
 import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteClass;
 import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteTotals;
+import io.techthinking.flowbdd.report.junit5.results.model.Timings;
 import io.techthinking.flowbdd.report.report.model.Argument;
+import io.techthinking.flowbdd.report.report.model.CapturedText;
 import io.techthinking.flowbdd.report.report.model.Clazz;
 import io.techthinking.flowbdd.report.report.model.DataReportIndex;
 import io.techthinking.flowbdd.report.report.model.Method;
 import io.techthinking.flowbdd.report.report.model.Report;
 import io.techthinking.flowbdd.report.report.model.Status;
 import io.techthinking.flowbdd.report.report.model.TestCase;
+import io.techthinking.flowbdd.report.report.model.TestCaseInvocations;
+import io.techthinking.flowbdd.report.report.model.TestCaseOutput;
+import io.techthinking.flowbdd.report.report.model.TestCaseResources;
 import io.techthinking.flowbdd.report.report.model.TestCaseTimings;
 import io.techthinking.flowbdd.report.report.model.TestSuite;
+import io.techthinking.flowbdd.report.report.model.TestSuiteLinks;
+import io.techthinking.flowbdd.report.report.model.TestSuiteNameToFile;
+import io.techthinking.flowbdd.report.report.model.TestSuiteResources;
 import io.techthinking.flowbdd.report.report.model.TestSuiteSummary;
+import io.techthinking.flowbdd.report.report.model.TestSuiteTimings;
+import io.techthinking.flowbdd.report.report.model.Throwable;
 import io.techthinking.flowbdd.report.report.model.VersionInfo;
 import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteResult;
 import io.techthinking.flowbdd.report.junit5.results.model.notes.Notes;
 import io.techthinking.flowbdd.report.mermaid.SequenceDiagram;
-import io.techthinking.flowbdd.report.report.model.Throwable;
 import io.techthinking.flowbdd.report.report.writers.DataFileNameProvider;
 
+import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
 
 import static java.util.stream.Collectors.toList;
 
 public class ReportFactory {
+    private static final int HEAVIEST_TEST_CASES = 5;
     private static final ReportTestSuiteLinksFactory dataTestSuiteLinksFactory = new ReportTestSuiteLinksFactory(new DataFileNameProvider());
+    private static final ThrowableFactory throwableFactory = ThrowableFactory.shared();
 
+    /**
+     * One pass over the test suites, each is folded into the index as it's built. Evicted test suites were already
+     * written, they are only in the index. The report's test cases are a view of its suites' rather than a copy.
+     */
     public static Report create(TestResults testResults, VersionInfo versionInfo) {
-        Collection<TestSuiteResult> testSuiteResults = testResults.getTestSuiteResults();
-        List<TestSuite> testSuites = testSuites(testSuiteResults); // TODO add TestVersionInfo?? or just the web??
-        List<TestCase> testCases = testCases(testSuiteResults);    // TODO add TestVersionInfo??
+        List<TestSuiteNameToFile> links = new ArrayList<>();
+        ReportSummaryFactory.ReportSummaryBuilder summary = new ReportSummaryFactory.ReportSummaryBuilder();
+        List<TestSuite> testSuites = new ArrayList<>(); // TODO add TestVersionInfo?? or just the web??
+        for (TestSuiteResult testSuiteResult : testResults.getTestSuiteResults()) {
+            TestSuite testSuite = testSuite(testSuiteResult);
+            links.add(dataTestSuiteLinksFactory.testSuiteNameToFile(testSuite));
+            summary.increment(testSuite.getSummary());
+            if (!testSuiteResult.isEvicted()) {
+                testSuites.add(testSuite);
+            }
+        }
         DataReportIndex dataReportIndex = new DataReportIndex(
-            dataTestSuiteLinksFactory.create(testSuites),
-            ReportSummaryFactory.create(testSuites),
+            new TestSuiteLinks(links),
+            summary.build(),
             versionInfo.getDateTimeAsString());
-        return new Report(dataReportIndex, testCases, testSuites,  versionInfo.getDateTimeAsString());
-    }
-
-    private static List<TestCase> testCases(Collection<TestSuiteResult> testSuiteResults) {
-        return testSuiteResults.stream()
-            .flatMap(testSuite -> testSuite.getTestCaseResults().stream())
-            .map(ReportFactory::testCase)
-            .collect(toList());
-    }
-
-    private static List<TestSuite> testSuites(Collection<TestSuiteResult> testSuiteResults) {
-        return testSuiteResults.stream().map(ReportFactory::testSuite).collect(toList());
+        return new Report(dataReportIndex, testSuites, versionInfo.getDateTimeAsString());
     }
 
+    /** The test case results are sorted once and shared by the test cases, timings and resources */
     public static TestSuite testSuite(TestSuiteResult testSuiteResult) {
+        List<TestCaseResult> testCaseResults = testSuiteResult.getTestCaseResults();
+        List<TestCase> testCases = testResults(testCaseResults);
         return new TestSuite(
             testSuiteResult.getTitle(),
             testSuiteResult.getTestSuiteClass().getFullyQualifiedName(),
             testSuiteResult.getTestSuiteClass().getClassName(),
             testSuiteResult.getTestSuiteClass().getPackageName(),
-            testResults(testSuiteResult.getTestCaseResults()),
+            testCases,
             testSuiteSummary(testSuiteResult.getTotals()),
-            notes(testSuiteResult.getNotes()));
+            notes(testSuiteResult.getNotes()),
+            testSuiteTimings(testSuiteResult, testCaseResults),
+            testSuiteResources(testCaseResults),
+            stackTraces(testCases));
+    }
+
+    /** @return null when no test case failed, so the report leaves it out */
+    private static Map<String, List<String>> stackTraces(List<TestCase> testCases) {
+        List<Throwable> causes = testCases.stream().map(TestCase::getCause).filter(Objects::nonNull).collect(toList());
+        Map<String, List<String>> stackTraces = throwableFactory.stackTraces(causes);
+        return stackTraces.isEmpty() ? null : stackTraces;
+    }
+
+    private static TestSuiteTimings testSuiteTimings(TestSuiteResult testSuiteResult, List<TestCaseResult> testCaseResults) {
+        SuiteTimings timings = testSuiteResult.getTimings();
+        long testCases = 0;
+        for (TestCaseResult testCaseResult : testCaseResults) {
+            testCases += testCaseResult.getTimings().getTotal();
+        }
+        return new TestSuiteTimings(timings.getConstructor(), timings.getBeforeAll(), timings.getAfterAll(), testCases, timings.getDuration());
+    }
+
+    private static TestCaseTimings testCaseTimings(Timings timings) {
+        return new TestCaseTimings(timings.getConstructor(), timings.getBeforeEach(), timings.getAfterEach(), timings.getUnderTest(), timings.getTotal(),
+            measured(timings.getCpuTime()), measured(timings.getAllocatedBytes()));
+    }
+
+    /** @return null when no test case was measured, so the report leaves it out */
+    private static TestSuiteResources testSuiteResources(List<TestCaseResult> testCaseResults) {
+        List<TestCaseResources> heaviestCpu = heaviest(testCaseResults, Timings::getCpuTime);
+        List<TestCaseResources> heaviestAllocators = heaviest(testCaseResults, Timings::getAllocatedBytes);
+        if (heaviestCpu.isEmpty() && heaviestAllocators.isEmpty()) {
+            return null;
+        }
+        return new TestSuiteResources(heaviestCpu, heaviestAllocators);
+    }
+
+    private static List<TestCaseResources> heaviest(List<TestCaseResult> testCaseResults, ToLongFunction<Timings> measurement) {
+        return testCaseResults.stream()
+            .filter(testCaseResult -> measurement.applyAsLong(testCaseResult.getTimings()) != Timings.NOT_MEASURED)
+            .sorted(Comparator.comparingLong((TestCaseResult testCaseResult) -> measurement.applyAsLong(testCaseResult.getTimings())).reversed())
+            .limit(HEAVIEST_TEST_CASES)
+            .map(ReportFactory::testCaseResources)
+            .collect(toList());
+    }
+
+    private static TestCaseResources testCaseResources(TestCaseResult testCaseResult) {
+        Timings timings = testCaseResult.getTimings();
+        return new TestCaseResources(testCaseResult.getName(), testCaseResult.getDisplayName(), measured(timings.getCpuTime()), measured(timings.getAllocatedBytes()));
+    }
+
+    private static Long measured(long value) {
+        return value == Timings.NOT_MEASURED ? null : value;
     }
 
     private static TestSuiteSummary testSuiteSummary(TestSuiteTotals metadata) {
@@ -93,48 +170,72 @@ public class ReportFactory {
     }
 
     private static List<TestCase> testResults(List<TestCaseResult> testCaseResults) {
-        return testCaseResults.stream().map(ReportFactory::testCase).collect(toList());
+        List<TestCase> testCases = new ArrayList<>(testCaseResults.size());
+        for (TestCaseResult testCaseResult : testCaseResults) {
+            testCases.add(testCase(testCaseResult));
+        }
+        return testCases;
     }
 
     private static TestCase testCase(TestCaseResult testCaseResult) {
         return new TestCase(
             testCaseResult.getWordify(),
             statusFrom(testCaseResult.getStatus()),
-            testCaseResult.getCause().map(ReportFactory::throwableParent).orElse(null),
+            testCaseResult.getCause().orElse(null),
             method(testCaseResult),
             clazz(testCaseResult.getTestSuiteClass()),
             notes(testCaseResult.getNotes()),
-            new TestCaseTimings(0L, 0L, 0L, testCaseResult.getDuration()));
+            testCaseTimings(testCaseResult.getTimings()),
+            testCaseResult.getOutput().map(ReportFactory::testCaseOutput).orElse(null),
+            testCaseResult.getInvocations().map(ReportFactory::testCaseInvocations).orElse(null));
     }
 
-    private static Method method(TestCaseResult testCaseResult) {
-        return new Method(testCaseResult.getName(), testCaseResult.getDisplayName(), arguments(testCaseResult.getArgs()));
+    private static TestCaseInvocations testCaseInvocations(InvocationStatistics statistics) {
+        return new TestCaseInvocations(
+            statistics.getInvocationCount(),
+            statistics.getPassedCount(),
+            statistics.getFailedCount(),
+            statistics.getAbortedCount(),
+            statistics.getMin(),
+            statistics.getMean(),
+            statistics.getP50(),
+            statistics.getP95(),
+            statistics.getP99(),
+            statistics.getMax());
     }
 
-    private static List<Argument> arguments(List<Object> args) {
-        List<Argument> argResults = new ArrayList<>();
-        for (Object arg: args) {
-            argResults.add(arg == null ? null : new Argument(clazz(arg.getClass()), arg.toString()));
+    private static TestCaseOutput testCaseOutput(CapturedOutput output) {
+        return new TestCaseOutput(capturedText(output.getStdOut()), capturedText(output.getStdErr()), capturedText(output.getLog()));
+    }
+
+    /** Spilled output is linked rather than inlined, so a chatty test doesn't bloat the JSON */
+    private static CapturedText capturedText(CapturedStream stream) {
+        if (stream == null) return null;
+        String link = stream.getFile() == null ? null : link(stream.getFile());
+        return new CapturedText(stream.getText(), link, stream.getBytes());
+    }
+
+    /** Relative to the report directory the HTML is written to, so the link still works once the reports are moved */
+    private static String link(Path file) {
+        Path reportPath = FlowBddConfig.getReportPath().toAbsolutePath().normalize();
+        try {
+            return reportPath.relativize(file.toAbsolutePath().normalize()).toString().replace(File.separatorChar, '/');
+        } catch (IllegalArgumentException e) {
+            // on another drive to the report, so there is no relative path
+            return file.toUri().toString();
         }
-        return argResults;
     }
 
-    private static Throwable throwableParent(java.lang.Throwable throwable) {
-        if (throwable == null) return null;
-        return new Throwable(
-            clazz(throwable.getClass()),
-            throwable.getMessage(),
-            throwableChild(throwable),
-            Arrays.asList("TODO stacktrace"));
+    private static Method method(TestCaseResult testCaseResult) {
+        return new Method(testCaseResult.getName(), testCaseResult.getDisplayName(), arguments(testCaseResult.getArgs()));
     }
 
-    private static Throwable throwableChild(java.lang.Throwable throwable) {
-        if (throwable == null) return null;
-        return new Throwable(
-            clazz(throwable.getClass()),
-            throwable.getMessage(),
-            null,
-            Arrays.asList("TODO stacktrace"));
+    private static List<Argument> arguments(List<ArgumentSnapshot> args) {
+        List<Argument> argResults = new ArrayList<>();
+        for (ArgumentSnapshot arg: args) {
+            argResults.add(arg == null ? null : new Argument(new Clazz(arg.getTypeName(), arg.getSimpleTypeName(), arg.getPackageName()), arg.getValue()));
+        }
+        return argResults;
     }
 
     private static Clazz clazz(TestSuiteClass testSuiteClass) {
@@ -144,10 +245,6 @@ public class ReportFactory {
             testSuiteClass.getPackageName());
     }
 
-    private static Clazz clazz(Class<?> clazz) {
-        return new Clazz(clazz.getName(), clazz.getSimpleName(), clazz.getPackage().getName());
-    }
-
     private static io.techthinking.flowbdd.report.report.model.notes.Notes notes(Notes notes) {
         if (notes.text().getNotes().size() == 0 && notes.diagrams().getAll().size() ==  0) {
             return null;
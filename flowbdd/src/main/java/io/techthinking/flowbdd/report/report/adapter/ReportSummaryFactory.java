@@ -50,7 +50,7 @@ public class ReportSummaryFactory {
             abortedCount += summary.getAborted();
         }
 
-        private TestSuiteSummary build() {
+        TestSuiteSummary build() {
             return new TestSuiteSummary(
                 testCount,
                 passedCount,
@@ -38,7 +38,7 @@ public class ReportTestSuiteLinksFactory {
         return new TestSuiteLinks(testSuites.stream().map(this::testSuiteNameToFile).collect(toList()));
     }
 
-    private TestSuiteNameToFile testSuiteNameToFile(TestSuite testSuite) {
+    public TestSuiteNameToFile testSuiteNameToFile(TestSuite testSuite) {
         return new TestSuiteNameToFile(testSuite.getName(), fileNameProvider.file(testSuite).getFileName().toString());
     }
 }
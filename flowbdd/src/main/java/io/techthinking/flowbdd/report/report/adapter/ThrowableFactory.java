@@ -0,0 +1,193 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.report.adapter;
+
+import io.techthinking.flowbdd.report.report.model.Clazz;
+import io.techthinking.flowbdd.report.report.model.Throwable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Converts failures into report throwables with their full cause chain and a trimmed stack trace.
+ * <p>
+ * Test framework, build tool and reflection frames are cut, the frames a cause shares with the throwable it caused
+ * are folded into {@code ... n more}, and each trace is capped. Frames and whole traces are interned, so when many
+ * tests fail from the same root cause the shared frames are held once however many failures reference them. An
+ * interned trace is referenced by its id, and written once per test suite rather than once per failure. The
+ * interned entries are bounded, once full a new trace is still reported but inline rather than by id.
+ * <p>
+ * Failures are converted as they happen, so a test case never holds on to the exception or what it references.
+ */
+public class ThrowableFactory {
+    static final int MAX_CAUSES = 16;
+    static final int MAX_FRAMES = 64;
+    static final int MAX_INTERNED_FRAMES = 20_000;
+    static final int MAX_INTERNED_TRACES = 2_000;
+    private static final List<String> HIDDEN_FRAME_PREFIXES = Arrays.asList(
+        "org.junit.",
+        "junit.",
+        "org.opentest4j.",
+        "org.gradle.",
+        "worker.org.gradle.",
+        "org.apache.maven.surefire.",
+        "com.intellij.",
+        "java.lang.reflect.",
+        "jdk.internal.reflect.",
+        "sun.reflect.",
+        "com.sun.proxy.",
+        "jdk.proxy",
+        "io.techthinking.flowbdd.report.junit5.");
+
+    private static final ThrowableFactory shared = new ThrowableFactory();
+
+    private final Map<StackTraceElement, String> frames = new ConcurrentHashMap<>();
+    private final Map<List<String>, String> traceIds = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> traces = new ConcurrentHashMap<>();
+    private final AtomicInteger nextTraceId = new AtomicInteger();
+
+    /** The one the test context converts failures with, so the report can look up the traces they reference */
+    public static ThrowableFactory shared() {
+        return shared;
+    }
+
+    public Throwable create(java.lang.Throwable throwable) {
+        if (throwable == null) return null;
+        List<java.lang.Throwable> chain = causeChain(throwable);
+        Throwable cause = null;
+        for (int index = chain.size() - 1; index >= 0; index--) {
+            java.lang.Throwable current = chain.get(index);
+            StackTraceElement[] enclosing = index == 0 ? new StackTraceElement[0] : chain.get(index - 1).getStackTrace();
+            List<String> stackTrace = stackTrace(current.getStackTrace(), enclosing);
+            String stackTraceId = intern(stackTrace);
+            cause = new Throwable(clazz(current.getClass()), current.getMessage(), cause, stackTraceId == null ? stackTrace : null, stackTraceId);
+        }
+        return cause;
+    }
+
+    /** The trace of the throwable, whether inline or interned */
+    public List<String> stackTrace(Throwable throwable) {
+        return throwable.getStackTraceId() == null ? throwable.getStackTrace() : traces.get(throwable.getStackTraceId());
+    }
+
+    /** @return the interned traces the throwables and their causes reference, by id */
+    public Map<String, List<String>> stackTraces(Collection<Throwable> throwables) {
+        Map<String, List<String>> stackTraces = new LinkedHashMap<>();
+        for (Throwable throwable : throwables) {
+            for (Throwable current = throwable; current != null; current = current.getCause()) {
+                if (current.getStackTraceId() != null) {
+                    stackTraces.put(current.getStackTraceId(), traces.get(current.getStackTraceId()));
+                }
+            }
+        }
+        return stackTraces;
+    }
+
+    private static List<java.lang.Throwable> causeChain(java.lang.Throwable throwable) {
+        Set<java.lang.Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<java.lang.Throwable> chain = new ArrayList<>();
+        for (java.lang.Throwable current = throwable; current != null && chain.size() < MAX_CAUSES && seen.add(current); current = current.getCause()) {
+            chain.add(current);
+        }
+        return chain;
+    }
+
+    private List<String> stackTrace(StackTraceElement[] trace, StackTraceElement[] enclosingTrace) {
+        int inCommon = framesInCommon(trace, enclosingTrace);
+        int unique = trace.length - inCommon;
+        List<String> lines = new ArrayList<>();
+        for (int index = 0; index < unique && lines.size() < MAX_FRAMES; index++) {
+            if (!isHidden(trace[index])) {
+                lines.add(frame(trace[index]));
+            }
+        }
+        if (lines.isEmpty() && unique > 0) {
+            // nothing left once trimmed, so the failure came from the framework itself and its frames are the useful ones
+            for (int index = 0; index < unique && lines.size() < MAX_FRAMES; index++) {
+                lines.add(frame(trace[index]));
+            }
+        }
+        if (inCommon > 0) {
+            lines.add("... " + inCommon + " more");
+        }
+        return unmodifiableList(lines);
+    }
+
+    private static int framesInCommon(StackTraceElement[] trace, StackTraceElement[] enclosingTrace) {
+        int index = trace.length - 1;
+        int enclosingIndex = enclosingTrace.length - 1;
+        while (index >= 0 && enclosingIndex >= 0 && trace[index].equals(enclosingTrace[enclosingIndex])) {
+            index--;
+            enclosingIndex--;
+        }
+        return trace.length - 1 - index;
+    }
+
+    private static boolean isHidden(StackTraceElement frame) {
+        String className = frame.getClassName();
+        for (String prefix : HIDDEN_FRAME_PREFIXES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String frame(StackTraceElement element) {
+        String frame = frames.get(element);
+        if (frame != null) {
+            return frame;
+        }
+        frame = "at " + element;
+        if (frames.size() >= MAX_INTERNED_FRAMES) {
+            return frame;
+        }
+        String existing = frames.putIfAbsent(element, frame);
+        return existing == null ? frame : existing;
+    }
+
+    /** @return the id of the trace, or null once the interned traces are full */
+    private String intern(List<String> trace) {
+        String existing = traceIds.get(trace);
+        if (existing != null || traceIds.size() >= MAX_INTERNED_TRACES) {
+            return existing;
+        }
+        return traceIds.computeIfAbsent(trace, key -> {
+            String id = "trace-" + nextTraceId.incrementAndGet();
+            traces.put(id, key);
+            return id;
+        });
+    }
+
+    private static Clazz clazz(Class<?> clazz) {
+        Package classPackage = clazz.getPackage();
+        return new Clazz(clazz.getName(), clazz.getSimpleName(), classPackage == null ? "" : classPackage.getName());
+    }
+}
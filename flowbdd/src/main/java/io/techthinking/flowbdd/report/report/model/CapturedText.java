@@ -0,0 +1,77 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.report.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * One stream a test case wrote to. Either the text, or a link to the file it spilled to when it outgrew the buffer.
+ */
+public class CapturedText {
+    private final String text;
+    private final String link;
+    private final long bytes;
+
+    @JsonCreator
+    public CapturedText(
+        @JsonProperty("text") String text,
+        @JsonProperty("link") String link,
+        @JsonProperty("bytes") long bytes) {
+        this.text = text;
+        this.link = link;
+        this.bytes = bytes;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public String getLink() {
+        return link;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CapturedText)) return false;
+        CapturedText that = (CapturedText) o;
+        return bytes == that.bytes && Objects.equals(text, that.text) && Objects.equals(link, that.link);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(text, link, bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "CapturedText{" +
+            "text='" + text + '\'' +
+            ", link='" + link + '\'' +
+            ", bytes=" + bytes +
+            '}';
+    }
+}
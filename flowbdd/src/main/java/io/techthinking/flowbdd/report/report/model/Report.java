@@ -21,6 +21,8 @@ package io.techthinking.flowbdd.report.report.model;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.AbstractList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
@@ -35,6 +37,11 @@ public class Report {
     private final List<TestSuite> testSuites;
     private final String timeStamp;
 
+    /** The test cases are a view of the test suites', so each test case is held once */
+    public Report(DataReportIndex dataReportIndex, List<TestSuite> testSuites, String timeStamp) {
+        this(dataReportIndex, new TestCasesOfSuites(testSuites), testSuites, timeStamp);
+    }
+
     @JsonCreator
     public Report(
         @JsonProperty("dataReportIndex") DataReportIndex dataReportIndex,
@@ -85,4 +92,60 @@ public class Report {
             ", timeStamp=" + timeStamp +
             '}';
     }
+
+    /**
+     * Read only, in the order of the test suites, only for asking of the whole report rather than writing it.
+     * Iterating walks the suites one by one, {@link #get(int)} is linear in the number of suites so is best avoided.
+     */
+    private static class TestCasesOfSuites extends AbstractList<TestCase> {
+        private final List<TestSuite> testSuites;
+
+        TestCasesOfSuites(List<TestSuite> testSuites) {
+            this.testSuites = testSuites;
+        }
+
+        @Override
+        public TestCase get(int index) {
+            int offset = index;
+            for (TestSuite testSuite : testSuites) {
+                if (offset < testSuite.getTestCases().size()) {
+                    return testSuite.getTestCases().get(offset);
+                }
+                offset -= testSuite.getTestCases().size();
+            }
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        @Override
+        public Iterator<TestCase> iterator() {
+            return testSuites.stream().flatMap(testSuite -> testSuite.getTestCases().stream()).iterator();
+        }
+
+        /** By iterator, the list iterator AbstractList compares with goes through {@link #get(int)} */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof List)) return false;
+            Iterator<TestCase> testCases = iterator();
+            Iterator<?> others = ((List<?>) o).iterator();
+            while (testCases.hasNext() && others.hasNext()) {
+                if (!Objects.equals(testCases.next(), others.next())) return false;
+            }
+            return !testCases.hasNext() && !others.hasNext();
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (TestSuite testSuite : testSuites) {
+                size += testSuite.getTestCases().size();
+            }
+            return size;
+        }
+    }
 }
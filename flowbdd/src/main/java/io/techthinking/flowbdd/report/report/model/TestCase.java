@@ -72,6 +72,16 @@ public class TestCase {
     private final Clazz clazz;
     private final Notes notes;
     private final TestCaseTimings timings; // TODO TestCaseTiming!!!!! Before and After all not needed in this class.
+    private final TestCaseOutput output;
+    private final TestCaseInvocations invocations;
+
+    public TestCase(String wordify, Status status, Throwable cause, Method method, Clazz clazz, Notes notes, TestCaseTimings timings) {
+        this(wordify, status, cause, method, clazz, notes, timings, null);
+    }
+
+    public TestCase(String wordify, Status status, Throwable cause, Method method, Clazz clazz, Notes notes, TestCaseTimings timings, TestCaseOutput output) {
+        this(wordify, status, cause, method, clazz, notes, timings, output, null);
+    }
 
     @JsonCreator
     public TestCase(
@@ -81,7 +91,9 @@ public class TestCase {
         @JsonProperty("method") Method method,
         @JsonProperty("class") Clazz clazz,
         @JsonProperty("notes") Notes notes,
-        @JsonProperty("timings") TestCaseTimings timings) {
+        @JsonProperty("timings") TestCaseTimings timings,
+        @JsonProperty("output") TestCaseOutput output,
+        @JsonProperty("invocations") TestCaseInvocations invocations) {
         this.wordify = wordify;
         this.status = status;
         this.cause = cause;
@@ -89,6 +101,8 @@ public class TestCase {
         this.clazz = clazz;
         this.notes = notes;
         this.timings = timings;
+        this.output = output;
+        this.invocations = invocations;
     }
 
     public String getWordify() {
@@ -119,18 +133,28 @@ public class TestCase {
         return timings;
     }
 
+    /** null unless output capture is on and the test case wrote something */
+    public TestCaseOutput getOutput() {
+        return output;
+    }
+
+    /** null unless invocations are aggregated and this test case stands for those of a repeated or parameterized test */
+    public TestCaseInvocations getInvocations() {
+        return invocations;
+    }
+
     /** ignore timings */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof TestCase)) return false;
         TestCase testCase = (TestCase) o;
-        return Objects.equals(wordify, testCase.wordify) && status == testCase.status && Objects.equals(cause, testCase.cause) && Objects.equals(method, testCase.method) && Objects.equals(clazz, testCase.clazz) && Objects.equals(notes, testCase.notes); //&& Objects.equals(timings, testCase.timings);
+        return Objects.equals(wordify, testCase.wordify) && status == testCase.status && Objects.equals(cause, testCase.cause) && Objects.equals(method, testCase.method) && Objects.equals(clazz, testCase.clazz) && Objects.equals(notes, testCase.notes) && Objects.equals(output, testCase.output) && Objects.equals(invocations, testCase.invocations); //&& Objects.equals(timings, testCase.timings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(wordify, status, cause, method, clazz, notes, timings);
+        return Objects.hash(wordify, status, cause, method, clazz, notes, timings, output, invocations);
     }
 
     @Override
@@ -143,6 +167,8 @@ public class TestCase {
             ", clazz=" + clazz +
             ", notes=" + notes +
             ", timings=" + timings +
+            ", output=" + output +
+            ", invocations=" + invocations +
             '}';
     }
 }
@@ -0,0 +1,132 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.report.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/** The invocations a repeated or parameterized test case stands for, durations in nanoseconds */
+public class TestCaseInvocations {
+    private final int count;
+    private final int passed;
+    private final int failed;
+    private final int aborted;
+    private final long min;
+    private final long mean;
+    private final long p50;
+    private final long p95;
+    private final long p99;
+    private final long max;
+
+    @JsonCreator
+    public TestCaseInvocations(
+        @JsonProperty("count") int count,
+        @JsonProperty("passed") int passed,
+        @JsonProperty("failed") int failed,
+        @JsonProperty("aborted") int aborted,
+        @JsonProperty("min") long min,
+        @JsonProperty("mean") long mean,
+        @JsonProperty("p50") long p50,
+        @JsonProperty("p95") long p95,
+        @JsonProperty("p99") long p99,
+        @JsonProperty("max") long max) {
+        this.count = count;
+        this.passed = passed;
+        this.failed = failed;
+        this.aborted = aborted;
+        this.min = min;
+        this.mean = mean;
+        this.p50 = p50;
+        this.p95 = p95;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getPassed() {
+        return passed;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public int getAborted() {
+        return aborted;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMean() {
+        return mean;
+    }
+
+    public long getP50() {
+        return p50;
+    }
+
+    public long getP95() {
+        return p95;
+    }
+
+    public long getP99() {
+        return p99;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /** ignore durations */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TestCaseInvocations)) return false;
+        TestCaseInvocations that = (TestCaseInvocations) o;
+        return count == that.count && passed == that.passed && failed == that.failed && aborted == that.aborted;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, passed, failed, aborted);
+    }
+
+    @Override
+    public String toString() {
+        return "TestCaseInvocations{" +
+            "count=" + count +
+            ", passed=" + passed +
+            ", failed=" + failed +
+            ", aborted=" + aborted +
+            ", min=" + min +
+            ", mean=" + mean +
+            ", p50=" + p50 +
+            ", p95=" + p95 +
+            ", p99=" + p99 +
+            ", max=" + max +
+            '}';
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.report.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/** What a test case wrote while it ran, a stream it didn't write to is null */
+public class TestCaseOutput {
+    private final CapturedText stdOut;
+    private final CapturedText stdErr;
+    private final CapturedText log;
+
+    @JsonCreator
+    public TestCaseOutput(
+        @JsonProperty("stdOut") CapturedText stdOut,
+        @JsonProperty("stdErr") CapturedText stdErr,
+        @JsonProperty("log") CapturedText log) {
+        this.stdOut = stdOut;
+        this.stdErr = stdErr;
+        this.log = log;
+    }
+
+    public CapturedText getStdOut() {
+        return stdOut;
+    }
+
+    public CapturedText getStdErr() {
+        return stdErr;
+    }
+
+    public CapturedText getLog() {
+        return log;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TestCaseOutput)) return false;
+        TestCaseOutput that = (TestCaseOutput) o;
+        return Objects.equals(stdOut, that.stdOut) && Objects.equals(stdErr, that.stdErr) && Objects.equals(log, that.log);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stdOut, stdErr, log);
+    }
+
+    @Override
+    public String toString() {
+        return "TestCaseOutput{" +
+            "stdOut=" + stdOut +
+            ", stdErr=" + stdErr +
+            ", log=" + log +
+            '}';
+    }
+}
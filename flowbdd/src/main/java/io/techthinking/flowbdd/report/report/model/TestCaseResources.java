@@ -0,0 +1,86 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.report.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * The resources one test case used while its test method ran. A measurement the JVM couldn't take is null.
+ */
+public class TestCaseResources {
+    private final String name;
+    private final String displayName;
+    /** nanoseconds */
+    private final Long cpuTime;
+    private final Long allocatedBytes;
+
+    @JsonCreator
+    public TestCaseResources(
+        @JsonProperty("name") String name,
+        @JsonProperty("displayName") String displayName,
+        @JsonProperty("cpuTime") Long cpuTime,
+        @JsonProperty("allocatedBytes") Long allocatedBytes) {
+        this.name = name;
+        this.displayName = displayName;
+        this.cpuTime = cpuTime;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public Long getCpuTime() {
+        return cpuTime;
+    }
+
+    public Long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TestCaseResources)) return false;
+        TestCaseResources that = (TestCaseResources) o;
+        return Objects.equals(name, that.name) && Objects.equals(displayName, that.displayName) && Objects.equals(cpuTime, that.cpuTime) && Objects.equals(allocatedBytes, that.allocatedBytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, displayName, cpuTime, allocatedBytes);
+    }
+
+    @Override
+    public String toString() {
+        return "TestCaseResources{" +
+            "name='" + name + '\'' +
+            ", displayName='" + displayName + '\'' +
+            ", cpuTime=" + cpuTime +
+            ", allocatedBytes=" + allocatedBytes +
+            '}';
+    }
+}
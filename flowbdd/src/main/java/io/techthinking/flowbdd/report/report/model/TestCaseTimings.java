@@ -23,24 +23,50 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.Objects;
 
+/**
+ * Time spent in each phase of a test case, in nanoseconds.
+ */
 public class TestCaseTimings {
+    private final long constructor;
     private final long beforeEach;
     private final long afterEach;
     private final long underTest;
 
-    /** beforeEach + underTest + afterEach */
+    /** constructor + beforeEach + underTest + afterEach */
     private final long total;
+    /** thread CPU time of the test method, null unless resource capture is on */
+    private final Long cpuTime;
+    /** bytes the test method allocated, null unless resource capture is on */
+    private final Long allocatedBytes;
+
+    public TestCaseTimings(long beforeEach, long afterEach, long underTest, long total) {
+        this(0L, beforeEach, afterEach, underTest, total);
+    }
+
+    public TestCaseTimings(long constructor, long beforeEach, long afterEach, long underTest, long total) {
+        this(constructor, beforeEach, afterEach, underTest, total, null, null);
+    }
 
     @JsonCreator
     public TestCaseTimings(
+        @JsonProperty("constructor") long constructor,
         @JsonProperty("beforeEach") long beforeEach,
         @JsonProperty("afterEach") long afterEach,
         @JsonProperty("underTest") long underTest,
-        @JsonProperty("total") long total) {
+        @JsonProperty("total") long total,
+        @JsonProperty("cpuTime") Long cpuTime,
+        @JsonProperty("allocatedBytes") Long allocatedBytes) {
+        this.constructor = constructor;
         this.beforeEach = beforeEach;
         this.afterEach = afterEach;
         this.underTest = underTest;
         this.total = total;
+        this.cpuTime = cpuTime;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public long getConstructor() {
+        return constructor;
     }
 
     public long getBeforeEach() {
@@ -59,26 +85,37 @@ public class TestCaseTimings {
         return total;
     }
 
+    public Long getCpuTime() {
+        return cpuTime;
+    }
+
+    public Long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof TestCaseTimings)) return false;
         TestCaseTimings that = (TestCaseTimings) o;
-        return beforeEach == that.beforeEach && afterEach == that.afterEach && underTest == that.underTest && total == that.total;
+        return constructor == that.constructor && beforeEach == that.beforeEach && afterEach == that.afterEach && underTest == that.underTest && total == that.total && Objects.equals(cpuTime, that.cpuTime) && Objects.equals(allocatedBytes, that.allocatedBytes);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(beforeEach, afterEach, underTest, total);
+        return Objects.hash(constructor, beforeEach, afterEach, underTest, total, cpuTime, allocatedBytes);
     }
 
     @Override
     public String toString() {
         return "TestCaseTimings{" +
-            "beforeEach=" + beforeEach +
+            "constructor=" + constructor +
+            ", beforeEach=" + beforeEach +
             ", afterEach=" + afterEach +
             ", underTest=" + underTest +
             ", total=" + total +
+            ", cpuTime=" + cpuTime +
+            ", allocatedBytes=" + allocatedBytes +
             '}';
     }
 }
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import io.techthinking.flowbdd.report.report.model.notes.Notes;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public class TestSuite {
@@ -34,9 +35,49 @@ public class TestSuite {
     private final List<TestCase> testCases;
     private final TestSuiteSummary summary;
     private final Notes notes;
-    // setup, teardown metrics
-    // time started
-    // time taken
+    private final TestSuiteTimings timings;
+    private final TestSuiteResources resources;
+    /** The stack traces its failures share, by the id they reference them with */
+    private final Map<String, List<String>> stackTraces;
+
+    public TestSuite(
+        String title,
+        String name,
+        String className,
+        String packageName,
+        List<TestCase> testCases,
+        TestSuiteSummary summary,
+        Notes notes)
+    {
+        this(title, name, className, packageName, testCases, summary, notes, null);
+    }
+
+    public TestSuite(
+        String title,
+        String name,
+        String className,
+        String packageName,
+        List<TestCase> testCases,
+        TestSuiteSummary summary,
+        Notes notes,
+        TestSuiteTimings timings)
+    {
+        this(title, name, className, packageName, testCases, summary, notes, timings, null);
+    }
+
+    public TestSuite(
+        String title,
+        String name,
+        String className,
+        String packageName,
+        List<TestCase> testCases,
+        TestSuiteSummary summary,
+        Notes notes,
+        TestSuiteTimings timings,
+        TestSuiteResources resources)
+    {
+        this(title, name, className, packageName, testCases, summary, notes, timings, resources, null);
+    }
 
     @JsonCreator
     public TestSuite(
@@ -46,7 +87,10 @@ public class TestSuite {
         @JsonProperty("packageName") String packageName,
         @JsonProperty("testResults") List<TestCase> testCases,
         @JsonProperty("summary") TestSuiteSummary summary,
-        @JsonProperty("notes") Notes notes)
+        @JsonProperty("notes") Notes notes,
+        @JsonProperty("timings") TestSuiteTimings timings,
+        @JsonProperty("resources") TestSuiteResources resources,
+        @JsonProperty("stackTraces") Map<String, List<String>> stackTraces)
     {
         this.title = title;
         this.name = name;
@@ -55,6 +99,9 @@ public class TestSuite {
         this.testCases = testCases;
         this.summary = summary;
         this.notes = notes;
+        this.timings = timings;
+        this.resources = resources;
+        this.stackTraces = stackTraces;
     }
 
     public String getTitle() {
@@ -85,17 +132,32 @@ public class TestSuite {
         return notes;
     }
 
+    public TestSuiteTimings getTimings() {
+        return timings;
+    }
+
+    /** @return null unless resource capture is on */
+    public TestSuiteResources getResources() {
+        return resources;
+    }
+
+    /** @return null when no failure shares a stack trace */
+    public Map<String, List<String>> getStackTraces() {
+        return stackTraces;
+    }
+
+    /** ignore timings and resources */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof TestSuite)) return false;
         TestSuite testSuite = (TestSuite) o;
-        return Objects.equals(title, testSuite.title) && Objects.equals(name, testSuite.name) && Objects.equals(className, testSuite.className) && Objects.equals(packageName, testSuite.packageName) && Objects.equals(testCases, testSuite.testCases) && Objects.equals(summary, testSuite.summary) && Objects.equals(notes, testSuite.notes);
+        return Objects.equals(title, testSuite.title) && Objects.equals(name, testSuite.name) && Objects.equals(className, testSuite.className) && Objects.equals(packageName, testSuite.packageName) && Objects.equals(testCases, testSuite.testCases) && Objects.equals(summary, testSuite.summary) && Objects.equals(notes, testSuite.notes) && Objects.equals(stackTraces, testSuite.stackTraces);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(title, name, className, packageName, testCases, summary, notes);
+        return Objects.hash(title, name, className, packageName, testCases, summary, notes, stackTraces);
     }
 
     @Override
@@ -109,6 +171,9 @@ public class TestSuite {
             ", testCases=" + testCases +
             ", summary=" + summary +
             ", notes=" + notes +
+            ", timings=" + timings +
+            ", resources=" + resources +
+            ", stackTraces=" + stackTraces +
             '}';
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.report.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The test cases of a suite that used the most CPU time and allocated the most bytes, heaviest first. Only in the
+ * report when resource capture is on.
+ */
+public class TestSuiteResources {
+    private final List<TestCaseResources> heaviestCpu;
+    private final List<TestCaseResources> heaviestAllocators;
+
+    @JsonCreator
+    public TestSuiteResources(
+        @JsonProperty("heaviestCpu") List<TestCaseResources> heaviestCpu,
+        @JsonProperty("heaviestAllocators") List<TestCaseResources> heaviestAllocators) {
+        this.heaviestCpu = heaviestCpu;
+        this.heaviestAllocators = heaviestAllocators;
+    }
+
+    public List<TestCaseResources> getHeaviestCpu() {
+        return heaviestCpu;
+    }
+
+    public List<TestCaseResources> getHeaviestAllocators() {
+        return heaviestAllocators;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TestSuiteResources)) return false;
+        TestSuiteResources that = (TestSuiteResources) o;
+        return Objects.equals(heaviestCpu, that.heaviestCpu) && Objects.equals(heaviestAllocators, that.heaviestAllocators);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(heaviestCpu, heaviestAllocators);
+    }
+
+    @Override
+    public String toString() {
+        return "TestSuiteResources{" +
+            "heaviestCpu=" + heaviestCpu +
+            ", heaviestAllocators=" + heaviestAllocators +
+            '}';
+    }
+}
@@ -23,16 +23,33 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.Objects;
 
+/**
+ * Time spent in the class level phases of a test suite, in nanoseconds. The duration is the elapsed time of the whole
+ * suite, so with parallel test cases it is less than the sum of their totals in {@link #getTestCases()}.
+ */
 public class TestSuiteTimings {
+    private final long constructor;
     private final long beforeAll;
     private final long afterAll;
+    private final long testCases;
+    private final long duration;
 
     @JsonCreator
     public TestSuiteTimings(
+        @JsonProperty("constructor") long constructor,
         @JsonProperty("beforeAll") long beforeAll,
-        @JsonProperty("afterAll") long afterAll) {
+        @JsonProperty("afterAll") long afterAll,
+        @JsonProperty("testCases") long testCases,
+        @JsonProperty("duration") long duration) {
+        this.constructor = constructor;
         this.beforeAll = beforeAll;
         this.afterAll = afterAll;
+        this.testCases = testCases;
+        this.duration = duration;
+    }
+
+    public long getConstructor() {
+        return constructor;
     }
 
     public long getBeforeAll() {
@@ -43,24 +60,36 @@ public class TestSuiteTimings {
         return afterAll;
     }
 
+    /** The sum of the test case totals */
+    public long getTestCases() {
+        return testCases;
+    }
+
+    public long getDuration() {
+        return duration;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof TestSuiteTimings)) return false;
         TestSuiteTimings that = (TestSuiteTimings) o;
-        return beforeAll == that.beforeAll && afterAll == that.afterAll;
+        return constructor == that.constructor && beforeAll == that.beforeAll && afterAll == that.afterAll && testCases == that.testCases && duration == that.duration;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(beforeAll, afterAll);
+        return Objects.hash(constructor, beforeAll, afterAll, testCases, duration);
     }
 
     @Override
     public String toString() {
         return "TestSuiteTimings{" +
-            "beforeAll=" + beforeAll +
+            "constructor=" + constructor +
+            ", beforeAll=" + beforeAll +
             ", afterAll=" + afterAll +
+            ", testCases=" + testCases +
+            ", duration=" + duration +
             '}';
     }
 }
@@ -42,17 +42,25 @@ public class Throwable {
     private final String message;
     private final Throwable cause;
     private final List<String> stackTrace; // TODO I think empty by default
+    /** A trace shared by failures is written once in its test suite's stack traces, this is its key there */
+    private final String stackTraceId;
+
+    public Throwable(Clazz clazz, String message, Throwable cause, List<String> stackTrace) {
+        this(clazz, message, cause, stackTrace, null);
+    }
 
     @JsonCreator
     public Throwable(
         @JsonProperty("class") Clazz clazz,
         @JsonProperty("message") String message,
         @JsonProperty("cause") Throwable cause,
-        @JsonProperty("stackTrace") List<String> stackTrace) {
+        @JsonProperty("stackTrace") List<String> stackTrace,
+        @JsonProperty("stackTraceId") String stackTraceId) {
         this.clazz = clazz;
         this.message = message;
         this.cause = cause;
         this.stackTrace = stackTrace;
+        this.stackTraceId = stackTraceId;
     }
 
     public Clazz getClazz() {
@@ -67,21 +75,27 @@ public class Throwable {
         return cause;
     }
 
+    /** @return null when the trace is shared, see {@link #getStackTraceId()} */
     public List<String> getStackTrace() {
         return stackTrace;
     }
 
+    /** @return null when the trace is inline */
+    public String getStackTraceId() {
+        return stackTraceId;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof Throwable)) return false;
         Throwable throwable = (Throwable) o;
-        return Objects.equals(clazz, throwable.clazz) && Objects.equals(message, throwable.message) && Objects.equals(cause, throwable.cause) && Objects.equals(stackTrace, throwable.stackTrace);
+        return Objects.equals(clazz, throwable.clazz) && Objects.equals(message, throwable.message) && Objects.equals(cause, throwable.cause) && Objects.equals(stackTrace, throwable.stackTrace) && Objects.equals(stackTraceId, throwable.stackTraceId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(clazz, message, cause, stackTrace);
+        return Objects.hash(clazz, message, cause, stackTrace, stackTraceId);
     }
 
     @Override
@@ -91,6 +105,7 @@ public class Throwable {
             ", message='" + message + '\'' +
             ", cause=" + cause +
             ", stackTrace=" + stackTrace +
+            ", stackTraceId='" + stackTraceId + '\'' +
             '}';
     }
 }
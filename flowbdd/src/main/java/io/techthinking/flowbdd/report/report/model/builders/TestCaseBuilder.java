@@ -21,6 +21,8 @@ package io.techthinking.flowbdd.report.report.model.builders;
 import io.techthinking.flowbdd.report.report.model.Status;
 import io.techthinking.flowbdd.report.report.model.TestCaseTimings;
 import io.techthinking.flowbdd.report.report.model.TestCase;
+import io.techthinking.flowbdd.report.report.model.TestCaseInvocations;
+import io.techthinking.flowbdd.report.report.model.TestCaseOutput;
 import io.techthinking.flowbdd.report.report.model.notes.Notes;
 import io.techthinking.flowbdd.bdd.report.utils.Builder;
 
@@ -32,6 +34,8 @@ public final class TestCaseBuilder implements Builder<TestCase> {
     private ClazzBuilder clazz;
     private Notes notes;
     private TestCaseTimings timings;
+    private TestCaseOutput output;
+    private TestCaseInvocations invocations;
 
     private TestCaseBuilder() {
     }
@@ -75,6 +79,16 @@ public final class TestCaseBuilder implements Builder<TestCase> {
         return this;
     }
 
+    public TestCaseBuilder withOutput(TestCaseOutput output) {
+        this.output = output;
+        return this;
+    }
+
+    public TestCaseBuilder withInvocations(TestCaseInvocations invocations) {
+        this.invocations = invocations;
+        return this;
+    }
+
     @Override
     public TestCase build() {
         return new TestCase(
@@ -84,6 +98,8 @@ public final class TestCaseBuilder implements Builder<TestCase> {
             method != null ? method.build() : null,
             clazz != null ? clazz.build() : null,
             notes,
-            timings);
+            timings,
+            output,
+            invocations);
     }
 }
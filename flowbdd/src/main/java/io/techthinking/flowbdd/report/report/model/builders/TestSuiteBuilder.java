@@ -19,6 +19,8 @@
 package io.techthinking.flowbdd.report.report.model.builders;
 
 import io.techthinking.flowbdd.report.report.model.TestSuite;
+import io.techthinking.flowbdd.report.report.model.TestSuiteResources;
+import io.techthinking.flowbdd.report.report.model.TestSuiteTimings;
 import io.techthinking.flowbdd.report.report.model.notes.Notes;
 import io.techthinking.flowbdd.bdd.report.utils.Builder;
 import io.techthinking.flowbdd.bdd.report.utils.BuilderUtils;
@@ -36,6 +38,8 @@ public final class TestSuiteBuilder implements Builder<TestSuite> {
     private final List<TestCaseBuilder> testCases = new ArrayList<>();;
     private TestSuiteSummaryBuilder summary = aTestSuiteSummary();
     private Notes notes;
+    private TestSuiteTimings timings;
+    private TestSuiteResources resources;
 
     private TestSuiteBuilder() {
     }
@@ -80,7 +84,17 @@ public final class TestSuiteBuilder implements Builder<TestSuite> {
         return this;
     }
 
+    public TestSuiteBuilder withTimings(TestSuiteTimings timings) {
+        this.timings = timings;
+        return this;
+    }
+
+    public TestSuiteBuilder withResources(TestSuiteResources resources) {
+        this.resources = resources;
+        return this;
+    }
+
     public TestSuite build() {
-        return new TestSuite(title, name, className, packageName, BuilderUtils.build(testCases), summary.build(), notes);
+        return new TestSuite(title, name, className, packageName, BuilderUtils.build(testCases), summary.build(), notes, timings, resources);
     }
 }
@@ -18,6 +18,7 @@
 
 package io.techthinking.flowbdd.report.report.writers;
 
+import io.techthinking.flowbdd.report.config.FlowBddConfig;
 import io.techthinking.flowbdd.report.report.filehandling.FileRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,11 +37,16 @@ public abstract class AbstractReportWriter {
         this.fileNameProvider = fileNameProvider;
     }
 
+    /**
+     * Empties the directory, apart from the cache when it is configured inside it
+     */
     public void prepareDataDirectory() {
         final Path path = fileNameProvider.path();
+        final Path cachePath = FlowBddConfig.getCachePath();
         try {
             if (Files.exists(path)) {
                 Files.walk(path)
+                    .filter(p -> !p.startsWith(cachePath) && !cachePath.startsWith(p))
                     .sorted(Comparator.reverseOrder())
                     .forEach(this::deleteIfExists);
             }
@@ -20,6 +20,7 @@ package component.report;
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
+import io.techthinking.flowbdd.report.config.FlowBddConfig;
 import io.techthinking.flowbdd.report.report.model.builders.ClazzBuilder;
 import io.techthinking.flowbdd.report.report.model.builders.MethodBuilder;
 import io.techthinking.flowbdd.report.report.model.builders.ReportBuilder;
@@ -93,6 +94,25 @@ class DataReportWriterTest {
         assertThat(dataPath).exists();
     }
 
+    @Test
+    void prepareDataDirectory_keepsTheCacheInsideTheDirectory() throws IOException {
+        Path overriddenBasePath = FlowBddConfig.getOverriddenBasePath().orElse(null);
+        FlowBddConfig.overrideBasePath(dataPath);
+        try {
+            Path testFile = dataPath.resolve("test.txt");
+            Path cacheFile = FlowBddConfig.getWordifyCachePath().resolve("entry.wordify");
+            Files.createDirectories(cacheFile.getParent());
+            Files.createFile(testFile);
+            Files.createFile(cacheFile);
+
+            dataReportWriter.prepareDataDirectory();
+            assertThat(testFile).doesNotExist();
+            assertThat(cacheFile).exists();
+        } finally {
+            FlowBddConfig.overrideBasePath(overriddenBasePath);
+        }
+    }
+
     @Test
     void prepareDataDirectory_createsDirectory() {
         assertThat(dataPath).doesNotExist();
@@ -23,6 +23,8 @@ import io.techthinking.flowbdd.report.junit5.results.extension.FlowBdd;
 import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
 import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteClass;
 import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteResult;
+import io.techthinking.flowbdd.report.report.adapter.ThrowableFactory;
+import io.techthinking.flowbdd.report.report.model.Throwable;
 import org.junit.jupiter.api.BeforeEach;
 
 import java.util.List;
@@ -92,9 +94,9 @@ public abstract class AbstractResultsForTestSuite {
     protected void assertCauseWithMessage(TestCaseResult result, String message) {
         Throwable cause = result.getCause().orElseThrow(() -> new RuntimeException("Expected cause"));
         assertThat(cause.getMessage()).isEqualTo(message);
-        assertThat(cause.getClass()).isNotNull();
+        assertThat(cause.getClazz()).isNotNull();
         assertThat(cause.getCause()).isNull();
-        assertThat(cause.getStackTrace()).isNotNull();
+        assertThat(ThrowableFactory.shared().stackTrace(cause)).isNotNull();
     }
 
     protected void assertEqualsIgnoringCause(TestCaseResult actual, TestCaseResult expected) {
@@ -0,0 +1,93 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package component.results.scenarios;
+
+import component.results.AbstractResultsForTestSuite;
+import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import shared.undertest.basic.DynamicTestCasesUnderTest;
+
+import java.util.List;
+
+import static io.techthinking.flowbdd.report.junit5.results.model.TestCaseResultStatus.ABORTED;
+import static io.techthinking.flowbdd.report.junit5.results.model.TestCaseResultStatus.FAILED;
+import static io.techthinking.flowbdd.report.junit5.results.model.TestCaseResultStatus.PASSED;
+import static io.techthinking.flowbdd.report.junit5.results.model.TestSuiteTotalsBuilder.aTestSuiteResultsMetadata;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DynamicResultsTest extends AbstractResultsForTestSuite {
+
+    @BeforeAll
+    public static void enableTest() {
+        DynamicTestCasesUnderTest.setEnabled(true);
+    }
+
+    @AfterAll
+    public static void disableTest() {
+        DynamicTestCasesUnderTest.setEnabled(false);
+    }
+
+    @Override
+    public Class<?> classUnderTest() {
+        return DynamicTestCasesUnderTest.class;
+    }
+
+    @Test
+    void verifyResultsForDynamicTestCases() {
+        assertTestSuitClass(testSuiteResult(), classUnderTest());
+        assertThat(testSuiteResult().getTotals()).isEqualTo(
+            aTestSuiteResultsMetadata()
+                .withTestCaseCount(5)
+                .withPassedCount(2)
+                .withFailedCount(2)
+                .withAbortedCount(1)
+                .build());
+
+        List<TestCaseResult> dynamicTests = testCaseResults("dynamicTests");
+        assertThat(dynamicTests).extracting(TestCaseResult::getDisplayName)
+            .containsExactly("passing value 1", "failing value 2", "aborted value 3");
+        assertThat(dynamicTests).extracting(TestCaseResult::getStatus)
+            .containsExactly(PASSED, FAILED, ABORTED);
+        assertThat(dynamicTests.get(0).getWordify()).isEqualTo("passing value 1");
+        assertThat(dynamicTests.get(0).getCause()).isEmpty();
+        assertThat(dynamicTests.get(1).getCause().get().getClazz().getFullyQualifiedName()).isEqualTo("org.opentest4j.AssertionFailedError");
+        assertThat(dynamicTests.get(0).getTimings().getUnderTest()).isPositive();
+        assertThat(dynamicTests.get(0).getTestSuiteClass()).isEqualTo(testSuiteClass());
+    }
+
+    @Test
+    void capturesDynamicTestsNestedInContainers() {
+        List<TestCaseResult> nestedDynamicTests = testCaseResults("nestedDynamicTests");
+
+        assertThat(nestedDynamicTests).extracting(TestCaseResult::getDisplayName)
+            .containsExactly("nested value 4");
+        assertThat(nestedDynamicTests.get(0).getStatus()).isEqualTo(PASSED);
+    }
+
+    @Test
+    void keepsATestFactoryThatFails() {
+        List<TestCaseResult> failingTestFactory = testCaseResults("failingTestFactory");
+
+        assertThat(failingTestFactory).extracting(TestCaseResult::getStatus).containsExactly(FAILED);
+        assertThat(failingTestFactory.get(0).getCause().get().getClazz().getFullyQualifiedName())
+            .isEqualTo(IllegalStateException.class.getName());
+    }
+}
@@ -22,6 +22,8 @@ import component.results.AbstractResultsForTestSuite;
 import io.techthinking.flowbdd.report.junit5.results.model.notes.Notes;
 import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
 import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResultBuilder;
+import io.techthinking.flowbdd.report.report.adapter.ThrowableFactory;
+import io.techthinking.flowbdd.report.report.model.Throwable;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -97,9 +99,9 @@ public class FailedNullToExceptionResultsTest extends AbstractResultsForTestSuit
     private void assertNullPointerCause(TestCaseResult result) {
         Throwable cause = result.getCause().orElseThrow(() -> new RuntimeException("Expected cause"));
         assertThat(cause.getMessage()).isNull();
-        assertThat(cause.getClass()).isEqualTo(NullPointerException.class);
+        assertThat(cause.getClazz().getFullyQualifiedName()).isEqualTo(NullPointerException.class.getName());
         assertThat(cause.getCause()).isNull();
-        assertThat(cause.getStackTrace()).isNotNull();
+        assertThat(ThrowableFactory.shared().stackTrace(cause)).isNotNull();
     }
 
     private TestCaseResultBuilder aFailedParamTestCaseResultDueToException() {
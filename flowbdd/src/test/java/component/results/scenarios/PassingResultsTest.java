@@ -76,6 +76,14 @@ public class PassingResultsTest extends AbstractResultsForTestSuite {
         );
     }
 
+    @Test
+    void capturesTheTimingsOfEachPhase() {
+        assertThat(testCaseResult("testMethod").getTimings().getConstructor()).isPositive();
+        assertThat(testCaseResult("testMethod").getTimings().getUnderTest()).isPositive();
+        assertThat(testCaseResult("testMethod").getTimings().getTotal()).isGreaterThanOrEqualTo(testCaseResult("testMethod").getTimings().getUnderTest());
+        assertThat(testSuiteResult().getTimings().getDuration()).isPositive();
+    }
+
     private TestCaseResultBuilder aPassedParamTestCaseResult() {
         return aTestCaseResult()
             .withStatus(PASSED)
@@ -33,6 +33,16 @@ class FlowBddConfigTest {
         System.clearProperty("flowbdd.ai.detail.level");
         System.clearProperty("flowbdd.ai.prompt");
         System.clearProperty("flowbdd.extra.dir");
+        System.clearProperty("flowbdd.cache.dir");
+        System.clearProperty("flowbdd.wordify.cache");
+        System.clearProperty("flowbdd.wordify.cache.max.bytes");
+        System.clearProperty("flowbdd.capture.resources");
+        System.clearProperty("flowbdd.report.stream");
+        System.clearProperty("flowbdd.args.max.length");
+        System.clearProperty("flowbdd.capture.output");
+        System.clearProperty("flowbdd.capture.output.buffer.bytes");
+        System.clearProperty("flowbdd.aggregate.invocations");
+        System.clearProperty("flowbdd.capture.profile");
     }
 
     @Test
@@ -87,6 +97,82 @@ class FlowBddConfigTest {
         assertThat(FlowBddConfig.getExtraDirsPath().toString()).contains("custom-extra");
     }
 
+    @Test
+    void getWordifyCachePath_isUnderTheBasePath() {
+        System.setProperty("flowbdd.base.dir", "/tmp/custom-base");
+        assertThat(FlowBddConfig.getWordifyCachePath().toString()).isEqualTo("/tmp/custom-base/cache/wordify");
+    }
+
+    @Test
+    void getWordifyCachePath_returnsConfiguredCacheDir() {
+        System.setProperty("flowbdd.base.dir", "/tmp/custom-base");
+        System.setProperty("flowbdd.cache.dir", "custom-cache");
+        assertThat(FlowBddConfig.getWordifyCachePath().toString()).isEqualTo("/tmp/custom-base/custom-cache/wordify");
+    }
+
+    @Test
+    void isWordifyCached_returnsConfiguredValue() {
+        assertThat(FlowBddConfig.isWordifyCached()).isTrue();
+        System.setProperty("flowbdd.wordify.cache", "false");
+        assertThat(FlowBddConfig.isWordifyCached()).isFalse();
+    }
+
+    @Test
+    void getWordifyCacheMaxBytes_returnsConfiguredValue() {
+        assertThat(FlowBddConfig.getWordifyCacheMaxBytes()).isEqualTo(64L * 1024 * 1024);
+        System.setProperty("flowbdd.wordify.cache.max.bytes", "1024");
+        assertThat(FlowBddConfig.getWordifyCacheMaxBytes()).isEqualTo(1024L);
+    }
+
+    @Test
+    void isReportStreamed_returnsConfiguredValue() {
+        assertThat(FlowBddConfig.isReportStreamed()).isFalse();
+        System.setProperty("flowbdd.report.stream", "true");
+        assertThat(FlowBddConfig.isReportStreamed()).isTrue();
+    }
+
+    @Test
+    void getArgumentMaxLength_returnsConfiguredValue() {
+        assertThat(FlowBddConfig.getArgumentMaxLength()).isEqualTo(1000);
+        System.setProperty("flowbdd.args.max.length", "20");
+        assertThat(FlowBddConfig.getArgumentMaxLength()).isEqualTo(20);
+    }
+
+    @Test
+    void isOutputCaptured_returnsConfiguredValue() {
+        assertThat(FlowBddConfig.isOutputCaptured()).isFalse();
+        System.setProperty("flowbdd.capture.output", "true");
+        assertThat(FlowBddConfig.isOutputCaptured()).isTrue();
+    }
+
+    @Test
+    void getOutputBufferBytes_returnsConfiguredValue() {
+        assertThat(FlowBddConfig.getOutputBufferBytes()).isEqualTo(64 * 1024);
+        System.setProperty("flowbdd.capture.output.buffer.bytes", "1024");
+        assertThat(FlowBddConfig.getOutputBufferBytes()).isEqualTo(1024);
+    }
+
+    @Test
+    void getCaptureProfile_returnsConfiguredValue() {
+        assertThat(FlowBddConfig.getCaptureProfile()).isEqualTo(CaptureProfile.FULL);
+        System.setProperty("flowbdd.capture.profile", "lean");
+        assertThat(FlowBddConfig.getCaptureProfile()).isEqualTo(CaptureProfile.LEAN);
+    }
+
+    @Test
+    void isInvocationsAggregated_returnsConfiguredValue() {
+        assertThat(FlowBddConfig.isInvocationsAggregated()).isFalse();
+        System.setProperty("flowbdd.aggregate.invocations", "true");
+        assertThat(FlowBddConfig.isInvocationsAggregated()).isTrue();
+    }
+
+    @Test
+    void isResourceCaptured_returnsConfiguredValue() {
+        assertThat(FlowBddConfig.isResourceCaptured()).isFalse();
+        System.setProperty("flowbdd.capture.resources", "true");
+        assertThat(FlowBddConfig.isResourceCaptured()).isTrue();
+    }
+
     @Test
     void getBanner_returnsDefaultBanner() {
         String banner = FlowBddConfig.getBanner();
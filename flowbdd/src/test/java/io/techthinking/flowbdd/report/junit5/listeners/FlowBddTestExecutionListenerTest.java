@@ -0,0 +1,100 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.listeners;
+
+import io.techthinking.flowbdd.report.junit5.results.extension.FlowBdd;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherFactory;
+import shared.undertest.basic.ClassUnderTest;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+class FlowBddTestExecutionListenerTest {
+
+    @Test
+    void prewarmsTheTestMethodsOfClassesThatUseFlowBdd() {
+        TestPlan testPlan = LauncherFactory.create().discover(request()
+            .selectors(selectClass(ClassUnderTest.class), selectClass(FlowBddTestExecutionListenerTest.class))
+            .build());
+
+        Set<Method> testMethods = FlowBddTestExecutionListener.flowBddTestMethods(testPlan);
+
+        assertThat(testMethods.stream().map(Method::getDeclaringClass).collect(toSet())).containsExactly(ClassUnderTest.class);
+        assertThat(testMethods.stream().map(Method::getName)).contains("testMethod", "paramTest", "paramTestWithNulls");
+    }
+
+    @Test
+    void discoveryOrderFollowsTheTestMethodOrder() {
+        TestPlan testPlan = LauncherFactory.create().discover(request().selectors(selectClass(ClassUnderTest.class)).build());
+
+        List<String> uniqueIds = FlowBddTestExecutionListener.discoveryOrder(testPlan);
+
+        assertThat(uniqueIds).hasSize(5);
+        assertThat(uniqueIds.get(0)).isEqualTo("[engine:junit-jupiter]");
+        assertThat(uniqueIds.get(2)).endsWith("[method:testMethod()]");
+        assertThat(uniqueIds.get(3)).endsWith("[test-template:paramTest(java.lang.String)]");
+        assertThat(uniqueIds.get(4)).endsWith("[test-template:paramTestWithNulls(java.lang.String, java.lang.String)]");
+    }
+
+    @Test
+    void nestedClassesUseTheExtensionsOfTheirEnclosingClass() {
+        assertThat(FlowBddTestExecutionListener.usesFlowBdd(FlowBddTests.NestedTests.class)).isTrue();
+        assertThat(FlowBddTestExecutionListener.usesFlowBdd(FlowBddTestExecutionListenerTest.class)).isFalse();
+    }
+
+    @Test
+    void registeredAndComposedExtensionsAreRecognised() {
+        assertThat(FlowBddTestExecutionListener.usesFlowBdd(RegisteredFlowBddTests.class)).isTrue();
+        assertThat(FlowBddTestExecutionListener.usesFlowBdd(ComposedFlowBddTests.class)).isTrue();
+    }
+
+    static class RegisteredFlowBddTests {
+        @RegisterExtension
+        static FlowBdd flowBdd = new FlowBdd();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @ExtendWith(FlowBdd.class)
+    @interface FlowBddTest {
+    }
+
+    @FlowBddTest
+    static class ComposedFlowBddTests {
+    }
+
+    @ExtendWith(FlowBdd.class)
+    static class FlowBddTests {
+        @Nested
+        class NestedTests {
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
+import io.techthinking.flowbdd.report.junit5.results.model.notes.Notes;
+import io.techthinking.flowbdd.report.mermaid.SequenceDiagram;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.techthinking.flowbdd.report.junit5.results.model.TestSuiteClass.testSuiteClass;
+import static io.techthinking.flowbdd.report.mermaid.MessageBuilder.aMessage;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CurrentTestCaseTest {
+    private final TestCaseResult testCase1 = new TestCaseResult(testSuiteClass(getClass()), new Notes());
+    private final TestCaseResult testCase2 = new TestCaseResult(testSuiteClass(getClass()), new Notes());
+
+    @AfterEach
+    void tearDown() {
+        while (CurrentTestCase.get().isPresent()) {
+            CurrentTestCase.complete();
+        }
+    }
+
+    @Test
+    void threadsStartedByTheTestInheritIt() throws Exception {
+        CurrentTestCase.start(testCase1);
+        AtomicReference<Optional<TestCaseResult>> seen = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> seen.set(CurrentTestCase.get()));
+        thread.start();
+        thread.join();
+
+        assertThat(seen.get()).containsSame(testCase1);
+    }
+
+    @Test
+    void threadsThatInheritedACompletedTestCaseNoLongerSeeIt() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CurrentTestCase.start(testCase1);
+            executor.submit(() -> { }).get(); // the pool's thread is created now and inherits testCase1
+            CurrentTestCase.complete();
+
+            assertThat(executor.submit(CurrentTestCase::get).get()).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void wrappedTasksRunInTheTestCaseTheyWereSubmittedFrom() throws Exception {
+        ExecutorService executor = CurrentTestCase.wrap(Executors.newFixedThreadPool(2));
+        try {
+            CurrentTestCase.start(testCase1);
+            assertThat(executor.submit(CurrentTestCase::get).get()).containsSame(testCase1);
+            CurrentTestCase.complete();
+            CurrentTestCase.start(testCase2);
+            Future<Optional<TestCaseResult>> submitted = executor.submit(CurrentTestCase::get);
+            CompletableFuture<Optional<TestCaseResult>> supplied = CompletableFuture.supplyAsync(CurrentTestCase.wrapSupplier(CurrentTestCase::get));
+
+            assertThat(submitted.get()).containsSame(testCase2);
+            assertThat(supplied.get()).containsSame(testCase2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void theEnclosingTestCaseIsCurrentAgainOnceANestedOneCompletes() {
+        CurrentTestCase.start(testCase1);
+        CurrentTestCase.start(testCase2);
+        assertThat(CurrentTestCase.get()).containsSame(testCase2);
+
+        CurrentTestCase.complete();
+        assertThat(CurrentTestCase.get()).containsSame(testCase1);
+
+        CurrentTestCase.complete();
+        assertThat(CurrentTestCase.get()).isEmpty();
+    }
+
+    @Test
+    void notesAndDiagramMessagesFromManyThreadsAreAllKept() throws Exception {
+        CurrentTestCase.start(testCase1);
+        SequenceDiagram diagram = testCase1.getNotes().diagrams().addOnce(new SequenceDiagram());
+        ExecutorService executor = CurrentTestCase.wrap(Executors.newFixedThreadPool(8));
+        try {
+            List<Future<?>> added = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                String note = "note " + i;
+                added.add(executor.submit(() -> {
+                    TestCaseResult testCaseResult = CurrentTestCase.get().orElseThrow(IllegalStateException::new);
+                    testCaseResult.getNotes().text().add(note);
+                    diagram.add(aMessage().from("A").to("B").text(note));
+                }));
+            }
+            for (Future<?> future : added) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(testCase1.getNotes().text().getNotes()).hasSize(1_000);
+        assertThat(diagram.generate().split("\n")).hasSize(1_000 + 2);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
+import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteResult;
+import io.techthinking.flowbdd.report.junit5.results.model.notes.Notes;
+import io.techthinking.flowbdd.wordify.tokenize.JavaSourceTokensTemplate;
+import io.techthinking.flowbdd.wordify.tokenize.TemplateInvocation;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.techthinking.flowbdd.report.junit5.results.model.TestSuiteClass.testSuiteClass;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DeferredWordifyTest {
+    private final AtomicReference<Thread> wordifyThread = new AtomicReference<>();
+    private final TestCaseResult testCaseResult = new TestCaseResult(testSuiteClass(DeferredWordifyTest.class), new Notes())
+        .setPendingWordify(this::template);
+
+    @Test
+    void deferredWordifyIsResolvedInABackgroundBatch() {
+        DeferredWordify deferredWordify = new DeferredWordify(true);
+        TestSuiteResult testSuiteResult = mock(TestSuiteResult.class);
+        when(testSuiteResult.getTestCaseResults()).thenReturn(singletonList(testCaseResult));
+
+        deferredWordify.record(testCaseResult);
+        assertThat(testCaseResult.isWordifyPending()).isTrue();
+
+        deferredWordify.submit(testSuiteResult);
+        deferredWordify.awaitAll();
+
+        assertThat(testCaseResult.isWordifyPending()).isFalse();
+        assertThat(wordifyThread.get()).isNotSameAs(Thread.currentThread());
+        assertThat(testCaseResult.getWordify()).isEqualTo("Do something");
+    }
+
+    @Test
+    void theFollowUpRunsOnceTheSuiteIsResolved() {
+        DeferredWordify deferredWordify = new DeferredWordify(true);
+        TestSuiteResult testSuiteResult = mock(TestSuiteResult.class);
+        when(testSuiteResult.getTestCaseResults()).thenReturn(singletonList(testCaseResult));
+        AtomicReference<Boolean> pendingWhenFollowedUp = new AtomicReference<>();
+
+        deferredWordify.submit(testSuiteResult, () -> pendingWhenFollowedUp.set(testCaseResult.isWordifyPending()));
+        deferredWordify.awaitAll();
+
+        assertThat(pendingWhenFollowedUp.get()).isFalse();
+    }
+
+    @Test
+    void theFollowUpRunsStraightAwayInline() {
+        DeferredWordify deferredWordify = new DeferredWordify(false);
+        AtomicReference<Thread> followUpThread = new AtomicReference<>();
+
+        deferredWordify.submit(mock(TestSuiteResult.class), () -> followUpThread.set(Thread.currentThread()));
+
+        assertThat(followUpThread.get()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void inlineWordifyIsResolvedWhenRecorded() {
+        DeferredWordify deferredWordify = new DeferredWordify(false);
+
+        deferredWordify.record(testCaseResult);
+
+        assertThat(testCaseResult.isWordifyPending()).isFalse();
+        assertThat(wordifyThread.get()).isSameAs(Thread.currentThread());
+        assertThat(testCaseResult.getWordify()).isEqualTo("Do something");
+    }
+
+    @Test
+    void pendingWordifyIsResolvedWhenRead() {
+        assertThat(testCaseResult.getWordify()).isEqualTo("Do something");
+        assertThat(testCaseResult.isWordifyPending()).isFalse();
+    }
+
+    @Test
+    void pendingWordifyIsNotResolvedByEqualsOrHashCode() {
+        assertThat(testCaseResult).isEqualTo(testCaseResult).isNotEqualTo(new TestCaseResult(testSuiteClass(DeferredWordifyTest.class), new Notes()));
+        testCaseResult.hashCode();
+
+        assertThat(testCaseResult.isWordifyPending()).isTrue();
+        assertThat(wordifyThread.get()).isNull();
+    }
+
+    private TemplateInvocation template() {
+        wordifyThread.set(Thread.currentThread());
+        return new TemplateInvocation(JavaSourceTokensTemplate.create("doSomething();", emptyList()), emptyList());
+    }
+}
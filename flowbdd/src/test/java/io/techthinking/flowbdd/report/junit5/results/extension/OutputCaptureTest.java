@@ -0,0 +1,137 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.report.junit5.results.model.CapturedOutput;
+import io.techthinking.flowbdd.report.junit5.results.model.CapturedStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class OutputCaptureTest {
+    private static final String NEW_LINE = System.lineSeparator();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void capturesNothingWhenDisabled() {
+        OutputCapture outputCapture = OutputCapture.disabled();
+
+        outputCapture.start(() -> "Suite");
+        System.out.println("not captured");
+
+        assertThat(outputCapture.stop()).isNull();
+    }
+
+    @Test
+    void capturesStandardOutAndErrOfTheTestOnThisThread() {
+        OutputCapture outputCapture = new OutputCapture(true, 1024, directory);
+
+        outputCapture.start(() -> "Suite");
+        System.out.println("out message");
+        System.err.println("err message");
+        CapturedOutput output = outputCapture.stop();
+        System.out.println("after the test");
+
+        assertThat(output.getStdOut()).isEqualTo(CapturedStream.inMemory("out message" + NEW_LINE, ("out message" + NEW_LINE).length()));
+        assertThat(output.getStdErr().getText()).isEqualTo("err message" + NEW_LINE);
+        assertThat(output.getLog()).isNull();
+    }
+
+    @Test
+    void aTestThatWritesNothingHasNoOutput() {
+        OutputCapture outputCapture = new OutputCapture(true, 1024, directory);
+
+        outputCapture.start(() -> "Suite");
+
+        assertThat(outputCapture.stop()).isNull();
+    }
+
+    @Test
+    void capturesTheLogsOfTheTestOnThisThread() {
+        assumeTrue(LogbackOutputAppender.isAvailable());
+        OutputCapture outputCapture = new OutputCapture(true, 1024, directory);
+
+        outputCapture.start(() -> "Suite");
+        LoggerFactory.getLogger("io.techthinking.flowbdd.captured").warn("log message");
+        CapturedOutput output = outputCapture.stop();
+
+        assertThat(output.getLog().getText()).contains("WARN io.techthinking.flowbdd.captured - log message");
+    }
+
+    @Test
+    void spillsOutputLargerThanTheBufferToAFile() throws Exception {
+        OutputCapture outputCapture = new OutputCapture(true, 16, directory);
+        StringBuilder expected = new StringBuilder();
+
+        outputCapture.start(() -> "Suite");
+        for (int line = 0; line < 10; line++) {
+            System.out.println("line " + line);
+            expected.append("line ").append(line).append(NEW_LINE);
+        }
+        CapturedStream stdOut = outputCapture.stop().getStdOut();
+
+        assertThat(stdOut.getText()).isNull();
+        assertThat(stdOut.getBytes()).isEqualTo(expected.length());
+        assertThat(stdOut.getFile()).startsWith(directory);
+        assertThat(new String(Files.readAllBytes(stdOut.getFile()), UTF_8)).isEqualTo(expected.toString());
+    }
+
+    @Test
+    void testsRunningInParallelEachGetTheirOwnOutput() throws Exception {
+        OutputCapture outputCapture = new OutputCapture(true, 1024, directory);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<CapturedOutput>> outputs = new ArrayList<>();
+            for (int test = 0; test < 32; test++) {
+                String message = "test " + test;
+                outputs.add(executor.submit(() -> {
+                    start.await();
+                    outputCapture.start(() -> "Suite");
+                    for (int line = 0; line < 20; line++) {
+                        System.out.println(message);
+                    }
+                    return outputCapture.stop();
+                }));
+            }
+            start.countDown();
+            for (int test = 0; test < outputs.size(); test++) {
+                String[] lines = outputs.get(test).get().getStdOut().getText().split(NEW_LINE);
+                assertThat(lines).hasSize(20).containsOnly("test " + test);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.wordify.WordifyExtensionContext;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PrewarmWordifyTest {
+    private final WordifyExtensionContext wordifyExtensionContext = mock(WordifyExtensionContext.class);
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void testMethodsArePreparedInTheBackground() throws NoSuchMethodException {
+        doAnswer(invocation -> threads.add(Thread.currentThread().getName())).when(wordifyExtensionContext).prepare(any());
+        PrewarmWordify prewarmWordify = new PrewarmWordify(true, wordifyExtensionContext);
+        List<Method> testMethods = asList(
+            PrewarmWordifyTest.class.getDeclaredMethod("testMethodsArePreparedInTheBackground"),
+            DeferredWordifyTest.class.getDeclaredMethod("inlineWordifyIsResolvedWhenRecorded"));
+
+        prewarmWordify.submit(testMethods);
+
+        assertThat(prewarmWordify.awaitAll(5, TimeUnit.SECONDS)).isTrue();
+        verify(wordifyExtensionContext).prepare(testMethods.get(0));
+        verify(wordifyExtensionContext).prepare(testMethods.get(1));
+        assertThat(threads).allMatch(thread -> thread.startsWith("flowbdd-prewarm-"));
+    }
+
+    @Test
+    void aMethodThatCantBePreparedIsLeftForTheTest() throws NoSuchMethodException {
+        Method failing = PrewarmWordifyTest.class.getDeclaredMethod("testMethodsArePreparedInTheBackground");
+        Method passing = PrewarmWordifyTest.class.getDeclaredMethod("aMethodThatCantBePreparedIsLeftForTheTest");
+        doThrow(new IllegalStateException("no source")).when(wordifyExtensionContext).prepare(failing);
+        PrewarmWordify prewarmWordify = new PrewarmWordify(true, wordifyExtensionContext);
+
+        prewarmWordify.submit(asList(failing, passing));
+
+        assertThat(prewarmWordify.awaitAll(5, TimeUnit.SECONDS)).isTrue();
+        verify(wordifyExtensionContext).prepare(passing);
+    }
+
+    @Test
+    void nothingIsPreparedWhenDisabled() throws NoSuchMethodException {
+        PrewarmWordify prewarmWordify = new PrewarmWordify(false, wordifyExtensionContext);
+
+        prewarmWordify.submit(asList(PrewarmWordifyTest.class.getDeclaredMethod("nothingIsPreparedWhenDisabled")));
+
+        assertThat(prewarmWordify.awaitAll(5, TimeUnit.SECONDS)).isTrue();
+        verifyNoInteractions(wordifyExtensionContext);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.report.junit5.results.model.TestCaseOrder;
+import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteResult;
+import io.techthinking.flowbdd.report.junit5.results.model.notes.Notes;
+import io.techthinking.flowbdd.report.report.model.TestSuite;
+import io.techthinking.flowbdd.report.report.model.VersionInfo;
+import io.techthinking.flowbdd.report.report.writers.ReportWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+
+import static io.techthinking.flowbdd.report.junit5.results.model.TestCaseResultStatus.PASSED;
+import static io.techthinking.flowbdd.report.junit5.results.model.TestSuiteClass.testSuiteClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class StreamedTestSuitesTest {
+    private static final String SUITE = "[engine:junit-jupiter]/[class:StreamedTestSuitesTest]";
+
+    private final ReportWriter reportWriter = mock(ReportWriter.class);
+    private final TestSuiteResult testSuiteResult = new TestSuiteResult(testSuiteClass(getClass()), SUITE, "Streamed test suites test", new Notes(), new TestCaseOrder());
+
+    @Test
+    void writesTheSuiteThenEvictsIt() {
+        StreamedTestSuites streamedTestSuites = new StreamedTestSuites(true, reportWriter, Clock.systemDefaultZone());
+        startTestCase("test1");
+        startTestCase("test2");
+        testSuiteResult.getNotes().text().add("A feature note");
+        testSuiteResult.completeTestSuite();
+
+        streamedTestSuites.write(testSuiteResult);
+
+        ArgumentCaptor<TestSuite> written = ArgumentCaptor.forClass(TestSuite.class);
+        verify(reportWriter).write(written.capture(), any(VersionInfo.class));
+        assertThat(written.getValue().getTestCases()).hasSize(2);
+        assertThat(written.getValue().getNotes().getTextNotes()).containsExactly("A feature note");
+        assertThat(testSuiteResult.isEvicted()).isTrue();
+        assertThat(testSuiteResult.getTestCaseResults()).isEmpty();
+        assertThat(testSuiteResult.getNotes().text().getNotes()).isEmpty();
+        assertThat(testSuiteResult.getTotals().getPassedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void keepsTheSuiteWhenDisabled() {
+        StreamedTestSuites streamedTestSuites = new StreamedTestSuites(false, reportWriter, Clock.systemDefaultZone());
+        startTestCase("test1");
+        testSuiteResult.completeTestSuite();
+
+        streamedTestSuites.write(testSuiteResult);
+
+        verifyNoInteractions(reportWriter);
+        assertThat(testSuiteResult.isEvicted()).isFalse();
+        assertThat(testSuiteResult.getTestCaseResults()).hasSize(1);
+    }
+
+    @Test
+    void keepsTheSuiteWhenItCouldNotBeWritten() {
+        StreamedTestSuites streamedTestSuites = new StreamedTestSuites(true, reportWriter, Clock.systemDefaultZone());
+        doThrow(new IllegalStateException("disk full")).when(reportWriter).write(any(TestSuite.class), any(VersionInfo.class));
+        startTestCase("test1");
+        testSuiteResult.completeTestSuite();
+
+        streamedTestSuites.write(testSuiteResult);
+
+        assertThat(testSuiteResult.isEvicted()).isFalse();
+        assertThat(testSuiteResult.getTestCaseResults()).hasSize(1);
+    }
+
+    private void startTestCase(String name) {
+        ExtensionContext context = mock(ExtensionContext.class);
+        when(context.getUniqueId()).thenReturn(SUITE + "/[method:" + name + "()]");
+        when(context.getRequiredTestClass()).thenAnswer(invocation -> getClass());
+        testSuiteResult.startTestCase(context).setName(name).setStatus(PASSED);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import io.techthinking.flowbdd.report.junit5.results.model.TestCaseNameFactory;
+import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
+import io.techthinking.flowbdd.report.junit5.results.model.TestResults;
+import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteResult;
+import io.techthinking.flowbdd.report.junit5.results.model.notes.Notes;
+import io.techthinking.flowbdd.report.report.writers.ReportWriter;
+import io.techthinking.flowbdd.wordify.WordifyExtensionContext;
+import io.techthinking.flowbdd.wordify.tokenize.TemplateInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+import java.lang.reflect.Method;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static io.techthinking.flowbdd.report.junit5.results.model.TestCaseResultStatus.FAILED;
+import static io.techthinking.flowbdd.report.junit5.results.model.TestCaseResultStatus.PASSED;
+import static io.techthinking.flowbdd.report.junit5.results.model.TestSuiteClass.testSuiteClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TestContextCaptureProfileTest {
+    private static final String SUITE = "[engine:junit-jupiter]/[class:TestContextCaptureProfileTest]";
+
+    private final TestResults testResults = mock(TestResults.class);
+    private final WordifyExtensionContext wordifyExtensionContext = mock(WordifyExtensionContext.class);
+    private final TestSuiteResult testSuiteResult = new TestSuiteResult(testSuiteClass(getClass()), "Capture profile test", new Notes());
+    private final ExtensionContext extensionContext = mock(ExtensionContext.class);
+    private final ReflectiveInvocationContext<Method> invocationContext = new ScenarioInvocationContext();
+    private final Invocation<Void> invocation = () -> null;
+
+    TestContextCaptureProfileTest() {
+        TemplateInvocation templateInvocation = mock(TemplateInvocation.class);
+        when(templateInvocation.asString()).thenReturn("Scenario with value");
+        when(wordifyExtensionContext.wordifyTemplate(any(Method.class), anyList())).thenReturn(templateInvocation);
+        when(testResults.getTestResultsForClass(extensionContext)).thenReturn(testSuiteResult);
+        when(extensionContext.getUniqueId()).thenReturn(SUITE + "/[method:scenario(java.lang.String)]");
+        when(extensionContext.getDisplayName()).thenReturn("scenario(String)");
+        when(extensionContext.getTestMethod()).thenReturn(Optional.of(scenarioMethod()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty("flowbdd.capture.profile");
+    }
+
+    @Test
+    void leanProfileKeepsOnlyTheStatusAndTimingsOfPassingTests() throws Throwable {
+        System.setProperty("flowbdd.capture.profile", "lean");
+        TestContext testContext = testContext();
+
+        TestCaseResult testCaseResult = runTest(testContext);
+        testContext.testSuccessful(extensionContext);
+
+        assertThat(testCaseResult.getStatus()).isEqualTo(PASSED);
+        assertThat(testCaseResult.getName()).isEqualTo("scenario");
+        assertThat(testCaseResult.getDisplayName()).isEqualTo("Scenario");
+        assertThat(testCaseResult.getWordify()).isNull();
+        assertThat(testCaseResult.getArgs()).isEmpty();
+        assertThat(testCaseResult.getNotes().text().getNotes()).isEmpty();
+        assertThat(testCaseResult.getTimings().getUnderTest()).isGreaterThanOrEqualTo(0L);
+        verify(wordifyExtensionContext, never()).wordifyTemplate(any(Method.class), anyList());
+    }
+
+    @Test
+    void leanProfileCapturesEverythingForFailingTests() throws Throwable {
+        System.setProperty("flowbdd.capture.profile", "LEAN");
+        TestContext testContext = testContext();
+
+        TestCaseResult testCaseResult = runTest(testContext);
+        testContext.testFailed(extensionContext, new AssertionError("failed"));
+
+        assertThat(testCaseResult.getStatus()).isEqualTo(FAILED);
+        assertThat(testCaseResult.getWordify()).isEqualTo("Scenario with value");
+        assertThat(testCaseResult.getArgValues()).containsExactly("value");
+        assertThat(testCaseResult.getNotes().text().getNotes()).containsExactly("a note");
+        assertThat(testCaseResult.getCause()).isPresent();
+    }
+
+    @Test
+    void fullProfileCapturesEverythingForPassingTests() throws Throwable {
+        TestContext testContext = testContext();
+
+        TestCaseResult testCaseResult = runTest(testContext);
+        testContext.testSuccessful(extensionContext);
+
+        assertThat(testCaseResult.getWordify()).isEqualTo("Scenario with value");
+        assertThat(testCaseResult.getArgValues()).containsExactly("value");
+        assertThat(testCaseResult.getNotes().text().getNotes()).containsExactly("a note");
+    }
+
+    private TestContext testContext() {
+        return new TestContext(testResults, wordifyExtensionContext, mock(TestCaseNameFactory.class), mock(ReportWriter.class),
+            mock(Clock.class), new DeferredWordify(false));
+    }
+
+    private TestCaseResult runTest(TestContext testContext) throws Throwable {
+        testContext.beforeEach(extensionContext);
+        TestCaseResult testCaseResult = testSuiteResult.getTestCaseResult(extensionContext);
+        testContext.interceptTestMethod(invocation, invocationContext, extensionContext);
+        testCaseResult.getNotes().text().add("a note");
+        testContext.afterEach(extensionContext);
+        return testCaseResult;
+    }
+
+    @SuppressWarnings("unused")
+    private void scenario(String value) {
+    }
+
+    private static Method scenarioMethod() {
+        try {
+            return TestContextCaptureProfileTest.class.getDeclaredMethod("scenario", String.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private class ScenarioInvocationContext implements ReflectiveInvocationContext<Method> {
+        @Override
+        public Class<?> getTargetClass() {
+            return TestContextCaptureProfileTest.class;
+        }
+
+        @Override
+        public Method getExecutable() {
+            return scenarioMethod();
+        }
+
+        @Override
+        public List<Object> getArguments() {
+            return Collections.singletonList("value");
+        }
+
+        @Override
+        public Optional<Object> getTarget() {
+            return Optional.of(TestContextCaptureProfileTest.this);
+        }
+    }
+}
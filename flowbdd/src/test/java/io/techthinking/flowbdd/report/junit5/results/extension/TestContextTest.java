@@ -18,6 +18,7 @@
 
 package io.techthinking.flowbdd.report.junit5.results.extension;
 
+import io.techthinking.flowbdd.report.junit5.results.model.SuiteTimings;
 import io.techthinking.flowbdd.report.junit5.results.model.TestCaseNameFactory;
 import io.techthinking.flowbdd.report.junit5.results.model.TestResults;
 import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteResult;
@@ -56,6 +57,7 @@ class TestContextTest {
 
         Collection<TestSuiteResult> testSuiteResults = Arrays.asList(testSuiteResult);
         when(testResults.getTestResultsForClass(extensionContext)).thenReturn(testSuiteResult);
+        when(testSuiteResult.getTimings()).thenReturn(new SuiteTimings());
         when(testResults.getTestSuiteResults()).thenReturn(testSuiteResults);
 
         testContext.afterAll(extensionContext);
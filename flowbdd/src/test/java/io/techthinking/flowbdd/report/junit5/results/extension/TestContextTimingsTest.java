@@ -18,6 +18,7 @@
 
 package io.techthinking.flowbdd.report.junit5.results.extension;
 
+import io.techthinking.flowbdd.report.junit5.results.model.SuiteTimings;
 import io.techthinking.flowbdd.report.junit5.results.model.TestCaseNameFactory;
 import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
 import io.techthinking.flowbdd.report.junit5.results.model.TestResults;
@@ -30,12 +31,15 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.time.Clock;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class TestContextTimingsTest {
@@ -45,43 +49,40 @@ class TestContextTimingsTest {
     private final TestCaseNameFactory testCaseNameFactory = mock(TestCaseNameFactory.class);
     private final ReportWriter reportWriter = mock(ReportWriter.class);
     private final Clock clock = mock(Clock.class);
+    private final LongSupplier nanoClock = mock(LongSupplier.class);
 
     private final TestContext testContext = new TestContext(
         testResults,
         wordifyExtensionContext,
         testCaseNameFactory,
         reportWriter,
-        clock
+        clock,
+        nanoClock
     );
 
-    @Test
-    void shouldCaptureTimings() throws Throwable {
-        ExtensionContext extensionContext = mock(ExtensionContext.class);
-        TestSuiteResult testSuiteResult = mock(TestSuiteResult.class);
-        TestCaseResult testCaseResult = mock(TestCaseResult.class);
-        Timings timings = new Timings();
-        
-        when(extensionContext.getRequiredTestMethod()).thenReturn(this.getClass().getDeclaredMethods()[0]);
-        ExtensionContext.Store store = mock(ExtensionContext.Store.class);
-        when(extensionContext.getStore(any())).thenReturn(store);
-        
-        when(extensionContext.getStore(any())).thenReturn(store);
-        
-        when(store.remove("beforeEachStartTime", long.class)).thenReturn(100L);
-        when(store.remove("underTestStartTime", long.class)).thenReturn(200L);
-        when(store.remove("afterEachStartTime", long.class)).thenReturn(400L);
-        
+    private final ExtensionContext extensionContext = mock(ExtensionContext.class);
+    private final TestSuiteResult testSuiteResult = mock(TestSuiteResult.class);
+    private final TestCaseResult testCaseResult = mock(TestCaseResult.class);
+    private final Timings timings = new Timings();
+    private final SuiteTimings suiteTimings = new SuiteTimings();
+    private final ReflectiveInvocationContext<Method> reflectiveInvocationContext = mock(ReflectiveInvocationContext.class);
+
+    TestContextTimingsTest() {
         when(testResults.getTestResultsForClass(extensionContext)).thenReturn(testSuiteResult);
+        when(testResults.startTestSuite(extensionContext)).thenReturn(testSuiteResult);
         when(testSuiteResult.getTestCaseResult(extensionContext)).thenReturn(testCaseResult);
+        when(testSuiteResult.startTestCase(extensionContext)).thenReturn(testCaseResult);
+        when(testSuiteResult.getTimings()).thenReturn(suiteTimings);
+        when(testCaseResult.setStartTime(anyLong())).thenReturn(testCaseResult);
         when(testCaseResult.getTimings()).thenReturn(timings);
         when(wordifyExtensionContext.wordify(any(), any())).thenReturn(Optional.empty());
-
-        Invocation<Void> invocation = mock(Invocation.class);
-        ReflectiveInvocationContext<Method> reflectiveInvocationContext = mock(ReflectiveInvocationContext.class);
         when(reflectiveInvocationContext.getArguments()).thenReturn(Collections.emptyList());
+    }
 
-        // Mock clock behavior
-        when(clock.millis())
+    @Test
+    void shouldCaptureTimings() throws Throwable {
+        Invocation<Void> invocation = mock(Invocation.class);
+        when(nanoClock.getAsLong())
             .thenReturn(100L)  // beforeEach start
             .thenReturn(150L)  // beforeEach end
             .thenReturn(200L)  // underTest start
@@ -89,15 +90,109 @@ class TestContextTimingsTest {
             .thenReturn(400L)  // afterEach start
             .thenReturn(475L); // afterEach end
 
-        // Execute life cycle
         testContext.interceptBeforeEachMethod(invocation, reflectiveInvocationContext, extensionContext);
         testContext.interceptTestMethod(invocation, reflectiveInvocationContext, extensionContext);
         testContext.interceptAfterEachMethod(invocation, reflectiveInvocationContext, extensionContext);
 
-        // Verify timings
         assertEquals(50L, timings.getBeforeEach());
         assertEquals(150L, timings.getUnderTest());
         assertEquals(75L, timings.getAfterEach());
         assertEquals(275L, timings.getTotal());
     }
+
+    @Test
+    void shouldSumSeveralBeforeEachAndAfterEachMethods() throws Throwable {
+        Invocation<Void> invocation = mock(Invocation.class);
+        when(nanoClock.getAsLong()).thenReturn(0L, 10L, 10L, 30L, 100L, 105L, 105L, 112L);
+
+        testContext.interceptBeforeEachMethod(invocation, reflectiveInvocationContext, extensionContext);
+        testContext.interceptBeforeEachMethod(invocation, reflectiveInvocationContext, extensionContext);
+        testContext.interceptAfterEachMethod(invocation, reflectiveInvocationContext, extensionContext);
+        testContext.interceptAfterEachMethod(invocation, reflectiveInvocationContext, extensionContext);
+
+        assertEquals(30L, timings.getBeforeEach());
+        assertEquals(12L, timings.getAfterEach());
+    }
+
+    @Test
+    void shouldCaptureTheConstructorForTheTestCaseThatFollows() throws Throwable {
+        Invocation<Object> invocation = mock(Invocation.class);
+        ReflectiveInvocationContext<Constructor<Object>> constructorContext = mock(ReflectiveInvocationContext.class);
+        when(nanoClock.getAsLong()).thenReturn(1_000L, 1_040L);
+
+        testContext.interceptTestClassConstructor(invocation, constructorContext, extensionContext);
+        testContext.beforeEach(extensionContext);
+
+        assertEquals(40L, timings.getConstructor());
+        assertEquals(40L, timings.getTotal());
+        assertEquals(0L, suiteTimings.getConstructor());
+    }
+
+    @Test
+    void shouldCaptureTheConstructorForTheSuiteWhenItRunsBeforeAll() throws Throwable {
+        Invocation<Object> invocation = mock(Invocation.class);
+        ReflectiveInvocationContext<Constructor<Object>> constructorContext = mock(ReflectiveInvocationContext.class);
+        when(nanoClock.getAsLong()).thenReturn(1_000L, 1_040L, 2_000L);
+
+        testContext.interceptTestClassConstructor(invocation, constructorContext, extensionContext);
+        testContext.beforeAll(extensionContext);
+        testContext.beforeEach(extensionContext);
+
+        assertEquals(40L, suiteTimings.getConstructor());
+        assertEquals(0L, timings.getConstructor());
+    }
+
+    @Test
+    void shouldCaptureTheSuiteTimings() throws Throwable {
+        Invocation<Void> invocation = mock(Invocation.class);
+        when(nanoClock.getAsLong()).thenReturn(1_000L, 1_100L, 1_300L, 5_000L, 5_050L, 6_000L);
+
+        testContext.beforeAll(extensionContext);
+        testContext.interceptBeforeAllMethod(invocation, reflectiveInvocationContext, extensionContext);
+        testContext.interceptAfterAllMethod(invocation, reflectiveInvocationContext, extensionContext);
+        testContext.afterAll(extensionContext);
+
+        assertEquals(200L, suiteTimings.getBeforeAll());
+        assertEquals(50L, suiteTimings.getAfterAll());
+        assertEquals(5_000L, suiteTimings.getDuration());
+    }
+
+    @Test
+    void shouldCaptureTheResourcesOfTheTestMethod() throws Throwable {
+        ThreadResources threadResources = mock(ThreadResources.class);
+        when(threadResources.cpuTime()).thenReturn(1_000L, 4_000L);
+        when(threadResources.allocatedBytes()).thenReturn(10_000L, 10_512L);
+        TestContext resourceContext = new TestContext(
+            testResults, wordifyExtensionContext, testCaseNameFactory, reportWriter, clock, nanoClock, threadResources, new DeferredWordify(false));
+        Invocation<Void> invocation = mock(Invocation.class);
+        when(nanoClock.getAsLong()).thenReturn(200L, 350L);
+
+        resourceContext.interceptTestMethod(invocation, reflectiveInvocationContext, extensionContext);
+
+        assertEquals(150L, timings.getUnderTest());
+        assertEquals(3_000L, timings.getCpuTime());
+        assertEquals(512L, timings.getAllocatedBytes());
+    }
+
+    @Test
+    void shouldNotMeasureResourcesByDefault() throws Throwable {
+        Invocation<Void> invocation = mock(Invocation.class);
+        when(nanoClock.getAsLong()).thenReturn(200L, 350L);
+
+        testContext.interceptTestMethod(invocation, reflectiveInvocationContext, extensionContext);
+
+        assertEquals(Timings.NOT_MEASURED, timings.getCpuTime());
+        assertEquals(Timings.NOT_MEASURED, timings.getAllocatedBytes());
+    }
+
+    @Test
+    void shouldCaptureTimingsWhenTheTestFails() throws Throwable {
+        Invocation<Void> invocation = mock(Invocation.class);
+        when(invocation.proceed()).thenThrow(new AssertionError("failed"));
+        when(nanoClock.getAsLong()).thenReturn(200L, 260L);
+
+        assertThrows(AssertionError.class, () -> testContext.interceptTestMethod(invocation, reflectiveInvocationContext, extensionContext));
+
+        assertEquals(60L, timings.getUnderTest());
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.extension;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static io.techthinking.flowbdd.report.junit5.results.extension.ThreadResources.NOT_MEASURED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ThreadResourcesTest {
+
+    @Test
+    void measuresNothingWhenDisabled() {
+        ThreadResources threadResources = ThreadResources.create(false);
+
+        assertThat(threadResources.isEnabled()).isFalse();
+        assertThat(threadResources.cpuTime()).isEqualTo(NOT_MEASURED);
+        assertThat(threadResources.allocatedBytes()).isEqualTo(NOT_MEASURED);
+    }
+
+    @Test
+    void measuresTheAllocationsOfTheCurrentThread() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        ThreadResources threadResources = ThreadResources.create(true);
+
+        long start = threadResources.allocatedBytes();
+        byte[] allocated = new byte[4 * 1024 * 1024];
+        long end = threadResources.allocatedBytes();
+
+        assertThat(allocated).hasSize(4 * 1024 * 1024);
+        assertThat(ThreadResources.elapsed(start, end)).isGreaterThanOrEqualTo(4 * 1024 * 1024);
+    }
+
+    @Test
+    void measuresTheCpuTimeOfTheCurrentThread() {
+        assumeTrue(ManagementFactory.getThreadMXBean().isCurrentThreadCpuTimeSupported());
+        ThreadResources threadResources = ThreadResources.create(true);
+
+        assertThat(threadResources.cpuTime()).isPositive();
+    }
+
+    @Test
+    void elapsedIsNotMeasuredUnlessBothReadingsWere() {
+        assertThat(ThreadResources.elapsed(10, 25)).isEqualTo(15);
+        assertThat(ThreadResources.elapsed(NOT_MEASURED, 25)).isEqualTo(NOT_MEASURED);
+        assertThat(ThreadResources.elapsed(10, NOT_MEASURED)).isEqualTo(NOT_MEASURED);
+    }
+}
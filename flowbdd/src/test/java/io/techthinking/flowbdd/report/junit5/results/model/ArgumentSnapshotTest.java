@@ -0,0 +1,108 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArgumentSnapshotTest {
+
+    @Test
+    void nullArgumentHasNoSnapshot() {
+        assertThat(ArgumentSnapshot.of(null, 10)).isNull();
+    }
+
+    @Test
+    void capturesTheTypeAndValue() {
+        ArgumentSnapshot snapshot = ArgumentSnapshot.of("value 1", 100);
+
+        assertThat(snapshot.getTypeName()).isEqualTo("java.lang.String");
+        assertThat(snapshot.getSimpleTypeName()).isEqualTo("String");
+        assertThat(snapshot.getPackageName()).isEqualTo("java.lang");
+        assertThat(snapshot.getValue()).isEqualTo("value 1");
+        assertThat(snapshot.isTruncated()).isFalse();
+    }
+
+    @Test
+    void rendersArraysByElement() {
+        ArgumentSnapshot snapshot = ArgumentSnapshot.of(new int[]{1, 2, 3}, 100);
+
+        assertThat(snapshot.getValue()).isEqualTo("[1, 2, 3]");
+        assertThat(snapshot.getSimpleTypeName()).isEqualTo("int[]");
+        assertThat(snapshot.getPackageName()).isEmpty();
+    }
+
+    @Test
+    void rendersMaps() {
+        Map<String, List<String>> map = new LinkedHashMap<>();
+        map.put("a", asList("1", "2"));
+        map.put("b", null);
+
+        assertThat(ArgumentSnapshot.of(map, 100).getValue()).isEqualTo("{a=[1, 2], b=null}");
+    }
+
+    @Test
+    void truncatesLongValues() {
+        ArgumentSnapshot snapshot = ArgumentSnapshot.of("abcdefghij", 4);
+
+        assertThat(snapshot.getValue()).isEqualTo("abcd...");
+        assertThat(snapshot.isTruncated()).isTrue();
+    }
+
+    @Test
+    void stopsWalkingLargeCollectionsAtTheMaximumLength() {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            numbers.add(i);
+        }
+
+        ArgumentSnapshot snapshot = ArgumentSnapshot.of(numbers, 10);
+
+        assertThat(snapshot.getValue()).isEqualTo("[0, 1, 2, ...");
+        assertThat(snapshot.isTruncated()).isTrue();
+    }
+
+    @Test
+    void rendersCyclesWithoutRecursing() {
+        List<Object> cyclic = new ArrayList<>();
+        cyclic.add("a");
+        cyclic.add(cyclic);
+
+        assertThat(ArgumentSnapshot.of(cyclic, 100).getValue()).isEqualTo("[a, (this ArrayList)]");
+    }
+
+    @Test
+    void rendersAThrowingToStringAsTheException() {
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("broken");
+            }
+        };
+
+        assertThat(ArgumentSnapshot.of(argument, 100).getValue()).isEqualTo("(.toString() threw IllegalStateException)");
+    }
+}
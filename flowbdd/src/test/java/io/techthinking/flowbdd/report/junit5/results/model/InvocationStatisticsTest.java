@@ -0,0 +1,75 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.model;
+
+import io.techthinking.flowbdd.report.junit5.results.model.notes.Notes;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.techthinking.flowbdd.report.junit5.results.model.TestSuiteClass.testSuiteClass;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvocationStatisticsTest {
+
+    @Test
+    void percentilesAreNearestRank() {
+        long[] sorted = {10, 20, 30, 40, 50, 60, 70, 80, 90, 100};
+
+        assertThat(InvocationStatistics.percentile(sorted, 50)).isEqualTo(50);
+        assertThat(InvocationStatistics.percentile(sorted, 95)).isEqualTo(100);
+        assertThat(InvocationStatistics.percentile(sorted, 0)).isEqualTo(10);
+    }
+
+    @Test
+    void aSingleInvocationIsEveryStatistic() {
+        InvocationStatistics statistics = InvocationStatistics.of(invocations(7_000L));
+
+        assertThat(statistics).isEqualTo(new InvocationStatistics(1, 1, 0, 0, 7_000L, 7_000L, 7_000L, 7_000L, 7_000L, 7_000L));
+    }
+
+    @Test
+    void durationsIncludeEveryPhaseOfTheInvocation() {
+        List<TestCaseResult> invocations = invocations(3_000L, 1_000L);
+        invocations.get(0).getTimings().setBeforeEach(500L).setAfterEach(500L);
+
+        InvocationStatistics statistics = InvocationStatistics.of(invocations);
+
+        assertThat(statistics.getMin()).isEqualTo(1_000L);
+        assertThat(statistics.getMax()).isEqualTo(4_000L);
+        assertThat(statistics.getMean()).isEqualTo(2_500L);
+    }
+
+    @Test
+    void noInvocationsAreAllZero() {
+        assertThat(InvocationStatistics.of(emptyList())).isEqualTo(new InvocationStatistics(0, 0, 0, 0, 0, 0, 0, 0, 0, 0));
+    }
+
+    private List<TestCaseResult> invocations(long... underTest) {
+        List<TestCaseResult> invocations = new ArrayList<>();
+        for (long duration : underTest) {
+            TestCaseResult invocation = new TestCaseResult(testSuiteClass(getClass()), new Notes()).setStatus(TestCaseResultStatus.PASSED);
+            invocation.getTimings().setUnderTest(duration);
+            invocations.add(invocation);
+        }
+        return invocations;
+    }
+}
@@ -18,7 +18,6 @@
 
 package io.techthinking.flowbdd.report.junit5.results.model;
 
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
@@ -79,7 +78,6 @@ class OutputStreamCaptorTest {
         assertThat(outputStreamCaptor.getSystemErr()).isEqualTo("err message 1\n");
     }
 
-    @Disabled("stop capturing doesn't work as expected")
     @Order(4)
     @Test
     void captureStandardOutAndErrStopsCapturing() {
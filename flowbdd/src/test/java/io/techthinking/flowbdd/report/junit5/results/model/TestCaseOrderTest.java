@@ -0,0 +1,84 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TestCaseOrderTest {
+    private static final String CLASS = "[engine:junit-jupiter]/[class:BookTest]";
+    private static final String SECOND_METHOD = CLASS + "/[method:second()]";
+    private static final String FIRST_TEMPLATE = CLASS + "/[test-template:first(java.lang.String)]";
+
+    private final TestCaseOrder testCaseOrder = new TestCaseOrder();
+
+    @Test
+    void ordersByTheDiscoveryOrderThenTheInvocationNumbers() {
+        testCaseOrder.setDiscoveryOrder(asList(CLASS, FIRST_TEMPLATE, SECOND_METHOD));
+
+        List<String> uniqueIds = new ArrayList<>(asList(
+            SECOND_METHOD,
+            FIRST_TEMPLATE + "/[test-template-invocation:#10]",
+            FIRST_TEMPLATE + "/[test-template-invocation:#2]",
+            FIRST_TEMPLATE + "/[test-template-invocation:#1]"));
+        uniqueIds.sort(testCaseOrder);
+
+        assertThat(uniqueIds).containsExactly(
+            FIRST_TEMPLATE + "/[test-template-invocation:#1]",
+            FIRST_TEMPLATE + "/[test-template-invocation:#2]",
+            FIRST_TEMPLATE + "/[test-template-invocation:#10]",
+            SECOND_METHOD);
+    }
+
+    @Test
+    void undiscoveredIdsAreInNaturalOrderAfterTheDiscoveredOnes() {
+        testCaseOrder.setDiscoveryOrder(asList(CLASS, SECOND_METHOD));
+
+        List<String> uniqueIds = new ArrayList<>(asList("[engine:other]/[test:b10]", "[engine:other]/[test:b9]", SECOND_METHOD));
+        uniqueIds.sort(testCaseOrder);
+
+        assertThat(uniqueIds).containsExactly(SECOND_METHOD, "[engine:other]/[test:b9]", "[engine:other]/[test:b10]");
+    }
+
+    @Test
+    void aClearedDiscoveryOrderFallsBackToTheNaturalOrder() {
+        testCaseOrder.setDiscoveryOrder(asList(CLASS, FIRST_TEMPLATE, SECOND_METHOD));
+        testCaseOrder.clearDiscoveryOrder();
+
+        List<String> uniqueIds = new ArrayList<>(asList(SECOND_METHOD, FIRST_TEMPLATE));
+        uniqueIds.sort(testCaseOrder);
+
+        assertThat(uniqueIds).containsExactly(SECOND_METHOD, FIRST_TEMPLATE);
+    }
+
+    @Test
+    void comparesNumbersByValue() {
+        assertThat(TestCaseOrder.compareNatural("#9", "#10")).isNegative();
+        assertThat(TestCaseOrder.compareNatural("#10", "#9")).isPositive();
+        assertThat(TestCaseOrder.compareNatural("#12345678901234567890", "#99")).isPositive();
+        assertThat(TestCaseOrder.compareNatural("a1b", "a1b")).isZero();
+        assertThat(TestCaseOrder.compareNatural("a1", "a1b")).isNegative();
+        assertThat(TestCaseOrder.compareNatural("#01", "#1")).isPositive();
+    }
+}
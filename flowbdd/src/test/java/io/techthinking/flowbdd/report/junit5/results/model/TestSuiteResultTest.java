@@ -0,0 +1,202 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.junit5.results.model;
+
+import io.techthinking.flowbdd.report.junit5.results.model.notes.Notes;
+import io.techthinking.flowbdd.wordify.tokenize.JavaSourceTokensTemplate;
+import io.techthinking.flowbdd.wordify.tokenize.TemplateInvocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.techthinking.flowbdd.report.junit5.results.model.TestSuiteClass.testSuiteClass;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class TestSuiteResultTest {
+    private static final String TEMPLATE = "[engine:junit-jupiter]/[class:TestSuiteResultTest]/[test-template:paramTest(int)]";
+    private static final int TEST_CASES = 500;
+
+    @Test
+    void testCasesStartedInParallelAreAllCapturedInInvocationOrder() throws Exception {
+        TestCaseOrder testCaseOrder = new TestCaseOrder();
+        testCaseOrder.setDiscoveryOrder(singletonList(TEMPLATE));
+        TestSuiteResult testSuiteResult = new TestSuiteResult(testSuiteClass(getClass()), "[engine:junit-jupiter]/[class:TestSuiteResultTest]", "Test suite result test", new Notes(), testCaseOrder);
+        List<ExtensionContext> contexts = new ArrayList<>();
+        for (int i = TEST_CASES; i > 0; i--) {
+            contexts.add(context(TEMPLATE + "/[test-template-invocation:#" + i + "]"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> started = new ArrayList<>();
+            for (ExtensionContext context : contexts) {
+                started.add(executor.submit(() -> {
+                    start.await();
+                    return testSuiteResult.startTestCase(context).setName(context.getUniqueId());
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : started) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<TestCaseResult> testCaseResults = testSuiteResult.getTestCaseResults();
+        assertThat(testCaseResults).hasSize(TEST_CASES);
+        for (int i = 0; i < TEST_CASES; i++) {
+            assertThat(testCaseResults.get(i).getName()).isEqualTo(TEMPLATE + "/[test-template-invocation:#" + (i + 1) + "]");
+        }
+        assertThat(testSuiteResult.getTestCaseResult(contexts.get(0))).isSameAs(testCaseResults.get(TEST_CASES - 1));
+    }
+
+    @Test
+    void testCasesAreHeldByUniqueIdRatherThanByContext() {
+        TestSuiteResult testSuiteResult = new TestSuiteResult(testSuiteClass(getClass()), "Test suite result test", new Notes());
+        ExtensionContext context = mock(ExtensionContext.class);
+        when(context.getUniqueId()).thenReturn(TEMPLATE + "/[test-template-invocation:#1]");
+
+        TestCaseResult testCaseResult = testSuiteResult.startTestCase(context);
+
+        assertThat(testCaseResult.getTestSuiteClass()).isEqualTo(testSuiteClass(getClass()));
+        assertThat(testSuiteResult.getTestCaseResult(TEMPLATE + "/[test-template-invocation:#1]")).isSameAs(testCaseResult);
+        verify(context).getUniqueId();
+        verifyNoMoreInteractions(context);
+    }
+
+    @Test
+    void invocationsAreAggregatedKeepingOnlyThoseThatDidNotPassInFull() {
+        TestCaseOrder testCaseOrder = new TestCaseOrder();
+        testCaseOrder.setDiscoveryOrder(singletonList(TEMPLATE));
+        TestSuiteResult testSuiteResult = new TestSuiteResult(testSuiteClass(getClass()), "[engine:junit-jupiter]/[class:TestSuiteResultTest]", "Test suite result test", new Notes(), testCaseOrder);
+        JavaSourceTokensTemplate template = JavaSourceTokensTemplate.create("paramTest(value);", singletonList("value"));
+        for (int i = 1; i <= 100; i++) {
+            TemplateInvocation templateInvocation = new TemplateInvocation(template, singletonList(i));
+            TestCaseResult invocation = testSuiteResult.startTestCase(TEMPLATE + "/[test-template-invocation:#" + i + "]")
+                .setName("paramTest")
+                .setPendingWordify(() -> templateInvocation)
+                .setStatus(i == 42 ? TestCaseResultStatus.FAILED : TestCaseResultStatus.PASSED);
+            invocation.getTimings().setUnderTest(i * 1000L);
+        }
+
+        testSuiteResult.completeTestSuite(true);
+
+        assertThat(testSuiteResult.getTotals().getTestCaseCount()).isEqualTo(100);
+        assertThat(testSuiteResult.getTotals().getFailedCount()).isEqualTo(1);
+        List<TestCaseResult> testCaseResults = testSuiteResult.getTestCaseResults();
+        assertThat(testCaseResults).hasSize(2);
+        TestCaseResult aggregate = testCaseResults.get(0);
+        assertThat(aggregate.getName()).isEqualTo("paramTest");
+        assertThat(aggregate.getDisplayName()).isEqualTo("Param test");
+        assertThat(aggregate.getWordify()).isEqualTo("Param test value");
+        assertThat(aggregate.getStatus()).isEqualTo(TestCaseResultStatus.FAILED);
+        assertThat(aggregate.getInvocations()).contains(new InvocationStatistics(100, 99, 1, 0, 1000, 50500, 50000, 95000, 99000, 100000));
+        assertThat(aggregate.getTimings().getUnderTest()).isEqualTo(5050 * 1000L - 42000);
+        assertThat(testCaseResults.get(1).getWordify()).isEqualTo("Param test 42");
+        assertThat(testCaseResults.get(1).getInvocations()).isEmpty();
+    }
+
+    @Test
+    void theAggregateKeepsThePendingWordifyAndTheNotesOfTheInvocationThatFailed() {
+        TestSuiteResult testSuiteResult = new TestSuiteResult(testSuiteClass(getClass()), "Test suite result test", new Notes());
+        AtomicInteger wordified = new AtomicInteger();
+        List<TestCaseResult> invocations = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            TestCaseResult invocation = testSuiteResult.startTestCase(TEMPLATE + "/[test-template-invocation:#" + i + "]")
+                .setName("paramTest")
+                .setPendingWordify(() -> {
+                    wordified.incrementAndGet();
+                    return new TemplateInvocation(JavaSourceTokensTemplate.create("paramTest();", emptyList()), emptyList());
+                })
+                .setStatus(i == 2 ? TestCaseResultStatus.FAILED : TestCaseResultStatus.PASSED);
+            invocation.setDisplayName("[" + i + "] paramTest");
+            invocations.add(invocation);
+        }
+
+        testSuiteResult.completeTestSuite(true);
+
+        TestCaseResult aggregate = testSuiteResult.getTestCaseResult(TEMPLATE);
+        assertThat(aggregate.isWordifyPending()).isTrue();
+        assertThat(wordified.get()).isZero();
+        assertThat(aggregate.getDisplayName()).isEqualTo("Param test");
+        assertThat(aggregate.getNotes()).isSameAs(invocations.get(1).getNotes());
+        assertThat(aggregate.getWordify()).isEqualTo("Param test");
+        assertThat(invocations.get(0).getWordify()).isEqualTo("Param test");
+        assertThat(wordified.get()).isEqualTo(1);
+    }
+
+    @Test
+    void invocationsAreNotAggregatedByDefault() {
+        TestSuiteResult testSuiteResult = new TestSuiteResult(testSuiteClass(getClass()), "Test suite result test", new Notes());
+        testSuiteResult.startTestCase(TEMPLATE + "/[test-template-invocation:#1]").setStatus(TestCaseResultStatus.PASSED);
+        testSuiteResult.startTestCase(TEMPLATE + "/[test-template-invocation:#2]").setStatus(TestCaseResultStatus.PASSED);
+
+        testSuiteResult.completeTestSuite();
+
+        assertThat(testSuiteResult.getTestCaseResults()).hasSize(2);
+    }
+
+    @Test
+    void featureNotesAreAddedOnceByParallelTests() throws Exception {
+        Notes notes = new Notes();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> added = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String note = "note " + i;
+                added.add(executor.submit(() -> {
+                    start.await();
+                    notes.text().addOnce(note);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : added) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(notes.text().getNotes()).hasSize(1);
+    }
+
+    private ExtensionContext context(String uniqueId) {
+        ExtensionContext context = mock(ExtensionContext.class);
+        when(context.getUniqueId()).thenReturn(uniqueId);
+        when(context.getRequiredTestClass()).thenAnswer(invocation -> getClass());
+        return context;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.report.adapter;
+
+import io.techthinking.flowbdd.report.config.FlowBddConfig;
+import io.techthinking.flowbdd.report.junit5.results.model.CapturedOutput;
+import io.techthinking.flowbdd.report.junit5.results.model.CapturedStream;
+import io.techthinking.flowbdd.report.junit5.results.model.TestCaseOrder;
+import io.techthinking.flowbdd.report.junit5.results.model.TestCaseResult;
+import io.techthinking.flowbdd.report.junit5.results.model.TestResults;
+import io.techthinking.flowbdd.report.junit5.results.model.TestSuiteResult;
+import io.techthinking.flowbdd.report.junit5.results.model.notes.Notes;
+import io.techthinking.flowbdd.report.report.model.CapturedText;
+import io.techthinking.flowbdd.report.report.model.Report;
+import io.techthinking.flowbdd.report.report.model.TestCase;
+import io.techthinking.flowbdd.report.report.model.TestCaseInvocations;
+import io.techthinking.flowbdd.report.report.model.TestCaseOutput;
+import io.techthinking.flowbdd.report.report.model.TestCaseResources;
+import io.techthinking.flowbdd.report.report.model.TestSuite;
+import io.techthinking.flowbdd.report.report.model.TestSuiteNameToFile;
+import io.techthinking.flowbdd.report.report.model.TestVersionInfoFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.techthinking.flowbdd.report.junit5.results.model.TestCaseResultStatus.ABORTED;
+import static io.techthinking.flowbdd.report.junit5.results.model.TestCaseResultStatus.PASSED;
+import static io.techthinking.flowbdd.report.junit5.results.model.TestSuiteClass.testSuiteClass;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReportFactoryTest {
+    private static final String SUITE = "[engine:junit-jupiter]/[class:ReportFactoryTest]";
+
+    private final TestSuiteResult testSuiteResult = new TestSuiteResult(testSuiteClass(getClass()), SUITE, "Report factory test", new Notes(), new TestCaseOrder());
+
+    @Test
+    void reportsTheHeaviestTestCasesOfTheSuite() {
+        for (int i = 1; i <= 7; i++) {
+            TestCaseResult testCaseResult = testCase("test" + i);
+            testCaseResult.setDisplayName("Test " + i);
+            testCaseResult.getTimings().setCpuTime(i * 1_000L).setAllocatedBytes((8 - i) * 1_024L);
+        }
+
+        testSuiteResult.completeTestSuite();
+        TestSuite testSuite = ReportFactory.testSuite(testSuiteResult);
+
+        assertThat(testSuite.getResources().getHeaviestCpu().stream().map(TestCaseResources::getName).collect(Collectors.toList()))
+            .containsExactly("test7", "test6", "test5", "test4", "test3");
+        assertThat(testSuite.getResources().getHeaviestAllocators().stream().map(TestCaseResources::getName).collect(Collectors.toList()))
+            .containsExactly("test1", "test2", "test3", "test4", "test5");
+        assertThat(testSuite.getResources().getHeaviestCpu().get(0).getDisplayName()).isEqualTo("Test 7");
+        assertThat(testSuite.getResources().getHeaviestCpu().get(0).getCpuTime()).isEqualTo(7_000L);
+        assertThat(testSuite.getResources().getHeaviestAllocators().get(0).getAllocatedBytes()).isEqualTo(7_168L);
+        assertThat(testSuite.getTestCases().get(0).getTimings().getCpuTime()).isEqualTo(1_000L);
+    }
+
+    @Test
+    void leavesResourcesOutWhenTheyWereNotMeasured() {
+        testCase("test1").getTimings().setUnderTest(5_000L);
+
+        testSuiteResult.completeTestSuite();
+        TestSuite testSuite = ReportFactory.testSuite(testSuiteResult);
+
+        assertThat(testSuite.getResources()).isNull();
+        assertThat(testSuite.getTestCases().get(0).getTimings().getCpuTime()).isNull();
+        assertThat(testSuite.getTestCases().get(0).getTimings().getAllocatedBytes()).isNull();
+        assertThat(testSuite.getTimings().getTestCases()).isEqualTo(5_000L);
+    }
+
+    @Test
+    void inlinesOutputThatFitAndLinksOutputThatSpilled() {
+        Path spilled = FlowBddConfig.getExtraDirsPath().resolve("output").resolve("Suite-1-stderr.txt");
+        testCase("test1").setOutput(new CapturedOutput(CapturedStream.inMemory("out message", 11), CapturedStream.spilled(spilled, 100_000), null));
+        testCase("test2");
+
+        testSuiteResult.completeTestSuite();
+        TestSuite testSuite = ReportFactory.testSuite(testSuiteResult);
+
+        TestCaseOutput output = testSuite.getTestCases().get(0).getOutput();
+        assertThat(output.getStdOut()).isEqualTo(new CapturedText("out message", null, 11));
+        assertThat(output.getStdErr()).isEqualTo(new CapturedText(null, "../extra/output/Suite-1-stderr.txt", 100_000));
+        assertThat(output.getLog()).isNull();
+        assertThat(testSuite.getTestCases().get(1).getOutput()).isNull();
+    }
+
+    @Test
+    void aggregatedInvocationsAreOneTestCaseWithTheirStatistics() {
+        for (int i = 1; i <= 4; i++) {
+            TestCaseResult invocation = testSuiteResult.startTestCase(SUITE + "/[test-template:repeated()]/[test-template-invocation:#" + i + "]")
+                .setName("repeated")
+                .setStatus(i == 3 ? ABORTED : PASSED);
+            invocation.getTimings().setUnderTest(i * 1_000L);
+        }
+
+        testSuiteResult.completeTestSuite(true);
+        TestSuite testSuite = ReportFactory.testSuite(testSuiteResult);
+
+        assertThat(testSuite.getSummary().getTests()).isEqualTo(4);
+        assertThat(testSuite.getTestCases()).hasSize(2);
+        TestCaseInvocations invocations = testSuite.getTestCases().get(0).getInvocations();
+        assertThat(invocations).isEqualTo(new TestCaseInvocations(4, 3, 0, 1, 1_000L, 2_500L, 2_000L, 4_000L, 4_000L, 4_000L));
+        assertThat(invocations.getP50()).isEqualTo(2_000L);
+        assertThat(testSuite.getTestCases().get(1).getInvocations()).isNull();
+        assertThat(testSuite.getTimings().getTestCases()).isEqualTo(10_000L);
+    }
+
+    @Test
+    void evictedTestSuitesAreOnlyInTheIndex() {
+        TestResults testResults = new TestResults();
+        TestSuiteResult streamed = testResults.startTestSuite(suiteContext(Streamed.class));
+        TestSuiteResult retained = testResults.startTestSuite(suiteContext(Retained.class));
+        testCase(streamed, Streamed.class, "test1");
+        testCase(streamed, Streamed.class, "test2");
+        testCase(retained, Retained.class, "test3");
+        streamed.completeTestSuite();
+        retained.completeTestSuite();
+        streamed.evict();
+
+        Report report = ReportFactory.create(testResults, TestVersionInfoFactory.create(Clock.systemDefaultZone()));
+
+        assertThat(report.getIndex().getLinks().getTestSuites().stream().map(TestSuiteNameToFile::getName).collect(Collectors.toList()))
+            .containsExactlyInAnyOrder(Streamed.class.getName(), Retained.class.getName());
+        assertThat(report.getIndex().getSummary().getTests()).isEqualTo(3);
+        assertThat(report.getTestSuites()).extracting(TestSuite::getName).containsExactly(Retained.class.getName());
+        assertThat(report.getTestCases()).hasSize(1);
+    }
+
+    @Test
+    void reportTestCasesAreThoseOfItsTestSuitesRatherThanACopy() {
+        TestResults testResults = new TestResults();
+        TestSuiteResult first = testResults.startTestSuite(suiteContext(Streamed.class));
+        TestSuiteResult second = testResults.startTestSuite(suiteContext(Retained.class));
+        testCase(first, Streamed.class, "test1");
+        testCase(second, Retained.class, "test2");
+        testCase(second, Retained.class, "test3");
+        first.completeTestSuite();
+        second.completeTestSuite();
+
+        Report report = ReportFactory.create(testResults, TestVersionInfoFactory.create(Clock.systemDefaultZone()));
+
+        assertThat(report.getIndex().getSummary().getTests()).isEqualTo(3);
+        assertThat(report.getIndex().getSummary().getPassed()).isEqualTo(3);
+        assertThat(report.getTestCases()).hasSize(3);
+        for (TestSuite testSuite : report.getTestSuites()) {
+            for (TestCase testCase : testSuite.getTestCases()) {
+                assertThat(report.getTestCases()).anySatisfy(reported -> assertThat(reported).isSameAs(testCase));
+            }
+        }
+        List<TestCase> flattened = report.getTestSuites().stream().flatMap(testSuite -> testSuite.getTestCases().stream()).collect(Collectors.toList());
+        assertThat(report.getTestCases()).containsExactlyElementsOf(flattened);
+        assertThat(report.getTestCases()).isEqualTo(flattened);
+        assertThat(report.getTestCases().hashCode()).isEqualTo(flattened.hashCode());
+    }
+
+    private TestCaseResult testCase(String name) {
+        return testCase(testSuiteResult, ReportFactoryTest.class, name);
+    }
+
+    private static ExtensionContext suiteContext(Class<?> testClass) {
+        ExtensionContext context = mock(ExtensionContext.class);
+        when(context.getUniqueId()).thenReturn("[engine:junit-jupiter]/[class:" + testClass.getName() + "]");
+        when(context.getRequiredTestClass()).thenAnswer(invocation -> testClass);
+        return context;
+    }
+
+    private static TestCaseResult testCase(TestSuiteResult testSuiteResult, Class<?> testClass, String name) {
+        ExtensionContext context = mock(ExtensionContext.class);
+        when(context.getUniqueId()).thenReturn(testSuiteResult.getUniqueId() + "/[method:" + name + "()]");
+        when(context.getRequiredTestClass()).thenAnswer(invocation -> testClass);
+        TestCaseResult testCaseResult = testSuiteResult.startTestCase(context).setName(name).setStatus(PASSED);
+        testCaseResult.setDisplayName(name);
+        return testCaseResult;
+    }
+
+    static class Streamed {
+    }
+
+    static class Retained {
+    }
+}
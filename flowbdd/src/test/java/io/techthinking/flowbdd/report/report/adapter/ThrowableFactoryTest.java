@@ -0,0 +1,120 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.report.report.adapter;
+
+import io.techthinking.flowbdd.report.report.model.Throwable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThrowableFactoryTest {
+    private final ThrowableFactory throwableFactory = new ThrowableFactory();
+
+    @Test
+    void keepsTheWholeCauseChain() {
+        RuntimeException failure = new RuntimeException("outer", new IllegalStateException("middle", new IllegalArgumentException("inner")));
+
+        Throwable throwable = throwableFactory.create(failure);
+
+        assertThat(throwable.getClazz().getClassName()).isEqualTo("RuntimeException");
+        assertThat(throwable.getMessage()).isEqualTo("outer");
+        assertThat(throwable.getCause().getMessage()).isEqualTo("middle");
+        assertThat(throwable.getCause().getCause().getMessage()).isEqualTo("inner");
+        assertThat(throwable.getCause().getCause().getCause()).isNull();
+    }
+
+    @Test
+    void trimsFrameworkAndReflectionFrames() {
+        RuntimeException failure = withTrace(new RuntimeException("failed"),
+            frame("com.example.ServiceTest", "callsTheService"),
+            frame("jdk.internal.reflect.NativeMethodAccessorImpl", "invoke"),
+            frame("java.lang.reflect.Method", "invoke"),
+            frame("org.junit.platform.commons.util.ReflectionUtils", "invokeMethod"),
+            frame("org.gradle.api.internal.tasks.testing.junitplatform.JUnitPlatformTestClassProcessor", "execute"));
+
+        Throwable throwable = throwableFactory.create(failure);
+
+        assertThat(throwableFactory.stackTrace(throwable)).containsExactly("at com.example.ServiceTest.callsTheService(ServiceTest.java:1)");
+    }
+
+    @Test
+    void foldsTheFramesACauseSharesWithTheThrowableItCaused() {
+        StackTraceElement test = frame("com.example.ServiceTest", "callsTheService");
+        StackTraceElement client = frame("com.example.Client", "send");
+        RuntimeException cause = withTrace(new RuntimeException("refused"), frame("com.example.Socket", "connect"), client, test);
+        RuntimeException failure = withTrace(new RuntimeException("failed", cause), client, test);
+
+        Throwable throwable = throwableFactory.create(failure);
+
+        assertThat(throwableFactory.stackTrace(throwable.getCause())).containsExactly("at com.example.Socket.connect(Socket.java:1)", "... 2 more");
+    }
+
+    @Test
+    void identicalFailuresShareTheirStackTrace() {
+        List<Throwable> throwables = new ArrayList<>();
+        for (int test = 0; test < 3; test++) {
+            throwables.add(throwableFactory.create(new RuntimeException("stub is down")));
+        }
+
+        String stackTraceId = throwables.get(0).getStackTraceId();
+        assertThat(stackTraceId).isNotNull();
+        assertThat(throwables).allSatisfy(throwable -> {
+            assertThat(throwable.getStackTraceId()).isEqualTo(stackTraceId);
+            assertThat(throwable.getStackTrace()).isNull();
+        });
+        assertThat(throwableFactory.stackTraces(throwables)).containsOnlyKeys(stackTraceId);
+        assertThat(throwableFactory.stackTrace(throwables.get(0))).isNotEmpty();
+    }
+
+    @Test
+    void capsTheFramesOfEachThrowable() {
+        StackTraceElement[] trace = new StackTraceElement[ThrowableFactory.MAX_FRAMES * 2];
+        for (int index = 0; index < trace.length; index++) {
+            trace[index] = frame("com.example.Recursive", "call" + index);
+        }
+
+        Throwable throwable = throwableFactory.create(withTrace(new RuntimeException("deep"), trace));
+
+        assertThat(throwableFactory.stackTrace(throwable)).hasSize(ThrowableFactory.MAX_FRAMES);
+    }
+
+    @Test
+    void stopsAtACyclicCause() {
+        RuntimeException first = new RuntimeException("first");
+        RuntimeException second = new RuntimeException("second", first);
+        first.initCause(second);
+
+        Throwable throwable = throwableFactory.create(first);
+
+        assertThat(throwable.getCause().getMessage()).isEqualTo("second");
+        assertThat(throwable.getCause().getCause()).isNull();
+    }
+
+    private static RuntimeException withTrace(RuntimeException exception, StackTraceElement... trace) {
+        exception.setStackTrace(trace);
+        return exception;
+    }
+
+    private static StackTraceElement frame(String className, String methodName) {
+        return new StackTraceElement(className, methodName, className.substring(className.lastIndexOf('.') + 1) + ".java", 1);
+    }
+}
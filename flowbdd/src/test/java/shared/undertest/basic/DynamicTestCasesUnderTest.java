@@ -0,0 +1,66 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package shared.undertest.basic;
+
+import io.techthinking.flowbdd.report.junit5.results.extension.FlowBdd;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+@ExtendWith(FlowBdd.class)
+@EnabledIf("isEnabled")
+public class DynamicTestCasesUnderTest {
+    private static Boolean enabled = false;
+
+    @TestFactory
+    Stream<DynamicTest> dynamicTests() {
+        return Stream.of(
+            dynamicTest("passing value 1", () -> assertThat("value 1").isNotNull()),
+            dynamicTest("failing value 2", () -> assertThat("value 2").isNull()),
+            dynamicTest("aborted value 3", () -> assumeTrue(false)));
+    }
+
+    @TestFactory
+    Stream<DynamicNode> nestedDynamicTests() {
+        return Stream.of(dynamicContainer("container", Stream.of(
+            dynamicTest("nested value 4", () -> assertThat("value 4").isNotNull()))));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> failingTestFactory() {
+        throw new IllegalStateException("No dynamic tests");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(Boolean isEnabled) {
+        enabled = isEnabled;
+    }
+}
@@ -18,6 +18,7 @@
 
 plugins {
     id("flowbdd.java-lib")
+    id("flowbdd.wordify-index")
 }
 
 group = "com.flowbdd.ft"
@@ -25,6 +25,9 @@ import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
 import org.junit.platform.launcher.core.LauncherFactory;
 
+import java.util.Collections;
+import java.util.Map;
+
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 
 /**
@@ -38,7 +41,13 @@ public class TestLauncher {
     }
 
     public static void launch(TestExecutionListener executionListener, DiscoverySelector... selectors) {
+        launch(executionListener, Collections.emptyMap(), selectors);
+    }
+
+    /** With JUnit configuration parameters, i.e. to run the selected tests in parallel */
+    public static void launch(TestExecutionListener executionListener, Map<String, String> configurationParameters, DiscoverySelector... selectors) {
         LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request().selectors(selectors)
+            .configurationParameters(configurationParameters)
             // this would only work if we launched via this Launcher
             // .configurationParameter("junit.platform.output.capture.stdout", "true")
             // .configurationParameter("junit.platform.output.capture.stderr", "true")
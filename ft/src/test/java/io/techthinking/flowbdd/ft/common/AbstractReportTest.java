@@ -25,6 +25,8 @@ import io.techthinking.flowbdd.ft.undertest.basic.DisabledTestCasesUnderTest;
 import io.techthinking.flowbdd.ft.undertest.basic.FailedTestCasesUnderTest;
 import io.techthinking.flowbdd.ft.undertest.basic.OutputStreamClassUnderTest;
 import io.techthinking.flowbdd.ft.undertest.basic.TestNamesTest;
+import io.techthinking.flowbdd.ft.undertest.parallel.ParallelSecondUnderTest;
+import io.techthinking.flowbdd.ft.undertest.parallel.ParallelUnderTest;
 import io.techthinking.flowbdd.ft.undertest.scenarios.bookstore.BaseBookStoreUnderTest;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -46,6 +48,8 @@ public abstract class AbstractReportTest {
         FailedTestCasesUnderTest.setEnabled(true);
         OutputStreamClassUnderTest.setEnabled(true);
         TestNamesTest.setEnabled(true);
+        ParallelUnderTest.setEnabled(true);
+        ParallelSecondUnderTest.setEnabled(true);
     }
 
     @AfterAll
@@ -61,5 +65,7 @@ public abstract class AbstractReportTest {
         FailedTestCasesUnderTest.setEnabled(false);
         OutputStreamClassUnderTest.setEnabled(false);
         TestNamesTest.setEnabled(false);
+        ParallelUnderTest.setEnabled(false);
+        ParallelSecondUnderTest.setEnabled(false);
     }
 }
@@ -0,0 +1,127 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.ft.report.results;
+
+import io.techthinking.flowbdd.ft.common.AbstractReportTest;
+import io.techthinking.flowbdd.ft.infrastructure.utils.TestConfig;
+import io.techthinking.flowbdd.ft.report.launcher.TestExecutionListener;
+import io.techthinking.flowbdd.ft.report.launcher.TestLauncher;
+import io.techthinking.flowbdd.ft.undertest.parallel.ParallelSecondUnderTest;
+import io.techthinking.flowbdd.ft.undertest.parallel.ParallelUnderTest;
+import io.techthinking.flowbdd.report.config.FlowBddConfig;
+import io.techthinking.flowbdd.report.junit5.results.extension.FlowBdd;
+import io.techthinking.flowbdd.report.report.model.DataReportIndex;
+import io.techthinking.flowbdd.report.report.model.Status;
+import io.techthinking.flowbdd.report.report.model.TestCase;
+import io.techthinking.flowbdd.report.report.model.TestSuite;
+import io.techthinking.flowbdd.report.report.model.TestSuiteNameToFile;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.techthinking.flowbdd.ft.infrastructure.utils.DataReportTestUtils.loadReportIndex;
+import static io.techthinking.flowbdd.ft.infrastructure.utils.DataReportTestUtils.loadTestSuite;
+import static io.techthinking.flowbdd.report.report.model.builders.TestSuiteSummaryBuilder.aTestSuiteSummary;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ * Runs the parallel classes under test with JUnit parallel execution of both classes and methods, then checks every
+ * test case made it to the report with its own arguments and in the order a sequential run would give.
+ */
+public class ParallelResultsTest extends AbstractReportTest {
+    private static TestSuite testSuite;
+    private static TestSuite secondTestSuite;
+    private static DataReportIndex reportIndex;
+
+    @BeforeAll
+    static void launchInParallel() throws IOException {
+        if (TestConfig.inMemoryDirectory) {
+            FlowBddConfig.overrideBasePath(TestConfig.getBasePath());
+        }
+        FlowBdd.getTestContext().reset();
+        Map<String, String> parallel = new HashMap<>();
+        parallel.put("junit.jupiter.execution.parallel.enabled", "true");
+        parallel.put("junit.jupiter.execution.parallel.mode.classes.default", "concurrent");
+        parallel.put("junit.jupiter.execution.parallel.config.strategy", "fixed");
+        parallel.put("junit.jupiter.execution.parallel.config.fixed.parallelism", "8");
+        TestExecutionListener testListener = new TestExecutionListener();
+        TestLauncher.launch(testListener, parallel, selectClass(ParallelUnderTest.class), selectClass(ParallelSecondUnderTest.class));
+        await().atMost(60, SECONDS).until(testListener::testsHasFinished);
+        testSuite = loadTestSuite(ParallelUnderTest.class);
+        secondTestSuite = loadTestSuite(ParallelSecondUnderTest.class);
+        reportIndex = loadReportIndex();
+    }
+
+    @Test
+    void theTestsRanConcurrently() {
+        assertThat(ParallelUnderTest.threads()).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void capturesEveryTestCase() {
+        int testCases = ParallelUnderTest.PARAMS + ParallelUnderTest.REPETITIONS;
+        assertThat(testSuite.getTestCases()).hasSize(testCases);
+        assertThat(testSuite.getSummary()).isEqualTo(aTestSuiteSummary().withTestCase(testCases).withPassed(testCases).build());
+        assertThat(secondTestSuite.getTestCases()).hasSize(ParallelSecondUnderTest.PARAMS);
+        assertThat(reportIndex.getSummary()).isEqualTo(aTestSuiteSummary()
+            .withTestCase(testCases + ParallelSecondUnderTest.PARAMS)
+            .withPassed(testCases + ParallelSecondUnderTest.PARAMS)
+            .build());
+        assertThat(testSuite.getTestCases()).extracting(TestCase::getStatus).containsOnly(Status.PASSED);
+    }
+
+    @Test
+    void eachTestCaseHasItsOwnArgumentsInInvocationOrder() {
+        assertParamTestCases(testCases(testSuite, "paramTest"), ParallelUnderTest.PARAMS);
+        assertParamTestCases(testCases(secondTestSuite, "secondParamTest"), ParallelSecondUnderTest.PARAMS);
+        assertThat(testCases(testSuite, "repeatedTest")).hasSize(ParallelUnderTest.REPETITIONS)
+            .extracting(TestCase::getWordify).containsOnly("Passing assertion");
+    }
+
+    @Test
+    void linksTheTestSuitesInDiscoveryOrder() {
+        assertThat(reportIndex.getLinks().getTestSuites()).extracting(TestSuiteNameToFile::getName)
+            .containsExactly(ParallelUnderTest.class.getName(), ParallelSecondUnderTest.class.getName());
+    }
+
+    private static void assertParamTestCases(List<TestCase> testCases, int params) {
+        assertThat(testCases).hasSize(params);
+        for (int i = 0; i < params; i++) {
+            String value = String.valueOf(i + 1);
+            TestCase testCase = testCases.get(i);
+            assertThat(testCase.getMethod().getArguments()).hasSize(1);
+            assertThat(testCase.getMethod().getArguments().get(0).getValue()).isEqualTo(value);
+            assertThat(testCase.getWordify()).endsWith(" " + value);
+        }
+    }
+
+    private static List<TestCase> testCases(TestSuite testSuite, String methodName) {
+        return testSuite.getTestCases().stream()
+            .filter(testCase -> testCase.getMethod().getName().equals(methodName))
+            .collect(toList());
+    }
+}
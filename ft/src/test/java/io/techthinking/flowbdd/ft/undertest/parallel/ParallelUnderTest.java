@@ -0,0 +1,86 @@
+/*
+ * Flow BDD - The most productive way to test.
+ * Copyright (C) 2021-2025 James Bayliss.
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package io.techthinking.flowbdd.ft.undertest.parallel;
+
+import io.techthinking.flowbdd.report.junit5.results.extension.FlowBdd;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hundreds of short tests run concurrently, for ParallelResultsTest to check that every result is captured with its own
+ * arguments.
+ */
+@ExtendWith(FlowBdd.class)
+@EnabledIf("isEnabled")
+@Execution(ExecutionMode.CONCURRENT)
+public class ParallelUnderTest {
+    public static final int PARAMS = 200;
+    public static final int REPETITIONS = 100;
+    private static final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private static Boolean enabled = false;
+
+    @ParameterizedTest
+    @MethodSource("values")
+    void paramTest(int value) throws InterruptedException {
+        passingAssertionWith(value);
+    }
+
+    @RepeatedTest(REPETITIONS)
+    void repeatedTest() throws InterruptedException {
+        passingAssertion();
+    }
+
+    static IntStream values() {
+        return IntStream.rangeClosed(1, PARAMS);
+    }
+
+    private void passingAssertionWith(int value) throws InterruptedException {
+        passingAssertion();
+        assertThat(value).isPositive();
+    }
+
+    private void passingAssertion() throws InterruptedException {
+        threads.add(Thread.currentThread().getName());
+        // long enough for the tests to overlap
+        Thread.sleep(1);
+    }
+
+    public static Set<String> threads() {
+        return threads;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(Boolean isEnabled) {
+        enabled = isEnabled;
+    }
+}
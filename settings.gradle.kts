@@ -29,5 +29,6 @@ include(
     "examples:devteam-demo",
     "examples:cucumbers",
     "flowbdd-server",
-    "learning"
+    "learning",
+    "flowbdd-benchmarks"
 )
\ No newline at end of file